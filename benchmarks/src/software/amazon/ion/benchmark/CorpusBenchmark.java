@@ -0,0 +1,211 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonSystem;
+import software.amazon.ion.IonType;
+import software.amazon.ion.IonValue;
+import software.amazon.ion.IonWriter;
+import software.amazon.ion.IntegerSize;
+import software.amazon.ion.system.IonSystemBuilder;
+import software.amazon.ion.system.IonTextWriterBuilder;
+
+/**
+ * Base state shared by all benchmarks: one corpus from the {@code ion-tests}
+ * submodule, pre-loaded into memory in both binary and text encodings so that
+ * no benchmark measures file I/O.
+ * <p>
+ * The corpus is chosen with the {@code corpus} parameter, a path relative to
+ * the {@code ion-tests} directory. That directory is located through the
+ * {@code ion.tests.path} system property, falling back to {@code ion-tests}
+ * and {@code ../ion-tests} relative to the working directory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public abstract class CorpusBenchmark
+{
+    public static final String ION_TESTS_PATH_PROPERTY = "ion.tests.path";
+
+    @Param({
+        "iontestdata/good/item1.10n",
+        "iontestdata/good/structs.ion",
+        "iontestdata/good/strings.ion",
+    })
+    public String corpus;
+
+    IonSystem   system;
+    IonDatagram datagram;
+    byte[]      binaryBytes;
+    byte[]      textBytes;
+
+    @Setup
+    public void loadCorpus() throws IOException
+    {
+        system = IonSystemBuilder.standard().build();
+
+        File file = new File(findIonTests(), corpus);
+        datagram = system.getLoader().load(readAll(file));
+
+        binaryBytes = datagram.getBytes();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = IonTextWriterBuilder.standard().build(out);
+        writeValues(datagram, writer);
+        writer.close();
+        textBytes = out.toByteArray();
+    }
+
+    static File findIonTests()
+    {
+        String path = System.getProperty(ION_TESTS_PATH_PROPERTY);
+        if (path != null)
+        {
+            return new File(path);
+        }
+        File here = new File("ion-tests");
+        if (here.isDirectory())
+        {
+            return here;
+        }
+        File parent = new File("../ion-tests");
+        if (parent.isDirectory())
+        {
+            return parent;
+        }
+        throw new IllegalStateException("Cannot locate the ion-tests directory;"
+                                        + " set -D" + ION_TESTS_PATH_PROPERTY);
+    }
+
+    static byte[] readAll(File file) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream((int) file.length());
+        InputStream in = new FileInputStream(file);
+        try
+        {
+            byte[] buf = new byte[8192];
+            int len;
+            while ((len = in.read(buf)) != -1)
+            {
+                out.write(buf, 0, len);
+            }
+        }
+        finally
+        {
+            in.close();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Writes the user values of the datagram, without the leading IVM that
+     * {@link IonDatagram#writeTo(IonWriter)} emits.
+     */
+    static void writeValues(IonDatagram datagram, IonWriter writer)
+    {
+        for (IonValue value : datagram)
+        {
+            value.writeTo(writer);
+        }
+    }
+
+    /**
+     * Traverses every value at and below the reader's current depth,
+     * materializing each scalar in its natural Java representation.
+     */
+    static void consumeAll(IonReader reader, Blackhole bh)
+    {
+        IonType type;
+        while ((type = reader.next()) != null)
+        {
+            if (reader.isInStruct())
+            {
+                bh.consume(reader.getFieldNameSymbol());
+            }
+            if (reader.isNullValue())
+            {
+                bh.consume(type);
+                continue;
+            }
+            switch (type)
+            {
+                case STRUCT:
+                case LIST:
+                case SEXP:
+                    reader.stepIn();
+                    consumeAll(reader, bh);
+                    reader.stepOut();
+                    break;
+                case BOOL:
+                    bh.consume(reader.booleanValue());
+                    break;
+                case INT:
+                    if (reader.getIntegerSize() == IntegerSize.BIG_INTEGER)
+                    {
+                        bh.consume(reader.bigIntegerValue());
+                    }
+                    else
+                    {
+                        bh.consume(reader.longValue());
+                    }
+                    break;
+                case FLOAT:
+                    bh.consume(reader.doubleValue());
+                    break;
+                case DECIMAL:
+                    bh.consume(reader.decimalValue());
+                    break;
+                case TIMESTAMP:
+                    bh.consume(reader.timestampValue());
+                    break;
+                case SYMBOL:
+                    bh.consume(reader.symbolValue());
+                    break;
+                case STRING:
+                    bh.consume(reader.stringValue());
+                    break;
+                case CLOB:
+                case BLOB:
+                    bh.consume(reader.newBytes());
+                    break;
+                default:
+                    bh.consume(type);
+                    break;
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonLoader;
+import software.amazon.ion.system.IonSystemBuilder;
+
+/**
+ * Lite DOM costs: {@link IonLoader#load(byte[])} from both encodings and
+ * {@link IonDatagram#getBytes()} of the loaded corpus.
+ * <p>
+ * {@code loadBinaryLazily} uses
+ * {@link IonSystemBuilder#withLazyBinaryLoading(boolean)} and touches only
+ * the top-level values.
+ */
+public class DomBenchmark
+    extends CorpusBenchmark
+{
+    private IonLoader lazyLoader;
+
+    @Setup
+    public void buildLazyLoader()
+    {
+        lazyLoader = IonSystemBuilder.standard()
+                                     .withLazyBinaryLoading(true)
+                                     .build()
+                                     .getLoader();
+    }
+
+    @Benchmark
+    public IonDatagram loadBinary()
+    {
+        return system.getLoader().load(binaryBytes);
+    }
+
+    @Benchmark
+    public IonDatagram loadBinaryLazily()
+    {
+        return lazyLoader.load(binaryBytes);
+    }
+
+    @Benchmark
+    public IonDatagram loadText()
+    {
+        return system.getLoader().load(textBytes);
+    }
+
+    @Benchmark
+    public byte[] datagramGetBytes()
+    {
+        return datagram.getBytes();
+    }
+}
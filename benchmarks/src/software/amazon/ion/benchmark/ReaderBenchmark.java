@@ -0,0 +1,178 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.benchmark;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonType;
+import software.amazon.ion.PrimitiveValueReader;
+import software.amazon.ion.ResettableReader;
+import software.amazon.ion.facet.Facets;
+import software.amazon.ion.system.IonReaderBuilder;
+
+/**
+ * Streaming reader throughput over the binary ({@code IonReaderBinaryRawX})
+ * and text ({@code IonReaderTextRawX}) implementations.
+ * <p>
+ * The {@code scan} benchmarks materialize every scalar; the {@code skip}
+ * benchmarks only call {@link IonReader#next()} at the top level, which
+ * measures the cost of skipping over values. {@code scanBinaryReset} reuses
+ * one reader through {@link ResettableReader}.
+ * <p>
+ * The {@code temporal} benchmarks read only decimals and timestamps, either
+ * as objects or through {@link PrimitiveValueReader}.
+ */
+public class ReaderBenchmark
+    extends CorpusBenchmark
+{
+    private final IonReaderBuilder builder = IonReaderBuilder.standard().immutable();
+
+    private ByteBuffer directBinary;
+    private IonReader binaryReader;
+    private ResettableReader resettableBinary;
+
+    @Setup
+    public void allocateDirect()
+    {
+        directBinary = ByteBuffer.allocateDirect(binaryBytes.length);
+        directBinary.put(binaryBytes);
+        directBinary.flip();
+
+        binaryReader = builder.build(binaryBytes);
+        resettableBinary = Facets.asFacet(ResettableReader.class, binaryReader);
+    }
+
+    @Benchmark
+    public void scanBinary(Blackhole bh) throws IOException
+    {
+        IonReader reader = builder.build(binaryBytes);
+        consumeAll(reader, bh);
+        reader.close();
+    }
+
+    @Benchmark
+    public void scanBinaryReset(Blackhole bh) throws IOException
+    {
+        resettableBinary.reset(binaryBytes, 0, binaryBytes.length);
+        consumeAll(binaryReader, bh);
+    }
+
+    @Benchmark
+    public void scanDirectBinary(Blackhole bh) throws IOException
+    {
+        IonReader reader = builder.build(directBinary);
+        consumeAll(reader, bh);
+        reader.close();
+    }
+
+    @Benchmark
+    public void scanText(Blackhole bh) throws IOException
+    {
+        IonReader reader = builder.build(textBytes);
+        consumeAll(reader, bh);
+        reader.close();
+    }
+
+    @Benchmark
+    public void skipBinary(Blackhole bh) throws IOException
+    {
+        IonReader reader = builder.build(binaryBytes);
+        skipAll(reader, bh);
+        reader.close();
+    }
+
+    @Benchmark
+    public void skipText(Blackhole bh) throws IOException
+    {
+        IonReader reader = builder.build(textBytes);
+        skipAll(reader, bh);
+        reader.close();
+    }
+
+    @Benchmark
+    public void temporalObjects(Blackhole bh) throws IOException
+    {
+        IonReader reader = builder.build(binaryBytes);
+        consumeTemporal(reader, null, bh);
+        reader.close();
+    }
+
+    @Benchmark
+    public void temporalPrimitives(Blackhole bh) throws IOException
+    {
+        IonReader reader = builder.build(binaryBytes);
+        consumeTemporal(reader,
+                        Facets.asFacet(PrimitiveValueReader.class, reader),
+                        bh);
+        reader.close();
+    }
+
+    private static void consumeTemporal(IonReader reader,
+                                        PrimitiveValueReader primitives,
+                                        Blackhole bh)
+    {
+        IonType type;
+        while ((type = reader.next()) != null)
+        {
+            if (reader.isNullValue())
+            {
+                continue;
+            }
+            if (IonType.isContainer(type))
+            {
+                reader.stepIn();
+                consumeTemporal(reader, primitives, bh);
+                reader.stepOut();
+            }
+            else if (type == IonType.DECIMAL)
+            {
+                if (primitives != null && primitives.decimalFitsInLong())
+                {
+                    bh.consume(primitives.decimalUnscaledValue());
+                    bh.consume(primitives.decimalScale());
+                }
+                else
+                {
+                    bh.consume(reader.decimalValue());
+                }
+            }
+            else if (type == IonType.TIMESTAMP)
+            {
+                if (primitives != null)
+                {
+                    bh.consume(primitives.timestampMillis());
+                    bh.consume(primitives.timestampOffsetMinutes());
+                }
+                else
+                {
+                    bh.consume(reader.timestampValue().getMillis());
+                }
+            }
+        }
+    }
+
+    private static void skipAll(IonReader reader, Blackhole bh)
+    {
+        IonType type;
+        while ((type = reader.next()) != null)
+        {
+            bh.consume(type);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import software.amazon.ion.IonWriter;
+import software.amazon.ion.ResettableWriter;
+import software.amazon.ion.facet.Facets;
+import software.amazon.ion.system.IonBinaryWriterBuilder;
+import software.amazon.ion.system.IonTextWriterBuilder;
+
+/**
+ * Writer throughput of {@code IonManagedBinaryWriter} and
+ * {@code IonWriterSystemText}, fed from the pre-loaded corpus datagram.
+ * <p>
+ * The output buffer is reused across invocations so that only the writer's
+ * own allocations show up under {@code -prof gc}. The {@code reset}
+ * benchmarks go further and reuse one writer through
+ * {@link ResettableWriter}.
+ */
+public class WriterBenchmark
+    extends CorpusBenchmark
+{
+    private final IonBinaryWriterBuilder binaryBuilder =
+        IonBinaryWriterBuilder.standard().immutable();
+    private final IonTextWriterBuilder textBuilder =
+        IonTextWriterBuilder.standard().immutable();
+    private final IonTextWriterBuilder prettyBuilder =
+        IonTextWriterBuilder.pretty().immutable();
+    private final IonTextWriterBuilder jsonBuilder =
+        IonTextWriterBuilder.json().immutable();
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+
+    private IonWriter binaryWriter;
+    private IonWriter textWriter;
+
+    @Setup
+    public void buildWriters()
+    {
+        binaryWriter = binaryBuilder.build(out);
+        textWriter = textBuilder.build(out);
+    }
+
+    @Benchmark
+    public int resetBinary() throws IOException
+    {
+        return reset(binaryWriter);
+    }
+
+    @Benchmark
+    public int resetText() throws IOException
+    {
+        return reset(textWriter);
+    }
+
+    @Benchmark
+    public int writeBinary() throws IOException
+    {
+        return write(binaryBuilder.build(out));
+    }
+
+    @Benchmark
+    public int writeText() throws IOException
+    {
+        return write(textBuilder.build(out));
+    }
+
+    @Benchmark
+    public int writePrettyText() throws IOException
+    {
+        return write(prettyBuilder.build(out));
+    }
+
+    @Benchmark
+    public int writeJson() throws IOException
+    {
+        return write(jsonBuilder.build(out));
+    }
+
+    private int write(IonWriter writer) throws IOException
+    {
+        out.reset();
+        writeValues(datagram, writer);
+        writer.close();
+        return out.size();
+    }
+
+    private int reset(IonWriter writer) throws IOException
+    {
+        Facets.asFacet(ResettableWriter.class, writer).reset(out);
+        out.reset();
+        writeValues(datagram, writer);
+        writer.finish();
+        return out.size();
+    }
+}
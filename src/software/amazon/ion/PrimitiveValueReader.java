@@ -0,0 +1,122 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion;
+
+import software.amazon.ion.Timestamp.Precision;
+import software.amazon.ion.facet.Facets;
+
+/**
+ * An {@link IonReader} facet providing access to the current decimal or
+ * timestamp value as primitives, without materializing a {@link Decimal}
+ * or {@link Timestamp}.
+ * <p>
+ * Binary readers support this facet; obtain it via
+ * {@link Facets#asFacet(Class, Object)}:
+ *<pre>
+ *    PrimitiveValueReader primitives =
+ *        Facets.asFacet(PrimitiveValueReader.class, reader);
+ *    while (reader.next() != null) {
+ *        if (primitives.decimalFitsInLong()) {
+ *            long unscaled = primitives.decimalUnscaledValue();
+ *            int  scale    = primitives.decimalScale();
+ *            ...
+ *        }
+ *    }
+ *</pre>
+ * The facet is bound to the reader it came from and always reflects that
+ * reader's current value, so it need only be obtained once.
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ */
+public interface PrimitiveValueReader
+{
+    /**
+     * Returned by {@link #timestampOffsetMinutes()} when the local offset
+     * of the current timestamp is unknown.
+     */
+    public static final int UNKNOWN_OFFSET = Integer.MIN_VALUE;
+
+
+    /**
+     * Determines whether the unscaled value of the current decimal fits in
+     * a {@code long}, so that {@link #decimalUnscaledValue()} is exact.
+     * This is false for negative zero, whose sign cannot be represented
+     * that way; use {@link IonReader#decimalValue()} for such values.
+     *
+     * @throws IllegalStateException if the current value is not a non-null
+     *  decimal.
+     */
+    public boolean decimalFitsInLong();
+
+    /**
+     * Returns the unscaled value of the current decimal, which is equal to
+     * {@code decimalValue().unscaledValue()}.
+     *
+     * @throws IllegalStateException if the current value is not a non-null
+     *  decimal.
+     * @throws ArithmeticException if the unscaled value does not fit in a
+     *  {@code long}; see {@link #decimalFitsInLong()}.
+     */
+    public long decimalUnscaledValue();
+
+    /**
+     * Returns the scale of the current decimal, which is equal to
+     * {@code decimalValue().scale()}.
+     *
+     * @throws IllegalStateException if the current value is not a non-null
+     *  decimal.
+     */
+    public int decimalScale();
+
+
+    /**
+     * Returns the precision of the current timestamp, which is equal to
+     * {@code timestampValue().getPrecision()}.
+     *
+     * @throws IllegalStateException if the current value is not a non-null
+     *  timestamp.
+     */
+    public Precision timestampPrecision();
+
+    /**
+     * Returns the current timestamp as milliseconds from the epoch, which is
+     * equal to {@code timestampValue().getMillis()}.
+     *
+     * @throws IllegalStateException if the current value is not a non-null
+     *  timestamp.
+     */
+    public long timestampMillis();
+
+    /**
+     * Returns the fractional second of the current timestamp in
+     * nanoseconds, from 0 to 999,999,999. Any precision beyond nanoseconds
+     * is truncated.
+     *
+     * @throws IllegalStateException if the current value is not a non-null
+     *  timestamp.
+     */
+    public int timestampNanos();
+
+    /**
+     * Returns the local offset of the current timestamp in minutes, or
+     * {@link #UNKNOWN_OFFSET} when it is unknown. This is equal to
+     * {@code timestampValue().getLocalOffset()}.
+     *
+     * @throws IllegalStateException if the current value is not a non-null
+     *  timestamp.
+     */
+    public int timestampOffsetMinutes();
+}
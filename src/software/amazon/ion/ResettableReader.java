@@ -0,0 +1,54 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion;
+
+import software.amazon.ion.facet.Facets;
+
+/**
+ * An {@link IonReader} facet providing the ability to reuse the reader for
+ * other input, keeping the buffers and other resources it has already
+ * allocated.
+ * <p>
+ * Binary readers built from a byte array by the standard builders support
+ * this facet; obtain it via {@link Facets#asFacet(Class, Object)}:
+ *<pre>
+ *    IonReader reader = builder.build(bytes);
+ *    ResettableReader resettable =
+ *        Facets.asFacet(ResettableReader.class, reader);
+ *    ...
+ *    resettable.reset(nextBytes, 0, nextBytes.length);
+ *</pre>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ */
+public interface ResettableReader
+{
+    /**
+     * Directs this reader at a range of a byte array, as if it had just
+     * been built for it. The reader is positioned before the first value,
+     * at top level, with the system symbol table in effect.
+     * <p>
+     * The bytes are not copied, so they must not be modified while the
+     * reader is in use.
+     *
+     * @param bytes must not be null.
+     * @param offset the offset of the first byte to read.
+     * @param length the number of bytes to read, which must be a complete
+     *  binary Ion stream, or zero.
+     *
+     * @throws IonException if the range is not binary Ion.
+     */
+    public void reset(byte[] bytes, int offset, int length);
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import software.amazon.ion.facet.Facets;
+
+/**
+ * An {@link IonWriter} facet providing the ability to reuse the writer for
+ * another output stream, keeping the buffers and other resources it has
+ * already allocated.
+ * <p>
+ * Binary and text writers built from an {@link OutputStream} by the standard
+ * builders support this facet; obtain it via
+ * {@link Facets#asFacet(Class, Object)}:
+ *<pre>
+ *    IonWriter writer = builder.build(out);
+ *    ResettableWriter resettable =
+ *        Facets.asFacet(ResettableWriter.class, writer);
+ *</pre>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ */
+public interface ResettableWriter
+{
+    /**
+     * Finishes the current stream, then directs all further output to
+     * {@code out}, as if the writer had just been built for it.
+     * The data written after a reset is exactly what a newly built writer
+     * would produce, including the initial IVM and any symbol tables.
+     * <p>
+     * The previous output stream is neither flushed beyond what
+     * {@link IonWriter#finish()} does, nor closed, so the caller may reuse
+     * it. Closing the writer will close {@code out}.
+     *
+     * @param out must not be null.
+     *
+     * @throws IllegalStateException if the writer is not at top level, or
+     *  is closed.
+     */
+    public void reset(OutputStream out)
+        throws IOException;
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link InputStream} over the remaining bytes of a {@link ByteBuffer}.
+ * The stream consumes the buffer it is given, so callers should pass a
+ * duplicate or slice if they need to preserve its position.
+ */
+final class ByteBufferInputStream
+    extends InputStream
+{
+    private final ByteBuffer myBuffer;
+
+    ByteBufferInputStream(ByteBuffer buffer)
+    {
+        myBuffer = buffer;
+    }
+
+    @Override
+    public int read()
+    {
+        if (!myBuffer.hasRemaining()) return -1;
+        return myBuffer.get() & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len)
+    {
+        if (len == 0) return 0;
+        int remaining = myBuffer.remaining();
+        if (remaining == 0) return -1;
+        if (len > remaining) len = remaining;
+        myBuffer.get(b, off, len);
+        return len;
+    }
+
+    @Override
+    public long skip(long n)
+    {
+        if (n <= 0) return 0;
+        int skipped = (int) Math.min(n, myBuffer.remaining());
+        myBuffer.position(myBuffer.position() + skipped);
+        return skipped;
+    }
+
+    @Override
+    public int available()
+    {
+        return myBuffer.remaining();
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl;
+
+import static software.amazon.ion.impl.PrivateIonConstants.BINARY_VERSION_MARKER_1_0;
+import static software.amazon.ion.impl.PrivateIonConstants.BINARY_VERSION_MARKER_SIZE;
+import static software.amazon.ion.impl.PrivateIonConstants.lnIsNull;
+import static software.amazon.ion.impl.PrivateIonConstants.lnIsOrderedStruct;
+import static software.amazon.ion.impl.PrivateIonConstants.lnIsVarLen;
+import static software.amazon.ion.impl.PrivateIonConstants.tidBoolean;
+import static software.amazon.ion.impl.PrivateIonConstants.tidStruct;
+import static software.amazon.ion.impl.PrivateIonConstants.tidUnused;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Date;
+import java.util.Iterator;
+import software.amazon.ion.Decimal;
+import software.amazon.ion.IntegerSize;
+import software.amazon.ion.IonCatalog;
+import software.amazon.ion.IonException;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonType;
+import software.amazon.ion.SymbolTable;
+import software.amazon.ion.SymbolToken;
+import software.amazon.ion.Timestamp;
+import software.amazon.ion.UnexpectedEofException;
+
+/**
+ * A binary {@link IonReader} over a source whose data may arrive in pieces,
+ * such as a non-blocking socket or a queue of network frames.
+ * <p>
+ * The reader buffers whatever the stream currently yields and only hands
+ * complete top-level values to an ordinary {@link IonReaderBinaryUserX}.
+ * When the buffered bytes end part way through a top-level value,
+ * {@link #next()} returns null without consuming anything; calling it again
+ * after more bytes have become available resumes with that value. A read
+ * returning zero or -1 is taken to mean "no more data for now", so the end
+ * of the stream looks just like a pause. The symbol table context carries
+ * across such pauses.
+ * <p>
+ * Each top-level value is held in memory in its entirety before it is
+ * surfaced, so the buffer grows to the size of the largest top-level value.
+ * Bytes are released as soon as the values containing them have been
+ * passed over.
+ */
+final class IonReaderBinaryIncrementalX
+    implements IonReader, PrivateReaderWriter
+{
+    private final InputStream          _in;
+    private final IonReaderBinaryUserX _reader;
+
+    private byte[]  _bytes;
+    /** End of the buffered data. */
+    private int     _limit;
+    /** Start of the first top-level value not yet given to {@link #_reader}. */
+    private int     _value_start;
+    private boolean _cookie_checked;
+
+    IonReaderBinaryIncrementalX(IonCatalog catalog,
+                                PrivateLocalSymbolTableFactory lstFactory,
+                                InputStream in)
+    {
+        if (in == null) throw new NullPointerException("in is null");
+        _in = in;
+        _bytes = new byte[UnifiedInputStreamX.DEFAULT_PAGE_SIZE];
+        _reader = new IonReaderBinaryUserX(catalog,
+                                           lstFactory,
+                                           UnifiedInputStreamX.makeStream(_bytes, 0, 0),
+                                           0);
+    }
+
+    void setStringCache(Utf8StringCache cache)
+    {
+        _reader.setStringCache(cache);
+    }
+
+    /**
+     * Returns the type of the next value, or null if there is none at this
+     * level. At the top level null also means that the next value has not
+     * been completely received yet; call this again when more data is
+     * available.
+     */
+    public IonType next()
+    {
+        IonType t = _reader.next();
+        if (t != null || _reader.getDepth() != 0) {
+            return t;
+        }
+
+        // The reader has passed over everything it was given, so the bytes
+        // before _value_start may be discarded from here on.
+        for (;;) {
+            int end = scan_complete_values(_value_start, _limit);
+            if (end > _value_start) {
+                _reader.resetInput(_bytes, _value_start, end - _value_start, true);
+                _value_start = end;
+                t = _reader.next();
+                if (t != null) {
+                    return t;
+                }
+                // only system values (IVMs, symbol tables) were complete
+                continue;
+            }
+            if (!fill()) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Reads whatever the source yields into the buffer, first dropping the
+     * consumed prefix and growing the buffer if it is still full.
+     *
+     * @return true if any bytes were added.
+     */
+    private boolean fill()
+    {
+        int unconsumed = _limit - _value_start;
+        if (_value_start > 0) {
+            System.arraycopy(_bytes, _value_start, _bytes, 0, unconsumed);
+            _value_start = 0;
+            _limit = unconsumed;
+        }
+        if (_limit == _bytes.length) {
+            byte[] bytes = new byte[_bytes.length * 2];
+            System.arraycopy(_bytes, 0, bytes, 0, _limit);
+            _bytes = bytes;
+        }
+
+        int len;
+        try {
+            len = _in.read(_bytes, _limit, _bytes.length - _limit);
+        }
+        catch (IOException e) {
+            throw new IonException(e);
+        }
+        if (len <= 0) {
+            return false;
+        }
+        _limit += len;
+        return true;
+    }
+
+    /**
+     * Finds the end of the last complete top-level value in
+     * {@code [start, limit)} from the value headers alone.
+     *
+     * @return the end of the last complete value, or {@code start} if there
+     * is none.
+     *
+     * @throws IonException if the data cannot be binary Ion.
+     */
+    private int scan_complete_values(int start, int limit)
+    {
+        int pos = start;
+        if (!_cookie_checked) {
+            if (limit - pos < BINARY_VERSION_MARKER_SIZE) {
+                return start;
+            }
+            for (int i = 0; i < BINARY_VERSION_MARKER_SIZE; i++) {
+                if (_bytes[pos + i] != BINARY_VERSION_MARKER_1_0[i]) {
+                    throw new IonException("Incremental reading requires binary Ion data");
+                }
+            }
+            _cookie_checked = true;
+        }
+
+        while (pos < limit) {
+            int end = scan_value_end(pos, limit);
+            if (end < 0) break;
+            pos = end;
+        }
+        return pos;
+    }
+
+    /**
+     * @return the end of the value whose type descriptor is at {@code pos},
+     * or -1 if its header or body extends past {@code limit}.
+     */
+    private int scan_value_end(int pos, int limit)
+    {
+        int td  = _bytes[pos++] & 0xff;
+        int tid = PrivateIonConstants.getTypeCode(td);
+        int len = PrivateIonConstants.getLowNibble(td);
+
+        if (td == (BINARY_VERSION_MARKER_1_0[0] & 0xff)) {
+            // an IVM; the reader validates the rest of it
+            len = BINARY_VERSION_MARKER_SIZE - 1;
+        }
+        else if (tid == tidUnused) {
+            throw new IonException("Invalid type descriptor 0x"
+                                   + Integer.toHexString(td)
+                                   + " at top level");
+        }
+        else if (len == lnIsNull || tid == tidBoolean) {
+            len = 0;
+        }
+        else if (len == lnIsVarLen
+                 || (tid == tidStruct && len == lnIsOrderedStruct)) {
+            len = 0;
+            for (;;) {
+                if (pos >= limit) return -1;
+                int b = _bytes[pos++] & 0xff;
+                if (len > (Integer.MAX_VALUE >> 7)) {
+                    throw new IonException("Value length exceeds "
+                                           + Integer.MAX_VALUE + " bytes");
+                }
+                len = (len << 7) | (b & 0x7f);
+                if ((b & 0x80) != 0) break;
+            }
+        }
+
+        if (len > limit - pos) return -1;
+        return pos + len;
+    }
+
+    /**
+     * Closes the underlying stream.
+     *
+     * @throws UnexpectedEofException if the buffered data ends part way
+     * through a top-level value.
+     */
+    public void close() throws IOException
+    {
+        _reader.close();
+        _in.close();
+        if (_limit > _value_start) {
+            throw new UnexpectedEofException("Data ended within a top-level value ("
+                                             + (_limit - _value_start)
+                                             + " unread bytes)");
+        }
+    }
+
+    /**
+     * Spans and the other facets of the underlying reader refer to its
+     * internal buffer, so none are offered.
+     */
+    public <T> T asFacet(Class<T> facetType)
+    {
+        return null;
+    }
+
+    public SymbolTable pop_passed_symbol_table()
+    {
+        return _reader.pop_passed_symbol_table();
+    }
+
+    public void stepIn()                            { _reader.stepIn(); }
+    public void stepOut()                           { _reader.stepOut(); }
+    public int getDepth()                           { return _reader.getDepth(); }
+    public SymbolTable getSymbolTable()             { return _reader.getSymbolTable(); }
+    public IonType getType()                        { return _reader.getType(); }
+    public IntegerSize getIntegerSize()             { return _reader.getIntegerSize(); }
+    public String[] getTypeAnnotations()            { return _reader.getTypeAnnotations(); }
+    public SymbolToken[] getTypeAnnotationSymbols() { return _reader.getTypeAnnotationSymbols(); }
+    public Iterator<String> iterateTypeAnnotations() { return _reader.iterateTypeAnnotations(); }
+    public String getFieldName()                    { return _reader.getFieldName(); }
+    public SymbolToken getFieldNameSymbol()         { return _reader.getFieldNameSymbol(); }
+    public boolean isNullValue()                    { return _reader.isNullValue(); }
+    public boolean isInStruct()                     { return _reader.isInStruct(); }
+    public boolean booleanValue()                   { return _reader.booleanValue(); }
+    public int intValue()                           { return _reader.intValue(); }
+    public long longValue()                         { return _reader.longValue(); }
+    public BigInteger bigIntegerValue()             { return _reader.bigIntegerValue(); }
+    public double doubleValue()                     { return _reader.doubleValue(); }
+    public BigDecimal bigDecimalValue()             { return _reader.bigDecimalValue(); }
+    public Decimal decimalValue()                   { return _reader.decimalValue(); }
+    public Date dateValue()                         { return _reader.dateValue(); }
+    public Timestamp timestampValue()               { return _reader.timestampValue(); }
+    public String stringValue()                     { return _reader.stringValue(); }
+    public SymbolToken symbolValue()                { return _reader.symbolValue(); }
+    public int byteSize()                           { return _reader.byteSize(); }
+    public byte[] newBytes()                        { return _reader.newBytes(); }
+
+    public int getBytes(byte[] buffer, int offset, int len)
+    {
+        return _reader.getBytes(buffer, offset, len);
+    }
+}
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
+import java.nio.CharBuffer;
 import software.amazon.ion.Decimal;
 import software.amazon.ion.IonException;
 import software.amazon.ion.IonReader;
@@ -50,6 +51,8 @@ abstract class IonReaderBinaryRawX
 {
     static final int DEFAULT_CONTAINER_STACK_SIZE = 12; // a multiple of 3
     static final int DEFAULT_ANNOTATION_SIZE = 10;
+    static final int DEFAULT_STRING_BUFFER = 64;
+    static final int MAX_RETAINED_STRING_BUFFER = 32 * 1024;
     static final int NO_LIMIT = Integer.MIN_VALUE;
 
     protected enum State {
@@ -83,6 +86,48 @@ abstract class IonReaderBinaryRawX
     long                _position_start;
     long                _position_len;
 
+    /**
+     * The decoded fields of the current decimal or timestamp, valid when
+     * {@link #_value_fields_loaded} is true. These allow the value to be
+     * read without creating {@link Decimal} or {@link Timestamp} instances.
+     * A coefficient that doesn't fit in a long is held in
+     * {@link #_decimal_big_unscaled}.
+     */
+    boolean             _value_fields_loaded;
+    long                _decimal_unscaled;
+    BigInteger          _decimal_big_unscaled;
+    boolean             _decimal_negative_zero;
+    int                 _decimal_scale;
+    Precision           _timestamp_precision;
+    int                 _timestamp_year;
+    int                 _timestamp_month;
+    int                 _timestamp_day;
+    int                 _timestamp_hour;
+    int                 _timestamp_minute;
+    int                 _timestamp_second;
+    boolean             _timestamp_has_fraction;
+    boolean             _timestamp_offset_known;
+    int                 _timestamp_offset;
+
+    /**
+     * Scratch space for {@link #readString(int)}, kept across values up to
+     * {@link #MAX_RETAINED_STRING_BUFFER} so that decoding a string only
+     * allocates the String itself.
+     */
+    private byte[]      _string_bytes;
+    private char[]      _string_chars;
+    private CharBuffer  _string_view;
+
+    /**
+     * The text of the current string once read by
+     * {@link #readStringChars(int)}, kept until the reader moves so that
+     * the value can still be materialized.
+     */
+    CharSequence        _value_chars;
+
+    /** Shared across readers; null unless configured. */
+    private Utf8StringCache _string_cache;
+
 
     SavePoint           _annotations;
     int[]               _annotation_ids;
@@ -142,6 +187,14 @@ abstract class IonReaderBinaryRawX
         _container_top = 0;
     }
 
+    /**
+     * Makes {@link #readString(int)} look up and record short strings in
+     * {@code cache}, which may be null.
+     */
+    final void setStringCache(Utf8StringCache cache) {
+        _string_cache = cache;
+    }
+
     public void close()
         throws IOException
     {
@@ -428,6 +481,8 @@ abstract class IonReaderBinaryRawX
         _value_lob_is_ready = false;
         _annotations.clear();
         _v.clear();
+        _value_chars = null;
+        _value_fields_loaded = false;
         _annotation_count = 0;
         _value_field_id = SymbolTable.UNKNOWN_SYMBOL_ID;
     }
@@ -1047,50 +1102,91 @@ abstract class IonReaderBinaryRawX
 
     protected final Decimal readDecimal(int len) throws IOException
     {
-        MathContext mathContext = MathContext.UNLIMITED;
-        Decimal bd;
+        readDecimalFields(len);
+        return decimalFromFields();
+    }
+
+    /**
+     * Reads a decimal into the {@code _decimal} fields, allocating only if
+     * its coefficient doesn't fit in a long.
+     */
+    protected final void readDecimalFields(int len) throws IOException
+    {
+        _decimal_unscaled = 0;
+        _decimal_big_unscaled = null;
+        _decimal_negative_zero = false;
+        _decimal_scale = 0;
+
         // we only write out the '0' value as the nibble 0
         if (len == 0) {
-            bd = Decimal.valueOf(0, mathContext);
+            return;
         }
-        else {
-            // otherwise we to it the hard way ....
-            int  save_limit = _local_remaining - len;
-            _local_remaining = len;
-            int  exponent = readVarInt();
-            BigInteger value;
-            int signum;
-            if (_local_remaining > 0)
+
+        int  save_limit = _local_remaining - len;
+        _local_remaining = len;
+
+        // Ion stores exponent, BigDecimal uses the negation "scale"
+        _decimal_scale = -readVarInt();
+
+        int magnitude_len = _local_remaining;
+        if (magnitude_len > 0 && magnitude_len <= 8)
+        {
+            int b = read();
+            if (b < 0) throwUnexpectedEOFException();
+            boolean is_negative = (b & 0x80) != 0;
+            long magnitude = b & 0x7F;
+            for (int ii = 1; ii < magnitude_len; ii++)
             {
-                byte[] bits = new byte[_local_remaining];
-                readAll(bits, 0, _local_remaining);
-                signum = 1;
-                if (bits[0] < 0)
-                {
-                    // value is negative, clear the sign
-                    bits[0] &= 0x7F;
-                    signum = -1;
-                }
-                value = new BigInteger(signum, bits);
+                if ((b = read()) < 0) throwUnexpectedEOFException();
+                magnitude = (magnitude << 8) | b;
             }
-            else {
-                signum = 0;
-                value = BigInteger.ZERO;
+            if (is_negative)
+            {
+                _decimal_negative_zero = (magnitude == 0);
+                magnitude = -magnitude;
             }
-            // Ion stores exponent, BigDecimal uses the negation "scale"
-            int scale = -exponent;
-            if (value.signum() == 0 && signum == -1)
+            _decimal_unscaled = magnitude;
+        }
+        else if (magnitude_len > 8)
+        {
+            byte[] bits = new byte[magnitude_len];
+            readAll(bits, 0, magnitude_len);
+            int signum = 1;
+            if (bits[0] < 0)
             {
-                assert value.equals(BigInteger.ZERO);
-                bd = Decimal.negativeZero(scale, mathContext);
+                // value is negative, clear the sign
+                bits[0] &= 0x7F;
+                signum = -1;
+            }
+            BigInteger value = new BigInteger(signum, bits);
+            if (value.signum() == 0)
+            {
+                _decimal_negative_zero = (signum == -1);
+            }
+            else if (value.bitLength() < 64)
+            {
+                _decimal_unscaled = value.longValue();
             }
             else
             {
-                bd = Decimal.valueOf(value, scale, mathContext);
+                _decimal_big_unscaled = value;
             }
-            _local_remaining = save_limit;
         }
-        return bd;
+
+        _local_remaining = save_limit;
+    }
+
+    protected final Decimal decimalFromFields()
+    {
+        MathContext mathContext = MathContext.UNLIMITED;
+        if (_decimal_negative_zero)
+        {
+            return Decimal.negativeZero(_decimal_scale, mathContext);
+        }
+        BigInteger value = (_decimal_big_unscaled != null)
+            ? _decimal_big_unscaled
+            : BigInteger.valueOf(_decimal_unscaled);
+        return Decimal.valueOf(value, _decimal_scale, mathContext);
     }
 
     protected final Timestamp readTimestamp(int len) throws IOException
@@ -1100,14 +1196,26 @@ abstract class IonReaderBinaryRawX
             return null;
         }
 
-        int         year = 0, month = 0, day = 0, hour = 0, minute = 0, second = 0;
-        BigDecimal  frac = null;
+        readTimestampFields(len);
+        return timestampFromFields();
+    }
+
+    /**
+     * Reads a timestamp into the {@code _timestamp} fields, with any
+     * fractional seconds in the {@code _decimal} fields. Only the fraction
+     * is validated; see {@link #checkTimestampFields()}.
+     */
+    protected final void readTimestampFields(int len) throws IOException
+    {
+        int         year = 0, month = 1, day = 1, hour = 0, minute = 0, second = 0;
+        boolean     has_fraction = false;
         int         save_limit = _local_remaining - len;
         _local_remaining = len;  // > 0
 
-        // first up is the offset, which requires a special int reader
-        // to return the -0 as a null Integer
-        Integer offset = readVarInteger();
+        // first up is the offset, where -0 means it's unknown
+        int first = read();
+        _timestamp_offset_known = (first != 0xC0);
+        _timestamp_offset = _timestamp_offset_known ? readVarInt(first) : 0;
         // now we'll read the struct values from the input stream
 
         // year is from 0001 to 9999
@@ -1134,9 +1242,9 @@ abstract class IonReaderBinaryRawX
                         second = readVarUInt();
                         p = Precision.SECOND;
                         if (_local_remaining > 0) {
-                            // now we read in our actual "milliseconds since the epoch"
-                            frac = readDecimal(_local_remaining);
-                            if (frac.compareTo(BigDecimal.ZERO) < 0 || frac.compareTo(BigDecimal.ONE) >= 0) {
+                            readDecimalFields(_local_remaining);
+                            has_fraction = true;
+                            if (! fractionFieldsInRange()) {
                                 throwErrorAt(
                                     "The fractional seconds value in a timestamp must be greater than or "
                                         + "equal to zero and less than one."
@@ -1149,12 +1257,65 @@ abstract class IonReaderBinaryRawX
         }
         // restore out outer limit(s)
         _local_remaining  = save_limit;
+
+        _timestamp_precision    = p;
+        _timestamp_year         = year;
+        _timestamp_month        = month;
+        _timestamp_day          = day;
+        _timestamp_hour         = hour;
+        _timestamp_minute       = minute;
+        _timestamp_second       = second;
+        _timestamp_has_fraction = has_fraction;
+    }
+
+    /** Determines whether the {@code _decimal} fields are in [0, 1). */
+    private boolean fractionFieldsInRange()
+    {
+        if (_decimal_negative_zero) {
+            return true;
+        }
+        if (_decimal_big_unscaled != null) {
+            BigDecimal frac = decimalFromFields();
+            return frac.signum() >= 0 && frac.compareTo(BigDecimal.ONE) < 0;
+        }
+        if (_decimal_unscaled < 0) {
+            return false;
+        }
+        if (_decimal_scale <= 0) {
+            return _decimal_unscaled == 0;
+        }
+        return _decimal_scale >= POWERS_OF_TEN.length
+            || _decimal_unscaled < POWERS_OF_TEN[_decimal_scale];
+    }
+
+    /** Every long is less than 10^19. */
+    static final long[] POWERS_OF_TEN = new long[19];
+    static
+    {
+        long power = 1;
+        for (int i = 0; i < POWERS_OF_TEN.length; i++)
+        {
+            POWERS_OF_TEN[i] = power;
+            power *= 10;
+        }
+    }
+
+    protected final Timestamp timestampFromFields()
+    {
+        BigDecimal frac = _timestamp_has_fraction ? decimalFromFields() : null;
+        Integer offset = _timestamp_offset_known ? _timestamp_offset : null;
         // now we let timestamp put it all together
         try {
             @SuppressWarnings("deprecation")
             Timestamp val =
-                Timestamp.createFromUtcFields(p, year, month, day, hour,
-                                              minute, second, frac, offset);
+                Timestamp.createFromUtcFields(_timestamp_precision,
+                                              _timestamp_year,
+                                              _timestamp_month,
+                                              _timestamp_day,
+                                              _timestamp_hour,
+                                              _timestamp_minute,
+                                              _timestamp_second,
+                                              frac, offset);
             return val;
         }
         catch (IllegalArgumentException e)
@@ -1164,18 +1325,176 @@ abstract class IonReaderBinaryRawX
         }
     }
 
+    /**
+     * Performs the validation of the {@code _timestamp} fields that
+     * {@link #timestampFromFields()} gets from {@link Timestamp}.
+     */
+    protected final void checkTimestampFields()
+    {
+        String error = null;
+        switch (_timestamp_precision) {
+        case SECOND:
+            if (_timestamp_second < 0 || _timestamp_second > 59) {
+                error = "second " + _timestamp_second;
+            }
+        case MINUTE:
+            if (_timestamp_minute < 0 || _timestamp_minute > 59) {
+                error = "minute " + _timestamp_minute;
+            }
+            if (_timestamp_hour < 0 || _timestamp_hour > 23) {
+                error = "hour " + _timestamp_hour;
+            }
+        case DAY:
+            if (_timestamp_month >= 1 && _timestamp_month <= 12
+                && (_timestamp_day < 1
+                    || _timestamp_day > lastDayInMonth(_timestamp_year,
+                                                       _timestamp_month))) {
+                error = "day " + _timestamp_day;
+            }
+        case MONTH:
+            if (_timestamp_month < 1 || _timestamp_month > 12) {
+                error = "month " + _timestamp_month;
+            }
+        case YEAR:
+            if (_timestamp_year < 1 || _timestamp_year > 9999) {
+                error = "year " + _timestamp_year;
+            }
+            break;
+        default:
+            throw new IllegalStateException();
+        }
+        if (error != null) {
+            throw newErrorAt("Invalid timestamp encoding: " + error);
+        }
+    }
+
+    static int lastDayInMonth(int year, int month)
+    {
+        switch (month) {
+        case 2:
+            boolean is_leap =
+                (year % 4 == 0) && (year % 100 != 0 || year % 400 == 0);
+            return is_leap ? 29 : 28;
+        case 4: case 6: case 9: case 11:
+            return 30;
+        default:
+            return 31;
+        }
+    }
+
     protected final String readString(int len) throws IOException
+    {
+        byte[] bytes = readStringBytes(len);
+
+        Utf8StringCache cache = _string_cache;
+        if (cache != null && !Utf8StringCache.isCacheable(len)) {
+            cache = null;
+        }
+        int hash = 0;
+        if (cache != null) {
+            hash = Utf8StringCache.hash(bytes, 0, len);
+            String cached = cache.get(hash, bytes, 0, len);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        char[] chars = stringChars(bytes);
+        String s = new String(chars, 0, decodeString(bytes, len, chars));
+        if (cache != null) {
+            cache.put(hash, bytes, 0, len, s);
+        }
+        return s;
+    }
+
+    /**
+     * Like {@link #readString(int)}, but returns a view of the decoded
+     * characters instead of a String. The view is only valid until the next
+     * string is read.
+     */
+    protected final CharSequence readStringChars(int len) throws IOException
+    {
+        byte[] bytes = readStringBytes(len);
+        char[] chars = stringChars(bytes);
+        int count = decodeString(bytes, len, chars);
+        if (chars != _string_chars) {
+            return CharBuffer.wrap(chars, 0, count);
+        }
+
+        CharBuffer view = _string_view;
+        if (view == null || view.array() != chars) {
+            view = _string_view = CharBuffer.wrap(chars);
+        }
+        view.clear();
+        view.limit(count);
+        return view;
+    }
+
+    /**
+     * Reads the UTF-8 bytes of a string into scratch space, which is
+     * retained for later strings unless it grows past
+     * {@link #MAX_RETAINED_STRING_BUFFER}.
+     */
+    private byte[] readStringBytes(int len) throws IOException
+    {
+        byte[] bytes = _string_bytes;
+        if (bytes == null || bytes.length < len) {
+            bytes = new byte[Math.max(len, DEFAULT_STRING_BUFFER)];
+            if (bytes.length <= MAX_RETAINED_STRING_BUFFER) {
+                _string_bytes = bytes;
+                _string_chars = new char[bytes.length];
+            }
+        }
+
+        int save_limit = _local_remaining - len;
+        _local_remaining = len;
+        readAll(bytes, 0, len);
+        _local_remaining = save_limit;
+        return bytes;
+    }
+
+    /** Returns the char scratch space matching {@link #readStringBytes}. */
+    private char[] stringChars(byte[] bytes)
     {
         // len is bytes, which is greater than or equal to java
         // chars even after utf8 to utf16 decoding nonsense
-        // the char array is way faster than using string buffer
-        char[] chars = new char[len];
-        int    c, ii = 0;
-        int    save_limit = _local_remaining - len;
-        _local_remaining = len;
-        while (!isEOF()) {
-            c = readUnicodeScalar();
-            if (c < 0) throwUnexpectedEOFException();
+        return (bytes == _string_bytes) ? _string_chars : new char[bytes.length];
+    }
+
+    /**
+     * Decodes {@code len} bytes of UTF-8 into {@code chars}, returning the
+     * number of chars.
+     */
+    private int decodeString(byte[] bytes, int len, char[] chars)
+        throws IOException
+    {
+        int pos = 0, ii = 0;
+        while (pos < len) {
+            // copy runs of ASCII eight bytes at a time
+            if (pos + 8 <= len
+                && ((bytes[pos]     | bytes[pos + 1] | bytes[pos + 2]
+                   | bytes[pos + 3] | bytes[pos + 4] | bytes[pos + 5]
+                   | bytes[pos + 6] | bytes[pos + 7]) & 0x80) == 0)
+            {
+                chars[ii]     = (char) bytes[pos];
+                chars[ii + 1] = (char) bytes[pos + 1];
+                chars[ii + 2] = (char) bytes[pos + 2];
+                chars[ii + 3] = (char) bytes[pos + 3];
+                chars[ii + 4] = (char) bytes[pos + 4];
+                chars[ii + 5] = (char) bytes[pos + 5];
+                chars[ii + 6] = (char) bytes[pos + 6];
+                chars[ii + 7] = (char) bytes[pos + 7];
+                pos += 8;
+                ii += 8;
+                continue;
+            }
+            int b = bytes[pos++] & 0xff;
+            if (IonUTF8.isOneByteUTF8(b)) {
+                chars[ii++] = (char) b;
+                continue;
+            }
+            int c = decodeUnicodeScalar(b, bytes, pos, len);
+            pos += IonUTF8.getUTF8LengthFromFirstByte(b) - 1;
             if (c < 0x10000) {
                 chars[ii++] = (char)c;
             }
@@ -1184,44 +1503,37 @@ abstract class IonReaderBinaryRawX
                 chars[ii++] = (char)PrivateIonConstants.makeLowSurrogate(c);
             }
         }
-        _local_remaining = save_limit;
-        return new String(chars, 0, ii);
+        return ii;
     }
-    private final int readUnicodeScalar() throws IOException
+    /**
+     * Decodes the multi-byte sequence starting with {@code b}, whose
+     * continuation bytes are at {@code pos} in {@code bytes}.
+     */
+    private final int decodeUnicodeScalar(int b, byte[] bytes, int pos, int len)
+        throws IOException
     {
-        int c = -1, b;
-        b = read();
-        // ascii is all good, even -1 (eof)
-        if (IonUTF8.isOneByteUTF8(b)) {
-            return b;
-        }
+        int c = -1;
         switch(IonUTF8.getUTF8LengthFromFirstByte(b)) {
         case 2:
             // now we start gluing the multi-byte value together
             assert((b & 0xe0) == 0xc0);
             // for values from 0x80 to 0x7FF (all legal)
-            int b2 = read();
-            if (!IonUTF8.isContinueByteUTF8(b2)) throwUTF8Exception();
+            int b2 = continueByte(bytes, pos, len);
             c = IonUTF8.twoByteScalar(b, b2);
             break;
         case 3:
             assert((b & 0xf0) == 0xe0);
             // for values from 0x800 to 0xFFFFF (NOT all legal)
-            b2 = read();
-            if (!IonUTF8.isContinueByteUTF8(b2)) throwUTF8Exception();
-            int b3 = read();
-            if (!IonUTF8.isContinueByteUTF8(b3)) throwUTF8Exception();
+            b2 = continueByte(bytes, pos, len);
+            int b3 = continueByte(bytes, pos + 1, len);
             c = IonUTF8.threeByteScalar(b, b2, b3);
             break;
         case 4:
             assert((b & 0xf8) == 0xf0);
             // for values from 0x010000 to 0x1FFFFF (NOT all legal)
-            b2 = read();
-            if (!IonUTF8.isContinueByteUTF8(b2)) throwUTF8Exception();
-            b3 = read();
-            if (!IonUTF8.isContinueByteUTF8(b3)) throwUTF8Exception();
-            int b4 = read();
-            if (!IonUTF8.isContinueByteUTF8(b4)) throwUTF8Exception();
+            b2 = continueByte(bytes, pos, len);
+            b3 = continueByte(bytes, pos + 1, len);
+            int b4 = continueByte(bytes, pos + 2, len);
             c = IonUTF8.fourByteScalar(b, b2, b3, b4);
             if (c > 0x10FFFF) {
                 throw new IonException("illegal utf value encountered in input utf-8 stream");
@@ -1232,6 +1544,13 @@ abstract class IonReaderBinaryRawX
         }
         return c;
     }
+    private final int continueByte(byte[] bytes, int pos, int len)
+        throws IOException
+    {
+        int b = (pos < len) ? (bytes[pos] & 0xff) : -1;
+        if (!IonUTF8.isContinueByteUTF8(b)) throwUTF8Exception();
+        return b;
+    }
     private final void throwUTF8Exception() throws IOException
     {
         throwErrorAt("Invalid UTF-8 character encounter in a string at position ");
@@ -26,6 +26,7 @@ import software.amazon.ion.Decimal;
 import software.amazon.ion.IntegerSize;
 import software.amazon.ion.IonType;
 import software.amazon.ion.NullValueException;
+import software.amazon.ion.PrimitiveValueReader;
 import software.amazon.ion.SymbolTable;
 import software.amazon.ion.SymbolToken;
 import software.amazon.ion.Timestamp;
@@ -35,7 +36,7 @@ import software.amazon.ion.impl.PrivateScalarConversions.ValueVariant;
 
 class IonReaderBinarySystemX
     extends IonReaderBinaryRawX
-    implements PrivateReaderWriter
+    implements PrivateReaderWriter, PrivateFieldIdReader
 {
     SymbolTable _symbols;
 
@@ -242,13 +243,24 @@ class IonReaderBinarySystemX
             _v.setAuthoritativeType(AS_TYPE.double_value);
             break;
         case DECIMAL:
-            Decimal dec = readDecimal(_value_len);
+            if (!_value_fields_loaded) {
+                readDecimalFields(_value_len);
+                _value_fields_loaded = true;
+            }
+            Decimal dec = decimalFromFields();
             _v.setValue(dec);
             _v.setAuthoritativeType(AS_TYPE.decimal_value);
             break;
         case TIMESTAMP:
             // TODO: it looks like a 0 length return a null timestamp - is that right?
-            Timestamp t = readTimestamp(_value_len);
+            Timestamp t = null;
+            if (_value_len > 0) {
+                if (!_value_fields_loaded) {
+                    readTimestampFields(_value_len);
+                    _value_fields_loaded = true;
+                }
+                t = timestampFromFields();
+            }
             _v.setValue(t);
             _v.setAuthoritativeType(AS_TYPE.timestamp_value);
             break;
@@ -268,7 +280,9 @@ class IonReaderBinarySystemX
             _v.setAuthoritativeType(AS_TYPE.int_value);
             break;
         case STRING:
-            String s = readString(_value_len);
+            String s = _value_chars != null
+                     ? _value_chars.toString()
+                     : readString(_value_len);
             _v.setValue(s);
             _v.setAuthoritativeType(AS_TYPE.string_value);
             break;
@@ -376,6 +390,277 @@ class IonReaderBinarySystemX
         return _v.getTimestamp();
     }
 
+    //
+    // primitive decimal and timestamp access, for PrimitiveValueReader
+    //
+
+    /**
+     * Ensures the decimal or timestamp fields reflect the current value,
+     * decoding them from the input unless the value has been loaded already.
+     */
+    private void load_fields(IonType type)
+    {
+        if (_value_type != type || _value_is_null) {
+            throw new IllegalStateException("current value is not a non-null " + type);
+        }
+        if (_value_fields_loaded) {
+            return;
+        }
+
+        if (!_v.isEmpty()) {
+            if (type == IonType.DECIMAL) {
+                load_decimal_fields(_v.getDecimal());
+            }
+            else {
+                load_timestamp_fields(_v.getTimestamp());
+            }
+            _value_fields_loaded = true;
+            return;
+        }
+
+        try {
+            if (type == IonType.DECIMAL) {
+                readDecimalFields(_value_len);
+                _value_fields_loaded = true;
+            }
+            else {
+                if (_value_len < 1) {
+                    throwErrorAt("Invalid timestamp encoding: no fields");
+                }
+                readTimestampFields(_value_len);
+                _value_fields_loaded = true;
+                checkTimestampFields();
+            }
+        }
+        catch (IOException e) {
+            error(e);
+        }
+        finally {
+            _state = State.S_AFTER_VALUE;
+        }
+    }
+
+    private void load_decimal_fields(BigDecimal value)
+    {
+        BigInteger unscaled = value.unscaledValue();
+        boolean fits = unscaled.bitLength() < 64;
+        _decimal_unscaled      = fits ? unscaled.longValue() : 0;
+        _decimal_big_unscaled  = fits ? null : unscaled;
+        _decimal_negative_zero = Decimal.isNegativeZero(value);
+        _decimal_scale         = value.scale();
+    }
+
+    @SuppressWarnings("deprecation")
+    private void load_timestamp_fields(Timestamp value)
+    {
+        if (value == null) {
+            throwErrorAt("Invalid timestamp encoding: no fields");
+        }
+        _timestamp_precision = value.getPrecision();
+        _timestamp_year      = value.getZYear();
+        _timestamp_month     = value.getZMonth();
+        _timestamp_day       = value.getZDay();
+        _timestamp_hour      = value.getZHour();
+        _timestamp_minute    = value.getZMinute();
+        _timestamp_second    = value.getZSecond();
+
+        BigDecimal frac = value.getZFractionalSecond();
+        _timestamp_has_fraction = (frac != null);
+        if (frac != null) {
+            load_decimal_fields(frac);
+        }
+
+        Integer offset = value.getLocalOffset();
+        _timestamp_offset_known = (offset != null);
+        _timestamp_offset = (offset != null) ? offset.intValue() : 0;
+    }
+
+    /**
+     * Returns the fraction in the decimal fields, which is in [0, 1), as a
+     * count of 10^-digits units, truncating any further digits.
+     */
+    private long fraction_in_units(int digits)
+    {
+        if (_decimal_big_unscaled != null) {
+            return decimalFromFields().movePointRight(digits).longValue();
+        }
+        if (_decimal_unscaled == 0) {
+            return 0;
+        }
+        int shift = digits - _decimal_scale;
+        if (shift >= 0) {
+            return _decimal_unscaled * POWERS_OF_TEN[shift];
+        }
+        if (-shift >= POWERS_OF_TEN.length) {
+            return 0;
+        }
+        return _decimal_unscaled / POWERS_OF_TEN[-shift];
+    }
+
+    /**
+     * Proleptic Gregorian day number relative to 1970-01-01, for years
+     * from {@link #GREGORIAN_YEAR}.
+     */
+    private static long days_from_civil(int year, int month, int day)
+    {
+        if (month <= 2) {
+            year -= 1;
+        }
+        int era = year / 400;
+        int year_of_era = year - era * 400;
+        int day_of_year = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int day_of_era = year_of_era * 365 + year_of_era / 4 - year_of_era / 100 + day_of_year;
+        return era * 146097L + day_of_era - 719468;
+    }
+
+    /**
+     * The first year in which {@link Date#UTC} uses the Gregorian calendar
+     * throughout. Earlier dates are left to it, to match
+     * {@link Timestamp#getMillis()}.
+     */
+    private static final int GREGORIAN_YEAR = 1583;
+
+    final boolean decimalFitsInLong()
+    {
+        load_fields(IonType.DECIMAL);
+        return _decimal_big_unscaled == null && !_decimal_negative_zero;
+    }
+
+    final long decimalUnscaledValue()
+    {
+        load_fields(IonType.DECIMAL);
+        if (_decimal_big_unscaled != null) {
+            throw new ArithmeticException("decimal coefficient out of long range");
+        }
+        return _decimal_unscaled;
+    }
+
+    final int decimalScale()
+    {
+        load_fields(IonType.DECIMAL);
+        return _decimal_scale;
+    }
+
+    final Timestamp.Precision timestampPrecision()
+    {
+        load_fields(IonType.TIMESTAMP);
+        return _timestamp_precision;
+    }
+
+    @SuppressWarnings("deprecation")
+    final long timestampMillis()
+    {
+        load_fields(IonType.TIMESTAMP);
+        long millis;
+        if (_timestamp_year >= GREGORIAN_YEAR) {
+            millis = days_from_civil(_timestamp_year, _timestamp_month, _timestamp_day) * 86400000L
+                   + _timestamp_hour * 3600000L
+                   + _timestamp_minute * 60000L
+                   + _timestamp_second * 1000L;
+        }
+        else {
+            millis = Date.UTC(_timestamp_year - 1900, _timestamp_month - 1, _timestamp_day,
+                              _timestamp_hour, _timestamp_minute, _timestamp_second);
+        }
+        if (_timestamp_has_fraction) {
+            millis += fraction_in_units(3);
+        }
+        return millis;
+    }
+
+    final int timestampNanos()
+    {
+        load_fields(IonType.TIMESTAMP);
+        return _timestamp_has_fraction ? (int) fraction_in_units(9) : 0;
+    }
+
+    final int timestampOffsetMinutes()
+    {
+        load_fields(IonType.TIMESTAMP);
+        if (_timestamp_precision.compareTo(Timestamp.Precision.MINUTE) < 0
+            || !_timestamp_offset_known) {
+            return PrimitiveValueReader.UNKNOWN_OFFSET;
+        }
+        return _timestamp_offset;
+    }
+
+    //
+    // direct field access for transcoding; see IonWriterSystemText
+    //
+
+    /**
+     * Loads the fields of the current non-null decimal, returning whether
+     * its coefficient is in {@link #_decimal_unscaled} with a magnitude
+     * that fits in a long.
+     */
+    final boolean loadDecimalFields()
+    {
+        load_fields(IonType.DECIMAL);
+        return _decimal_big_unscaled == null
+            && _decimal_unscaled != Long.MIN_VALUE;
+    }
+
+    /**
+     * Loads the fields of the current non-null timestamp, returning whether
+     * any fractional second is in {@link #_decimal_unscaled} and
+     * {@link #_decimal_scale}.
+     */
+    final boolean loadTimestampFields()
+    {
+        load_fields(IonType.TIMESTAMP);
+        return !_timestamp_has_fraction || _decimal_big_unscaled == null;
+    }
+
+    /**
+     * Returns the text of the current non-null string without creating a
+     * String, unless one has been loaded already. The result is only valid
+     * until the reader moves; the value itself can still be read, from the
+     * decoded text.
+     */
+    final CharSequence stringChars()
+    {
+        if (_value_type != IonType.STRING || _value_is_null) {
+            throw new IllegalStateException("current value is not a non-null string");
+        }
+        if (!_v.isEmpty()) {
+            return _v.getString();
+        }
+        if (_value_chars == null) {
+            try {
+                _value_chars = readStringChars(_value_len);
+            }
+            catch (IOException e) {
+                error(e);
+            }
+            finally {
+                _state = State.S_AFTER_VALUE;
+            }
+        }
+        return _value_chars;
+    }
+
+    /**
+     * Returns the input array holding the unread content of the current
+     * non-null lob, which starts at {@link #lobOffset()}, or null if the
+     * content can only be read by consuming it.
+     */
+    final byte[] lobArray()
+    {
+        if (!(_input instanceof UnifiedInputStreamX.FromByteArray)) {
+            return null;
+        }
+        return _input._bytes;
+    }
+
+    /**
+     * Returns where the {@link #byteSize()} unread bytes of the current lob
+     * start in {@link #lobArray()}.
+     */
+    final int lobOffset()
+    {
+        return (int) (_position_start + _position_len - byteSize());
+    }
+
     @Override
     public IntegerSize getIntegerSize()
     {
@@ -446,6 +731,11 @@ class IonReaderBinarySystemX
         return name;
     }
 
+    public final int getRawFieldId()
+    {
+        return _value_field_id;
+    }
+
     public SymbolToken getFieldNameSymbol()
     {
         if (_value_field_id == SymbolTable.UNKNOWN_SYMBOL_ID) return null;
@@ -17,15 +17,21 @@ package software.amazon.ion.impl;
 import static software.amazon.ion.SystemSymbols.ION_1_0_SID;
 import static software.amazon.ion.SystemSymbols.ION_SYMBOL_TABLE_SID;
 
+import static software.amazon.ion.util.IonStreamUtils.isIonBinary;
+
 import java.io.IOException;
 import software.amazon.ion.IonCatalog;
+import software.amazon.ion.IonException;
 import software.amazon.ion.IonType;
 import software.amazon.ion.OffsetSpan;
+import software.amazon.ion.PrimitiveValueReader;
+import software.amazon.ion.ResettableReader;
 import software.amazon.ion.SeekableReader;
 import software.amazon.ion.Span;
 import software.amazon.ion.SpanProvider;
 import software.amazon.ion.SymbolTable;
 import software.amazon.ion.SymbolToken;
+import software.amazon.ion.Timestamp;
 import software.amazon.ion.UnknownSymbolException;
 import software.amazon.ion.impl.PrivateScalarConversions.AS_TYPE;
 import software.amazon.ion.impl.UnifiedInputStreamX.FromByteArray;
@@ -40,11 +46,28 @@ final class IonReaderBinaryUserX
      * It must be subtracted from the logical offsets exposed by
      * {@link OffsetSpan}s.
      */
-    private final int _physical_start_offset;
+    private int _physical_start_offset;
     private final PrivateLocalSymbolTableFactory _lstFactory;
 
     IonCatalog  _catalog;
 
+    /**
+     * The encoded image of the last local symtab read from a byte array,
+     * with the symtab in effect before it and the table it produced.
+     * When the next local symtab has the same image and context, as is
+     * typical of a sequence of small messages read via
+     * {@link ResettableReader}, the table is reused rather than read again
+     * and its imports resolved through the catalog again.
+     * The reuse is skipped if anyone has since added symbols to the table.
+     */
+    private byte[]      _lst_image;
+    private SymbolTable _lst_context;
+    private SymbolTable _lst_symbols;
+    private int         _lst_max_id;
+
+    /** Handed out for every value a writer copies, so it's kept. */
+    private TranscodingReaderFacet _transcoding_facet;
+
     private static final class IonReaderBinarySpan
         extends DowncastingFaceted
         implements Span, OffsetSpan
@@ -133,15 +156,15 @@ final class IonReaderBinaryUserX
         {
             throw new IllegalArgumentException("Position invalid for binary reader");
         }
-        if (!(_input instanceof FromByteArray))
+        if (!isSeekable())
         {
-            throw new UnsupportedOperationException("Binary seek not implemented for non-byte array backed sources");
+            throw new UnsupportedOperationException("Binary seek not implemented for non-buffer backed sources");
         }
 
-        // TODO test that span is within the bounds of the input byte[]
+        // TODO test that span is within the bounds of the input buffer
 
         // manually reset the input specific type of input stream
-        FromByteArray input = (FromByteArray)_input;
+        UnifiedInputStreamX input = _input;
         input._pos   = (int) (pos._offset + _physical_start_offset);
         input._limit = (int) (pos._limit  + _physical_start_offset);
 
@@ -169,6 +192,46 @@ final class IonReaderBinaryUserX
     }
 
 
+    /**
+     * Re-points this reader at a new range of a byte array, as if it had
+     * been constructed over it. The reader must have been created over a
+     * byte array.
+     *
+     * @param retainSymbolTable when true, the current symbol table remains
+     * in effect for the new input, which is then treated as a continuation
+     * of the previous data rather than a new stream.
+     */
+    final void resetInput(byte[] bytes, int offset, int length,
+                          boolean retainSymbolTable)
+    {
+        SymbolTable symbols = _symbols;
+
+        ((FromByteArray) _input).reset(bytes, offset, length);
+        _physical_start_offset = offset;
+        re_init_raw();
+        init_user(_catalog);
+
+        if (retainSymbolTable) {
+            _symbols = symbols;
+        }
+    }
+
+
+    /**
+     * Restricts this reader to the top-level values between two logical
+     * offsets of its input, as exposed by {@link OffsetSpan}s, with the given
+     * symbol table in effect at {@code start}.
+     */
+    final void restrictTo(long start, long finish, SymbolTable symbols)
+    {
+        IonReaderBinarySpan pos = new IonReaderBinarySpan();
+        pos._offset = start;
+        pos._limit = finish;
+        pos._symbol_table = symbols;
+        seek(pos);
+    }
+
+
     @Override
     public IonType next()
     {
@@ -217,7 +280,7 @@ final class IonReaderBinaryUserX
             else if (_value_tid == PrivateIonConstants.tidStruct) {
                 int count = load_annotations();
                 if (count > 0 && _annotation_ids[0] == ION_SYMBOL_TABLE_SID) {
-                    _symbols = _lstFactory.newLocalSymtab(_catalog, this, false);
+                    _symbols = read_local_symbol_table();
                     push_symbol_table(_symbols);
                     _has_next_needed = true;
                 }
@@ -228,6 +291,46 @@ final class IonReaderBinaryUserX
         }
     }
 
+    /**
+     * Reads the local symtab the reader is positioned on, reusing the last
+     * one read if its encoding is identical.
+     */
+    private SymbolTable read_local_symbol_table()
+    {
+        if (! (_input instanceof FromByteArray)) {
+            return _lstFactory.newLocalSymtab(_catalog, this, false);
+        }
+
+        byte[] bytes  = _input._bytes;
+        int    start  = (int) _position_start;
+        int    length = (int) _position_len;
+
+        if (_lst_context == _symbols
+            && _lst_symbols.getMaxId() == _lst_max_id
+            && _lst_image.length == length)
+        {
+            int ii = 0;
+            while (ii < length && _lst_image[ii] == bytes[start + ii]) {
+                ii++;
+            }
+            if (ii == length) {
+                return _lst_symbols;
+            }
+        }
+
+        SymbolTable context = _symbols;
+        SymbolTable symbols = _lstFactory.newLocalSymtab(_catalog, this, false);
+
+        byte[] image = new byte[length];
+        System.arraycopy(bytes, start, image, 0, length);
+        _lst_image   = image;
+        _lst_context = context;
+        _lst_symbols = symbols;
+        _lst_max_id  = symbols.getMaxId();
+
+        return symbols;
+    }
+
     private void validateSymbolToken(SymbolToken symbol) {
         if (symbol != null) {
             if (symbol.getText() == null && symbol.getSid() > getSymbolTable().getMaxId()) {
@@ -312,8 +415,19 @@ final class IonReaderBinaryUserX
             return facetType.cast(new SpanProviderFacet());
         }
 
+        if (facetType == PrimitiveValueReader.class)
+        {
+            return facetType.cast(new PrimitiveValueReaderFacet());
+        }
+
+        if (facetType == ResettableReader.class
+            && _input instanceof FromByteArray)
+        {
+            return facetType.cast(new ResettableReaderFacet());
+        }
+
         // TODO amzn/ion-java#17 support seeking over InputStream
-        if (_input instanceof FromByteArray)
+        if (isSeekable())
         {
             if (facetType == SeekableReader.class)
             {
@@ -321,6 +435,22 @@ final class IonReaderBinaryUserX
             }
         }
 
+        if (facetType == PrivateTranscodingReader.class)
+        {
+            if (_transcoding_facet == null)
+            {
+                _transcoding_facet = new TranscodingReaderFacet();
+            }
+            return facetType.cast(_transcoding_facet);
+        }
+
+        if (facetType == PrivateRawValueReader.class
+            && _input instanceof UnifiedInputStreamX.FromByteArray
+            && getType() != null)
+        {
+            return facetType.cast(new RawValueReaderFacet());
+        }
+
         if (facetType == PrivateByteTransferReader.class)
         {
             // This is a rather sketchy use of Facets, since the availability
@@ -343,6 +473,17 @@ final class IonReaderBinaryUserX
     }
 
 
+    /**
+     * Seeking is supported over sources held entirely in memory as a single
+     * page, that is byte arrays and {@link java.nio.ByteBuffer}s.
+     */
+    private boolean isSeekable()
+    {
+        return _input instanceof FromByteArray
+            || _input instanceof UnifiedInputStreamX.FromByteBuffer;
+    }
+
+
     private class SpanProviderFacet implements SpanProvider
     {
         public Span currentSpan()
@@ -368,6 +509,116 @@ final class IonReaderBinaryUserX
     }
 
 
+    private class PrimitiveValueReaderFacet
+        implements PrimitiveValueReader
+    {
+        public boolean decimalFitsInLong()
+        {
+            return IonReaderBinaryUserX.this.decimalFitsInLong();
+        }
+
+        public long decimalUnscaledValue()
+        {
+            return IonReaderBinaryUserX.this.decimalUnscaledValue();
+        }
+
+        public int decimalScale()
+        {
+            return IonReaderBinaryUserX.this.decimalScale();
+        }
+
+        public Timestamp.Precision timestampPrecision()
+        {
+            return IonReaderBinaryUserX.this.timestampPrecision();
+        }
+
+        public long timestampMillis()
+        {
+            return IonReaderBinaryUserX.this.timestampMillis();
+        }
+
+        public int timestampNanos()
+        {
+            return IonReaderBinaryUserX.this.timestampNanos();
+        }
+
+        public int timestampOffsetMinutes()
+        {
+            return IonReaderBinaryUserX.this.timestampOffsetMinutes();
+        }
+    }
+
+
+    private class ResettableReaderFacet
+        implements ResettableReader
+    {
+        public void reset(byte[] bytes, int offset, int length)
+        {
+            bytes.getClass(); // Efficient null check
+
+            if (length != 0 && ! isIonBinary(bytes, offset, length))
+            {
+                throw new IonException("Input is not binary Ion");
+            }
+
+            resetInput(bytes, offset, length, false);
+        }
+    }
+
+
+    private final class TranscodingReaderFacet
+        implements PrivateTranscodingReader
+    {
+        public CharSequence stringChars()
+        {
+            return IonReaderBinaryUserX.this.stringChars();
+        }
+
+        public boolean loadDecimal()
+        {
+            return loadDecimalFields() && !_decimal_negative_zero;
+        }
+
+        public long decimalUnscaledValue()
+        {
+            return _decimal_unscaled;
+        }
+
+        public int decimalScale()
+        {
+            return _decimal_scale;
+        }
+
+        public byte[] lobArray()
+        {
+            if (!IonType.isLob(_value_type) || _value_is_null)
+            {
+                throw new IllegalStateException("current value is not a non-null lob");
+            }
+            return IonReaderBinaryUserX.this.lobArray();
+        }
+
+        public int lobOffset()
+        {
+            return IonReaderBinaryUserX.this.lobOffset();
+        }
+    }
+
+
+    private final class RawValueReaderFacet implements PrivateRawValueReader
+    {
+        public void transferRawValue(PrivateByteTransferSink sink)
+            throws IOException
+        {
+            // The position covers the annotation wrapper, if any, and
+            // starts after the field name.
+            sink.writeBytes(_input._bytes,
+                            (int) _position_start,
+                            (int) _position_len);
+        }
+    }
+
+
     private class ByteTransferReaderFacet implements PrivateByteTransferReader
     {
         public void transferCurrentValue(PrivateByteTransferSink sink)
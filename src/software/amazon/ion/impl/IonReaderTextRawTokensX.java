@@ -88,6 +88,30 @@ final class IonReaderTextRawTokensX
     static final int[] BASE64_CHAR_TO_BIN = Base64Encoder.Base64EncodingCharToInt;
     static final int   BASE64_TERMINATOR_CHAR = Base64Encoder.Base64EncodingTerminator;
 
+    /**
+     * The ASCII bytes each skip routine has to look at; everything else,
+     * including all UTF-8 sequence bytes, is passed over by
+     * {@link UnifiedInputStreamX#skip_plain_bytes(boolean[])} and
+     * {@link UnifiedInputStreamX#skip_container_body} without being
+     * decoded.  CR and LF are always stops so that line counting stays
+     * with {@link #read_char()}.
+     */
+    private static final boolean[] DOUBLE_QUOTED_STOPS =
+        stop_table("\"\\\r\n");
+    private static final boolean[] SINGLE_QUOTED_STOPS =
+        stop_table("'\\\r\n");
+    private static final boolean[] CONTAINER_STOPS =
+        stop_table("\"'()[]{}/\r\n");
+
+    private static boolean[] stop_table(String stops)
+    {
+        boolean[] table = new boolean[128];
+        for (int ii = 0; ii < stops.length(); ii++) {
+            table[stops.charAt(ii)] = true;
+        }
+        return table;
+    }
+
     private UnifiedInputStreamX  _stream = null;
     private int                 _token = -1;
     /** are we at the beginning of this token (false == done with it) */
@@ -98,6 +122,9 @@ final class IonReaderTextRawTokensX
     private long                _line_count_cached;
     private long                _line_offset_cached;
 
+    /** closers expected by skip_over_container(), innermost last */
+    private char[]              _container_closers = new char[16];
+
     /** number of base64 decoded bytes in the stack, used to decode base64 */
     private int                 _base64_prefetch_count;
     /**
@@ -1208,9 +1235,18 @@ final class IonReaderTextRawTokensX
     private void skip_over_container(int terminator) throws IOException
     {
         assert( terminator == '}' || terminator == ']' || terminator == ')' );
+        char[] closers = _container_closers;
+        closers[0] = (char) terminator;
+        int depth = 1;
         int c;
 
         for (;;) {
+            // let the stream pass over everything it can in the current
+            // page, we only get involved with what it leaves to us
+            depth = _stream.skip_container_body(CONTAINER_STOPS, closers, depth);
+            if (depth == 0) {
+                return;
+            }
             c = skip_over_whitespace();
             switch (c) {
             case -1:
@@ -1218,8 +1254,10 @@ final class IonReaderTextRawTokensX
             case '}':
             case ']':
             case ')':
-                if (c == terminator) { // no point is checking this on every char
-                    return;
+                if (c == closers[depth - 1]) { // no point is checking this on every char
+                    if (--depth == 0) {
+                        return;
+                    }
                 }
                 break;
             case '"':
@@ -1235,10 +1273,10 @@ final class IonReaderTextRawTokensX
                 }
                 break;
             case '(':
-                skip_over_container(')');
+                closers = push_container_closer(closers, depth++, ')');
                 break;
             case '[':
-                skip_over_container(']');
+                closers = push_container_closer(closers, depth++, ']');
                 break;
             case '{':
                 // this consumes lobs as well since the double
@@ -1275,7 +1313,7 @@ final class IonReaderTextRawTokensX
                 }
                 else {
                     unread_char(c);
-                    skip_over_container('}');
+                    closers = push_container_closer(closers, depth++, '}');
                 }
                 break;
             default:
@@ -1284,6 +1322,18 @@ final class IonReaderTextRawTokensX
         }
     }
 
+    private char[] push_container_closer(char[] closers, int depth, char closer)
+    {
+        if (depth == closers.length) {
+            char[] grown = new char[closers.length * 2];
+            System.arraycopy(closers, 0, grown, 0, depth);
+            closers = grown;
+            _container_closers = grown;
+        }
+        closers[depth] = closer;
+        return closers;
+    }
+
     private int skip_over_number(SavePoint sp) throws IOException
     {
         int c = read_char();
@@ -1916,6 +1966,7 @@ final class IonReaderTextRawTokensX
         // quoted symbol
 
         for (;;) {
+            _stream.skip_plain_bytes(SINGLE_QUOTED_STOPS);
             c = read_string_char(ProhibitedCharacters.NONE);
             switch (c) {
             case -1: unexpected_eof();
@@ -1988,6 +2039,7 @@ final class IonReaderTextRawTokensX
     {
         int c;
         for (;;) {
+            _stream.skip_plain_bytes(DOUBLE_QUOTED_STOPS);
             c = read_string_char(ProhibitedCharacters.NONE);
             switch (c) {
             case -1:
@@ -2098,6 +2150,7 @@ final class IonReaderTextRawTokensX
         // starts AFTER the 3 quotes have been consumed
         int c;
         for (;;) {
+            _stream.skip_plain_bytes(SINGLE_QUOTED_STOPS);
             c = read_char();
             switch (c) {
             case -1:
@@ -55,12 +55,20 @@ import java.lang.Character;
  */
 class IonReaderTextSystemX
     extends IonReaderTextRawX
-    implements PrivateReaderWriter
+    implements PrivateReaderWriter, PrivateFieldIdReader
 {
     private static int UNSIGNED_BYTE_MAX_VALUE = 255;
 
     SymbolTable _system_symtab;
 
+    // set by scan_number() for load_decimal_value() and load_float_value()
+    private long    _number_coefficient;
+    private boolean _number_negative;
+    private long    _number_exponent;
+
+    /** Handed out for every value a writer copies, so it's kept. */
+    private TranscodingReaderFacet _transcoding_facet;
+
     protected IonReaderTextSystemX(UnifiedInputStreamX iis)
     {
         _system_symtab = PrivateUtils.systemSymtab(1); // TODO check IVM to determine version: amznlabs/ion-java#19, amznlabs/ion-java#24
@@ -119,13 +127,13 @@ class IonReaderTextSystemX
         {
 
             @Override
-            boolean isInt(String image, int len)
+            boolean isInt(CharSequence image, int len)
             {
                 return valueWithinBounds(image, len, MIN_INT_IMAGE, MAX_INT_IMAGE);
             }
 
             @Override
-            boolean isLong(String image, int len)
+            boolean isLong(CharSequence image, int len)
             {
                 return valueWithinBounds(image, len, MIN_LONG_IMAGE, MAX_LONG_IMAGE);
             }
@@ -135,13 +143,13 @@ class IonReaderTextSystemX
         {
 
             @Override
-            boolean isInt(String image, int len)
+            boolean isInt(CharSequence image, int len)
             {
                 return valueWithinBounds(image, len, MIN_HEX_INT_IMAGE, MAX_HEX_INT_IMAGE);
             }
 
             @Override
-            boolean isLong(String image, int len)
+            boolean isLong(CharSequence image, int len)
             {
                 return valueWithinBounds(image, len, MIN_HEX_LONG_IMAGE, MAX_HEX_LONG_IMAGE);
             }
@@ -151,13 +159,13 @@ class IonReaderTextSystemX
         {
 
             @Override
-            boolean isInt(String image, int len)
+            boolean isInt(CharSequence image, int len)
             {
                 return valueWithinBounds(image, len, MIN_BINARY_INT_IMAGE, MAX_BINARY_INT_IMAGE);
             }
 
             @Override
-            boolean isLong(String image, int len)
+            boolean isLong(CharSequence image, int len)
             {
                 return valueWithinBounds(image, len, MIN_BINARY_LONG_IMAGE, MAX_BINARY_LONG_IMAGE);
             }
@@ -177,10 +185,10 @@ class IonReaderTextSystemX
         private static final char[] MAX_HEX_LONG_IMAGE = Long.toHexString(Long.MAX_VALUE).toCharArray();
         private static final char[] MIN_HEX_LONG_IMAGE = ("-" + Long.toHexString(Long.MIN_VALUE)).toCharArray();
 
-        abstract boolean isInt(String image, int len);
-        abstract boolean isLong(String image, int len);
+        abstract boolean isInt(CharSequence image, int len);
+        abstract boolean isLong(CharSequence image, int len);
 
-        private static boolean valueWithinBounds(String value, int len, char[] minImage, char[] maxImage)
+        private static boolean valueWithinBounds(CharSequence value, int len, char[] minImage, char[] maxImage)
         {
             boolean negative = value.charAt(0) == '-';
             char[] boundaryImage = negative ? minImage : maxImage;
@@ -188,7 +196,7 @@ class IonReaderTextSystemX
             return len < maxImageLength || (len == maxImageLength && magnitudeLessThanOrEqualTo(value, len, boundaryImage));
         }
 
-        private static boolean magnitudeLessThanOrEqualTo(String lhs, int lhsLen, char[] rhs)
+        private static boolean magnitudeLessThanOrEqualTo(CharSequence lhs, int lhsLen, char[] rhs)
         {
             assert lhsLen == rhs.length;
             for (int i = lhsLen - 1; i >= 0; i--)
@@ -225,139 +233,16 @@ class IonReaderTextSystemX
 
         int token_type = _scanner.getToken();
 
-        if (_value_type == IonType.DECIMAL) {
-            // we do this here (instead of in the case below
-            // so that we can modify the value while it's not
-            // a string, but still in the StringBuilder
-            for (int ii=0; ii<cs.length(); ii++) {
-                int c = cs.charAt(ii);
-                if (c == 'd' || c == 'D') {
-                    cs.setCharAt(ii, 'e');
-                    break;
-                }
-            }
-        } else if (token_type == IonTokenConstsX.TOKEN_HEX || token_type == IonTokenConstsX.TOKEN_BINARY) {
-            boolean isNegative = (cs.charAt(0) == '-');
-            // prefix = is_negative ? "-0x" : "0x";
-            int pos = isNegative ? 1 : 0;
-            char caseChar = token_type == IonTokenConstsX.TOKEN_HEX ? 'x' : 'b';
-            if (cs.length() <= (isNegative ? 3 : 2) || Character.toLowerCase(cs.charAt(pos + 1)) != caseChar) {
-                parse_error("Invalid " + (caseChar == 'x' ? "hexadecimal" : "binary") + " int value.");
-            }
-            cs.deleteCharAt(pos);
-            cs.deleteCharAt(pos);
+        if (load_numeric_value(token_type, cs)) {
+            clear_current_value_buffer();
+            return;
         }
 
-
-        int          len = cs.length();
         String       s  = cs.toString();
 
         clear_current_value_buffer();
 
         switch (token_type) {
-        case IonTokenConstsX.TOKEN_UNKNOWN_NUMERIC:
-            switch (_value_type) {
-            case INT:
-                if (Radix.DECIMAL.isInt(s, len)) {
-                    _v.setValue(Integer.parseInt(s));
-                }
-                else if (Radix.DECIMAL.isLong(s, len)) {
-                    _v.setValue(Long.parseLong(s));
-                }
-                else {
-                    _v.setValue(new BigInteger(s));
-                }
-                break;
-            case DECIMAL:
-                // note that the string was modified above when it was a charsequence
-                try {
-                _v.setValue(Decimal.valueOf(s));
-                }
-                catch (NumberFormatException e) {
-                    parse_error(e);
-                }
-                break;
-            case FLOAT:
-                try {
-                    _v.setValue(Double.parseDouble(s));
-                }
-                catch (NumberFormatException e) {
-                    parse_error(e);
-                }
-                break;
-            case TIMESTAMP:
-                _v.setValue(Timestamp.valueOf(s));
-                break;
-            default:
-                String message = "unexpected prefectched value type "
-                               + getType().toString()
-                               + " encountered handling an unquoted symbol";
-                parse_error(message);
-            }
-            break;
-        case IonTokenConstsX.TOKEN_INT:
-            if (Radix.DECIMAL.isInt(s, len)) {
-                _v.setValue(Integer.parseInt(s));
-            }
-            else if (Radix.DECIMAL.isLong(s, len)) {
-                _v.setValue(Long.parseLong(s));
-            }
-            else {
-                _v.setValue(new BigInteger(s));
-            }
-            break;
-        case IonTokenConstsX.TOKEN_BINARY:
-            if (Radix.BINARY.isInt(s, len)) {
-                _v.setValue(Integer.parseInt(s, 2));
-            }
-            else if (Radix.BINARY.isLong(s, len)) {
-                _v.setValue(Long.parseLong(s, 2));
-            }
-            else {
-                _v.setValue(new BigInteger(s, 2));
-            }
-            break;
-        case IonTokenConstsX.TOKEN_HEX:
-            if (Radix.HEX.isInt(s, len)) {
-                int v_int = Integer.parseInt(s, 16);
-                _v.setValue(v_int);
-            }
-            else if (Radix.HEX.isLong(s, len)) {
-                long v_long = Long.parseLong(s, 16);
-                _v.setValue(v_long);
-            }
-            else {
-                BigInteger v_big_int = new BigInteger(s, 16);
-                _v.setValue(v_big_int);
-            }
-            break;
-        case IonTokenConstsX.TOKEN_DECIMAL:
-            try {
-            _v.setValue(Decimal.valueOf(s));
-            }
-            catch (NumberFormatException e) {
-                parse_error(e);
-            }
-            break;
-        case IonTokenConstsX.TOKEN_FLOAT:
-            try {
-                _v.setValue(Double.parseDouble(s));
-            }
-            catch (NumberFormatException e) {
-                parse_error(e);
-            }
-
-            break;
-        case IonTokenConstsX.TOKEN_TIMESTAMP:
-            Timestamp t = null;
-            try {
-                t = Timestamp.valueOf(s);
-            }
-            catch (IllegalArgumentException e) {
-                parse_error(e);
-            }
-            _v.setValue(t);
-            break;
         case IonTokenConstsX.TOKEN_SYMBOL_IDENTIFIER:
             // this includes the various value keywords like true
             // and nan, in addition to "normal" unquoted symbols
@@ -428,6 +313,297 @@ class IonReaderTextSystemX
             parse_error("scalar token "+IonTokenConstsX.getTokenName(_scanner.getToken())+"isn't a recognized type");
         }
     }
+
+    /**
+     * Parses numeric and timestamp tokens straight out of the token buffer
+     * into {@link #_v}. Values whose digits fit in a long are built without
+     * an intermediate String; anything larger (or any float the exact path
+     * can't handle) falls back to the arbitrary precision parsers.
+     *
+     * @return false if the token isn't numeric, in which case nothing is set.
+     */
+    private final boolean load_numeric_value(int token_type, StringBuilder cs)
+    {
+        switch (token_type) {
+        case IonTokenConstsX.TOKEN_UNKNOWN_NUMERIC:
+            switch (_value_type) {
+            case INT:
+                load_int_value(cs, Radix.DECIMAL, 10);
+                break;
+            case DECIMAL:
+                load_decimal_value(cs);
+                break;
+            case FLOAT:
+                load_float_value(cs);
+                break;
+            case TIMESTAMP:
+                _v.setValue(Timestamp.valueOf(cs));
+                break;
+            default:
+                String message = "unexpected prefectched value type "
+                               + getType().toString()
+                               + " encountered handling an unquoted symbol";
+                parse_error(message);
+            }
+            return true;
+        case IonTokenConstsX.TOKEN_INT:
+            load_int_value(cs, Radix.DECIMAL, 10);
+            return true;
+        case IonTokenConstsX.TOKEN_BINARY:
+        case IonTokenConstsX.TOKEN_HEX:
+            boolean isNegative = (cs.charAt(0) == '-');
+            // prefix = is_negative ? "-0x" : "0x";
+            int pos = isNegative ? 1 : 0;
+            char caseChar = token_type == IonTokenConstsX.TOKEN_HEX ? 'x' : 'b';
+            if (cs.length() <= (isNegative ? 3 : 2) || Character.toLowerCase(cs.charAt(pos + 1)) != caseChar) {
+                parse_error("Invalid " + (caseChar == 'x' ? "hexadecimal" : "binary") + " int value.");
+            }
+            cs.deleteCharAt(pos);
+            cs.deleteCharAt(pos);
+            if (token_type == IonTokenConstsX.TOKEN_HEX) {
+                load_int_value(cs, Radix.HEX, 16);
+            }
+            else {
+                load_int_value(cs, Radix.BINARY, 2);
+            }
+            return true;
+        case IonTokenConstsX.TOKEN_DECIMAL:
+            load_decimal_value(cs);
+            return true;
+        case IonTokenConstsX.TOKEN_FLOAT:
+            load_float_value(cs);
+            return true;
+        case IonTokenConstsX.TOKEN_TIMESTAMP:
+            Timestamp t = null;
+            try {
+                t = Timestamp.valueOf(cs);
+            }
+            catch (IllegalArgumentException e) {
+                parse_error(e);
+            }
+            _v.setValue(t);
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    private final void load_int_value(CharSequence image, Radix radix, int base)
+    {
+        int len = image.length();
+        if (radix.isInt(image, len)) {
+            _v.setValue((int) parse_long(image, len, base));
+        }
+        else if (radix.isLong(image, len)) {
+            _v.setValue(parse_long(image, len, base));
+        }
+        else {
+            _v.setValue(new BigInteger(image.toString(), base));
+        }
+    }
+
+    /**
+     * Accumulates negatively so that {@link Long#MIN_VALUE} parses; the
+     * caller has already checked that the digits fit.
+     */
+    private static long parse_long(CharSequence image, int len, int base)
+    {
+        boolean negative = image.charAt(0) == '-';
+        long value = 0;
+        for (int ii = negative ? 1 : 0; ii < len; ii++) {
+            int digit = Character.digit(image.charAt(ii), base);
+            if (digit < 0) {
+                throw new NumberFormatException("For input string: \"" + image + "\"");
+            }
+            value = value * base - digit;
+        }
+        return negative ? value : -value;
+    }
+
+    /** Longest coefficient that always fits in a long. */
+    private static final int MAX_LONG_DIGITS = 18;
+
+    /** Longest exponent that can't overflow an int once scaled. */
+    private static final int MAX_EXPONENT_DIGITS = 9;
+
+    /**
+     * Scans {@code -?digits(.digits)?([dDeE][+-]?digits)?} into the
+     * {@code _number} fields, with the exponent adjusted for the fraction
+     * digits.
+     *
+     * @return false if the image doesn't have that shape, or its
+     * coefficient or exponent is too long to hold exactly.
+     */
+    private final boolean scan_number(CharSequence image)
+    {
+        int len = image.length();
+        int ii = 0;
+        boolean negative = false;
+        if (ii < len && image.charAt(ii) == '-') {
+            negative = true;
+            ii++;
+        }
+
+        long coefficient = 0;
+        int significant_digits = 0;
+        int digits = 0;
+        int fraction_digits = 0;
+        boolean in_fraction = false;
+        for (; ii < len; ii++) {
+            char c = image.charAt(ii);
+            if (c >= '0' && c <= '9') {
+                if (coefficient != 0 || c != '0') {
+                    if (++significant_digits > MAX_LONG_DIGITS) {
+                        return false;
+                    }
+                }
+                coefficient = coefficient * 10 + (c - '0');
+                digits++;
+                if (in_fraction) {
+                    fraction_digits++;
+                }
+            }
+            else if (c == '.' && !in_fraction) {
+                in_fraction = true;
+            }
+            else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+
+        long exponent = 0;
+        if (ii < len) {
+            char c = image.charAt(ii++);
+            if (c != 'd' && c != 'D' && c != 'e' && c != 'E') {
+                return false;
+            }
+            boolean negative_exponent = false;
+            if (ii < len && (image.charAt(ii) == '-' || image.charAt(ii) == '+')) {
+                negative_exponent = image.charAt(ii) == '-';
+                ii++;
+            }
+            int exponent_digits = len - ii;
+            if (exponent_digits == 0 || exponent_digits > MAX_EXPONENT_DIGITS) {
+                return false;
+            }
+            for (; ii < len; ii++) {
+                c = image.charAt(ii);
+                if (c < '0' || c > '9') {
+                    return false;
+                }
+                exponent = exponent * 10 + (c - '0');
+            }
+            if (negative_exponent) {
+                exponent = -exponent;
+            }
+        }
+
+        _number_coefficient = coefficient;
+        _number_negative = negative;
+        _number_exponent = exponent - fraction_digits;
+        return true;
+    }
+
+    private final void load_decimal_value(StringBuilder image)
+    {
+        if (scan_number(image)
+            && -_number_exponent >= Integer.MIN_VALUE
+            && -_number_exponent <= Integer.MAX_VALUE)
+        {
+            int scale = (int) -_number_exponent;
+            if (_number_coefficient == 0 && _number_negative) {
+                _v.setValue(Decimal.negativeZero(scale));
+            }
+            else {
+                long unscaled = _number_negative
+                              ? -_number_coefficient
+                              : _number_coefficient;
+                // Decimal only takes a scale along with a BigInteger.
+                _v.setValue(scale == 0
+                            ? Decimal.valueOf(unscaled)
+                            : Decimal.valueOf(BigInteger.valueOf(unscaled), scale));
+            }
+            return;
+        }
+
+        // BigDecimal doesn't accept Ion's 'd' exponent marker.
+        for (int ii=0; ii<image.length(); ii++) {
+            int c = image.charAt(ii);
+            if (c == 'd' || c == 'D') {
+                image.setCharAt(ii, 'e');
+                break;
+            }
+        }
+        try {
+            _v.setValue(Decimal.valueOf(image.toString()));
+        }
+        catch (NumberFormatException e) {
+            parse_error(e);
+        }
+    }
+
+    /** Largest coefficient a double holds exactly. */
+    private static final long MAX_EXACT_DOUBLE_COEFFICIENT = 1L << 53;
+
+    /** Every power of ten that a double holds exactly. */
+    private static final double[] EXACT_DOUBLE_POWERS_OF_TEN = {
+        1e0,  1e1,  1e2,  1e3,  1e4,  1e5,  1e6,  1e7,
+        1e8,  1e9,  1e10, 1e11, 1e12, 1e13, 1e14, 1e15,
+        1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * When both the coefficient and the power of ten are exact doubles a
+     * single multiply or divide is correctly rounded, so those (by far the
+     * most common) values skip {@link Double#parseDouble(String)}.
+     */
+    private final void load_float_value(StringBuilder image)
+    {
+        if (scan_number(image)) {
+            long coefficient = _number_coefficient;
+            long exponent = _number_exponent;
+            int max_power = EXACT_DOUBLE_POWERS_OF_TEN.length - 1;
+
+            // Move surplus powers of ten into the coefficient while it
+            // stays exact, so 12e25 is computed as 12000e22.
+            while (exponent > max_power
+                   && coefficient != 0
+                   && coefficient < MAX_EXACT_DOUBLE_COEFFICIENT / 10) {
+                coefficient *= 10;
+                exponent--;
+            }
+
+            if (coefficient == 0) {
+                // zero at any exponent, keeping its sign
+                _v.setValue(_number_negative ? -0d : 0d);
+                return;
+            }
+            if (coefficient <= MAX_EXACT_DOUBLE_COEFFICIENT
+                && exponent >= -max_power
+                && exponent <= max_power) {
+                double value = coefficient;
+                if (exponent < 0) {
+                    value /= EXACT_DOUBLE_POWERS_OF_TEN[(int) -exponent];
+                }
+                else {
+                    value *= EXACT_DOUBLE_POWERS_OF_TEN[(int) exponent];
+                }
+                _v.setValue(_number_negative ? -value : value);
+                return;
+            }
+        }
+
+        try {
+            _v.setValue(Double.parseDouble(image.toString()));
+        }
+        catch (NumberFormatException e) {
+            parse_error(e);
+        }
+    }
+
     private final void cast_cached_value(int new_type)
     {
         // this should only be called when it actually has to do some work
@@ -631,6 +807,12 @@ class IonReaderTextSystemX
         return id;
     }
 
+    public final int getRawFieldId()
+    {
+        // Superclass handles hoisting logic, and doesn't look up the text
+        return super.getFieldId();
+    }
+
     @Override
     public final String getFieldName()
     {
@@ -987,6 +1169,99 @@ class IonReaderTextSystemX
         this.stepOut();
     }
 
+    @Override
+    public <T> T asFacet(Class<T> facetType)
+    {
+        if (facetType == PrivateTranscodingReader.class)
+        {
+            if (_transcoding_facet == null)
+            {
+                _transcoding_facet = new TranscodingReaderFacet();
+            }
+            return facetType.cast(_transcoding_facet);
+        }
+
+        return super.asFacet(facetType);
+    }
+
+    /**
+     * Hands out numbers and strings straight from the token buffer. Since
+     * that buffer stays loaded until the reader moves, the usual value
+     * accessors still work afterwards.
+     */
+    private final class TranscodingReaderFacet
+        implements PrivateTranscodingReader
+    {
+        private long _unscaled;
+        private int  _scale;
+
+        private StringBuilder current_token(IonType type)
+        {
+            if (_value_type != type || _v.isNull()) {
+                throw new IllegalStateException("current value is not a non-null "
+                                                + type);
+            }
+            try {
+                return token_contents_load(_scanner.getToken());
+            }
+            catch (IOException e) {
+                throw new IonException(e);
+            }
+        }
+
+        public CharSequence stringChars()
+        {
+            if (!_v.isEmpty() && _value_type == IonType.STRING) {
+                return _v.getString();
+            }
+            return current_token(IonType.STRING);
+        }
+
+        public boolean loadDecimal()
+        {
+            if (!_v.isEmpty() && _value_type == IonType.DECIMAL) {
+                return false;
+            }
+            StringBuilder image = current_token(IonType.DECIMAL);
+            if (!scan_number(image)
+                || -_number_exponent < Integer.MIN_VALUE
+                || -_number_exponent > Integer.MAX_VALUE
+                || (_number_coefficient == 0 && _number_negative))
+            {
+                return false;
+            }
+            _unscaled = _number_negative
+                      ? -_number_coefficient
+                      : _number_coefficient;
+            _scale = (int) -_number_exponent;
+            return true;
+        }
+
+        public long decimalUnscaledValue()
+        {
+            return _unscaled;
+        }
+
+        public int decimalScale()
+        {
+            return _scale;
+        }
+
+        public byte[] lobArray()
+        {
+            if (!IonType.isLob(_value_type) || _v.isNull()) {
+                throw new IllegalStateException("current value is not a non-null lob");
+            }
+            // lob text has to be decoded
+            return null;
+        }
+
+        public int lobOffset()
+        {
+            throw new IllegalStateException("no lob array");
+        }
+    }
+
     // system readers don't skip any symbol tables
     public SymbolTable pop_passed_symbol_table()
     {
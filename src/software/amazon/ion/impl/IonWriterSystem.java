@@ -45,6 +45,12 @@ abstract class IonWriterSystem
      */
     private InitialIvmHandling _initial_ivm_handling;
 
+    /**
+     * The configured {@link #_initial_ivm_handling}, restored by
+     * {@link #reset()}.
+     */
+    private final InitialIvmHandling _configured_ivm_handling;
+
     /**
      * What to do about non-initial IVMs.
      */
@@ -92,6 +98,7 @@ abstract class IonWriterSystem
         _default_system_symbol_table = defaultSystemSymbolTable;
         _symbol_table = defaultSystemSymbolTable;
         _initial_ivm_handling = initialIvmHandling;
+        _configured_ivm_handling = initialIvmHandling;
         _ivm_minimizing = ivmMinimizing;
     }
 
@@ -325,6 +332,23 @@ abstract class IonWriterSystem
         _symbol_table = _default_system_symbol_table;
     }
 
+    /**
+     * Returns this writer to the state it had when constructed, so that the
+     * next stream starts exactly like the first one did.
+     * The caller must have called {@link #finish()}.
+     */
+    void reset()
+    {
+        assert getDepth() == 0;
+
+        _initial_ivm_handling = _configured_ivm_handling;
+        _previous_value_was_ivm = false;
+        _anything_written = false;
+        _symbol_table = _default_system_symbol_table;
+        clearFieldName();
+        clearAnnotations();
+    }
+
 
     //========================================================================
     // Field names
@@ -25,7 +25,9 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import software.amazon.ion.IonException;
 import software.amazon.ion.IonReader;
+import software.amazon.ion.IntegerSize;
 import software.amazon.ion.IonType;
+import software.amazon.ion.PrimitiveValueReader;
 import software.amazon.ion.SymbolTable;
 import software.amazon.ion.SymbolToken;
 import software.amazon.ion.Timestamp;
@@ -654,6 +656,12 @@ class IonWriterSystemText
 
     public void writeString(String value)
         throws IOException
+    {
+        writeString((CharSequence) value);
+    }
+
+    private void writeString(CharSequence value)
+        throws IOException
     {
         startValue();
         if (value != null
@@ -745,6 +753,136 @@ class IonWriterSystemText
     }
 
 
+    /** Scratch space for LOBs copied from binary readers. */
+    private byte[] _lob_bytes;
+
+    @Override
+    boolean transcodeScalar(IonType type, IonReaderBinarySystemX reader)
+        throws IOException
+    {
+        switch (type)
+        {
+            case INT:
+            {
+                if (reader.getIntegerSize() == IntegerSize.BIG_INTEGER)
+                {
+                    return false;
+                }
+                writeInt(reader.longValue());
+                return true;
+            }
+            case DECIMAL:
+            {
+                if (! reader.loadDecimalFields())
+                {
+                    return false;
+                }
+                long unscaled = reader._decimal_unscaled;
+                startValue();
+                _output.printDecimal(_options,
+                                     unscaled < 0 || reader._decimal_negative_zero,
+                                     Math.abs(unscaled),
+                                     reader._decimal_scale);
+                closeValue();
+                return true;
+            }
+            case TIMESTAMP:
+            {
+                if (! reader.loadTimestampFields())
+                {
+                    return false;
+                }
+                int offset = reader.timestampOffsetMinutes();
+                boolean offsetKnown =
+                    (offset != PrimitiveValueReader.UNKNOWN_OFFSET);
+                if (offsetKnown && Math.abs(offset) >= 24 * 60)
+                {
+                    return false;
+                }
+
+                startValue();
+                if (_options._timestamp_as_millis)
+                {
+                    _output.printInt(reader.timestampMillis());
+                }
+                else
+                {
+                    if (_options._timestamp_as_string)
+                    {
+                        _output.appendAscii('"');
+                    }
+                    boolean hasFraction = reader._timestamp_has_fraction;
+                    _output.printTimestamp(reader._timestamp_precision,
+                                           reader._timestamp_year,
+                                           reader._timestamp_month,
+                                           reader._timestamp_day,
+                                           reader._timestamp_hour,
+                                           reader._timestamp_minute,
+                                           reader._timestamp_second,
+                                           hasFraction ? reader._decimal_unscaled : 0,
+                                           hasFraction ? reader._decimal_scale : 0,
+                                           offsetKnown,
+                                           offset);
+                    if (_options._timestamp_as_string)
+                    {
+                        _output.appendAscii('"');
+                    }
+                }
+                closeValue();
+                return true;
+            }
+            case STRING:
+            {
+                writeString(reader.stringChars());
+                return true;
+            }
+            case SYMBOL:
+            {
+                String text =
+                    reader.getSymbolTable().findKnownSymbol(reader.getSymbolId());
+                if (text == null)
+                {
+                    return false;
+                }
+                writeSymbol(text);
+                return true;
+            }
+            case BLOB:
+            case CLOB:
+            {
+                int len = reader.byteSize();
+                int offset = 0;
+                byte[] bytes = reader.lobArray();
+                if (bytes != null)
+                {
+                    // copy in place, leaving the lob readable
+                    offset = reader.lobOffset();
+                }
+                else
+                {
+                    bytes = _lob_bytes;
+                    if (bytes == null || bytes.length < len)
+                    {
+                        bytes = _lob_bytes = new byte[len];
+                    }
+                    reader.getBytes(bytes, 0, len);
+                }
+                if (type == IonType.BLOB)
+                {
+                    writeBlob(bytes, offset, len);
+                }
+                else
+                {
+                    writeClob(bytes, offset, len);
+                }
+                return true;
+            }
+            default:
+                return false;
+        }
+    }
+
+
     /**
      * {@inheritDoc}
      * <p>
@@ -758,6 +896,36 @@ class IonWriterSystemText
         }
     }
 
+    /**
+     * Indicates whether {@link #reset(OutputStream)} is supported.
+     */
+    boolean isResettable()
+    {
+        return _output.isResettable();
+    }
+
+    /**
+     * Directs further output to another stream, as if this writer had been
+     * newly constructed for it. The caller must have called {@link #finish()}.
+     *
+     * @throws UnsupportedOperationException if not {@link #isResettable()}.
+     * @throws IllegalStateException if this writer is closed.
+     */
+    void reset(OutputStream out)
+    {
+        if (_closed) {
+            throw new IllegalStateException("Cannot reset a closed writer");
+        }
+        _output.reset(out);
+        reset();
+
+        _in_struct = false;
+        _pending_separator = false;
+        _is_writing_ivm = false;
+        _following_long_string = false;
+        _separator_character = _options.isPrettyPrintOn() ? '\n' : ' ';
+    }
+
     public void close() throws IOException
     {
         if (! _closed) {
@@ -18,16 +18,19 @@ import static software.amazon.ion.SystemSymbols.ION_SYMBOL_TABLE;
 import static software.amazon.ion.SystemSymbols.ION_SYMBOL_TABLE_SID;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import software.amazon.ion.IonCatalog;
 import software.amazon.ion.IonException;
 import software.amazon.ion.IonStruct;
 import software.amazon.ion.IonType;
+import software.amazon.ion.ResettableWriter;
 import software.amazon.ion.SymbolTable;
 import software.amazon.ion.SymbolToken;
 import software.amazon.ion.Timestamp;
 import software.amazon.ion.ValueFactory;
+import software.amazon.ion.facet.Faceted;
 
 /**
  * This writer handles the symbol table processing and
@@ -48,7 +51,7 @@ import software.amazon.ion.ValueFactory;
  */
 class IonWriterUser
     extends PrivateIonWriterBase
-    implements PrivateIonWriter
+    implements PrivateIonWriter, Faceted
 {
     /** Factory for constructing the DOM of local symtabs. Not null. */
     private final ValueFactory _symtab_value_factory;
@@ -77,6 +80,14 @@ class IonWriterUser
      */
     private IonStruct _symbol_table_value;
 
+    /**
+     * The symtab given at construction, installed again on
+     * {@link ResettableWriter#reset(OutputStream)}. Local tables are held as
+     * a private copy, since the writer may add symbols to the one it uses.
+     * Null when the writer started with its default system symtab.
+     */
+    private SymbolTable _initial_symbol_table;
+
 
 
     /**
@@ -129,6 +140,7 @@ class IonWriterUser
 
         if (symtab.isLocalTable() || symtab != defaultSystemSymtab)
         {
+            _initial_symbol_table = snapshot(symtab);
             try {
                 setSymbolTable(symtab);
             }
@@ -141,6 +153,49 @@ class IonWriterUser
                _system_writer == systemWriter;
     }
 
+    private static SymbolTable snapshot(SymbolTable symtab)
+    {
+        if (symtab.isReadOnly() || ! (symtab instanceof LocalSymbolTable))
+        {
+            return symtab;
+        }
+        return ((LocalSymbolTable) symtab).makeCopy();
+    }
+
+    //========================================================================
+
+    public <T> T asFacet(Class<T> facetType)
+    {
+        if (facetType == ResettableWriter.class
+            && _system_writer instanceof IonWriterSystemText
+            && ((IonWriterSystemText) _system_writer).isResettable())
+        {
+            return facetType.cast(new ResettableWriterFacet());
+        }
+        return null;
+    }
+
+    private class ResettableWriterFacet
+        implements ResettableWriter
+    {
+        public void reset(OutputStream out)
+            throws IOException
+        {
+            out.getClass(); // Efficient null check
+
+            finish();
+
+            ((IonWriterSystemText) _system_writer).reset(out);
+            _current_writer = _system_writer;
+            _symbol_table_value = null;
+
+            if (_initial_symbol_table != null)
+            {
+                setSymbolTable(snapshot(_initial_symbol_table));
+            }
+        }
+    }
+
     //========================================================================
 
     public IonCatalog getCatalog()
@@ -476,4 +531,11 @@ class IonWriterUser
     {
         _current_writer.writeTimestamp(value);
     }
+
+    @Override
+    boolean transcodeScalar(IonType type, IonReaderBinarySystemX reader)
+        throws IOException
+    {
+        return _current_writer.transcodeScalar(type, reader);
+    }
 }
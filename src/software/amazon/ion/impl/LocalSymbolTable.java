@@ -28,10 +28,8 @@ import static software.amazon.ion.impl.PrivateUtils.safeEquals;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.NoSuchElementException;
 import software.amazon.ion.IonCatalog;
 import software.amazon.ion.IonException;
@@ -102,26 +100,32 @@ class LocalSymbolTable
     /**
      * Map of symbol names to symbol ids of local symbols that are not in
      * imports.
+     * <p>
+     * Lookups are lock-free. Symbols are only added while holding the
+     * monitor of this symtab, which makes this the single writer that
+     * {@link SymbolIdMap} requires. A symbol's entry in
+     * {@link #mySymbolNames} is written before it is added here.
      */
-    private final Map<String, Integer> mySymbolsMap;
+    private final SymbolIdMap mySymbolsMap;
 
     /**
      * Whether this symbol table is read only, and thus, immutable.
      */
-    private boolean isReadOnly;
+    private volatile boolean isReadOnly;
 
     /**
      * The local symbol names declared in this symtab; never null.
      * The sid of the first element is {@link #myFirstLocalSid}.
      * Only the first {@link #mySymbolsCount} elements are valid.
+     * Replaced (not modified) when it needs to grow.
      */
-    String[] mySymbolNames;
+    volatile String[] mySymbolNames;
 
     /**
      * This is the number of symbols defined in this symbol table
      * locally, that is not imported from some other table.
      */
-    int mySymbolsCount;
+    volatile int mySymbolsCount;
 
     /**
      * The sid of the first local symbol, which is stored at
@@ -141,7 +145,7 @@ class LocalSymbolTable
             String symbolText = mySymbolNames[i];
             if (symbolText != null)
             {
-                putToMapIfNotThere(mySymbolsMap, symbolText, sid);
+                mySymbolsMap.putIfAbsent(symbolText, sid);
             }
         }
     }
@@ -168,7 +172,7 @@ class LocalSymbolTable
         myFirstLocalSid = myImportsList.getMaxId() + 1;
 
         // Copy locally declared symbols to mySymbolsMap
-        mySymbolsMap = new HashMap<String, Integer>();
+        mySymbolsMap = new SymbolIdMap(mySymbolsCount);
         buildSymbolsMap();
     }
 
@@ -189,11 +193,11 @@ class LocalSymbolTable
         if (maxId == other.getMaxId())
         {
             // Shallow copy
-            mySymbolsMap = new HashMap<String, Integer>(other.mySymbolsMap);
+            mySymbolsMap = new SymbolIdMap(other.mySymbolsMap);
         }
         else
         {
-            mySymbolsMap = new HashMap<String, Integer>(mySymbolsCount);
+            mySymbolsMap = new SymbolIdMap(mySymbolsCount);
             buildSymbolsMap();
         }
     }
@@ -336,7 +340,7 @@ class LocalSymbolTable
         return false;
     }
 
-    public synchronized boolean isReadOnly()
+    public boolean isReadOnly()
     {
         return isReadOnly;
     }
@@ -351,7 +355,7 @@ class LocalSymbolTable
         return myImportsList.getMaxId();
     }
 
-    public synchronized int getMaxId()
+    public int getMaxId()
     {
         int maxid = mySymbolsCount + myImportsList.getMaxId();
         return maxid;
@@ -395,12 +399,9 @@ class LocalSymbolTable
         {
             int offset = id - myFirstLocalSid;
 
-            String[] names;
-            synchronized (this)
-            {
-                names = mySymbolNames;
-            }
-
+            // A symbol still being added may not be visible yet, in which
+            // case it's unknown.
+            String[] names = mySymbolNames;
             if (offset < names.length)
             {
                 name = names[offset];
@@ -426,29 +427,26 @@ class LocalSymbolTable
 
     private int findLocalSymbol(String name)
     {
-        Integer isid;
-        synchronized (this)
-        {
-            isid = mySymbolsMap.get(name);
-        }
-
-        if (isid != null)
-        {
-            assert isid != UNKNOWN_SYMBOL_ID;
-            return isid;
-        }
-        return UNKNOWN_SYMBOL_ID;
+        return mySymbolsMap.get(name);
     }
 
 
-    public synchronized SymbolToken intern(String text)
+    public SymbolToken intern(String text)
     {
         SymbolToken is = find(text);
         if (is == null)
         {
             validateSymbol(text);
-            int sid = putSymbol(text);
-            is = new SymbolTokenImpl(text, sid);
+            synchronized (this)
+            {
+                // Another thread may have added it since we looked.
+                is = find(text);
+                if (is == null)
+                {
+                    int sid = putSymbol(text);
+                    is = new SymbolTokenImpl(text, sid);
+                }
+            }
         }
         return is;
     }
@@ -463,19 +461,19 @@ class LocalSymbolTable
         // Look in local symbols
         if (symTok == null)
         {
-            Integer  sid;
-            String[] names;
-            synchronized (this)
-            {
-                sid = mySymbolsMap.get(text);
-                names = mySymbolNames;
-            }
-
-            if (sid != null)
+            int sid = mySymbolsMap.get(text);
+            if (sid != UNKNOWN_SYMBOL_ID)
             {
+                // The name was stored before the sid was published, so it's
+                // visible here unless we raced with the writer.
                 int offset = sid - myFirstLocalSid;
-                String internedText = names[offset];
-                assert internedText != null;
+                String[] names = mySymbolNames;
+                String internedText =
+                    (offset < names.length ? names[offset] : null);
+                if (internedText == null)
+                {
+                    internedText = text;
+                }
                 symTok = new SymbolTokenImpl(internedText, sid);
             }
         }
@@ -540,36 +538,23 @@ class LocalSymbolTable
             mySymbolNames = temp;
         }
 
+        // Store the name before publishing the sid; see mySymbolsMap.
+        mySymbolNames[mySymbolsCount] = symbolName;
+
         int sid = -1;
         if (symbolName != null)
         {
             sid = mySymbolsCount + myFirstLocalSid;
             assert sid == getMaxId() + 1;
 
-            putToMapIfNotThere(mySymbolsMap, symbolName, sid);
+            // When there's a duplicate name, the lower sid is retained.
+            mySymbolsMap.putIfAbsent(symbolName, sid);
         }
-        mySymbolNames[mySymbolsCount] = symbolName;
         mySymbolsCount++;
 
         return sid;
     }
 
-    private static void putToMapIfNotThere(Map<String, Integer> symbolsMap,
-                                           String text,
-                                           int sid)
-    {
-        // When there's a duplicate name, don't replace the lower sid.
-        // This pattern avoids double-lookup in the normal happy case
-        // and only requires a second lookup when there's a duplicate.
-        Integer extantSid = symbolsMap.put(text, sid);
-        if (extantSid != null)
-        {
-            // We always insert symbols with increasing sids
-            assert extantSid < sid;
-            symbolsMap.put(text, extantSid);
-        }
-    }
-
     public SymbolTable getSystemSymbolTable()
     {
         return myImportsList.getSystemSymbolTable();
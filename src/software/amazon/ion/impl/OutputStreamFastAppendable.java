@@ -31,7 +31,7 @@ final class OutputStreamFastAppendable
 {
     private static final int MAX_BYTES_LEN = 4096;
 
-    private final OutputStream _out;
+    private OutputStream _out;
 
     /** Aggregates bytes so we can write to {@link #_out} in large batches. */
     private final byte[] _byteBuffer;
@@ -195,4 +195,16 @@ final class OutputStreamFastAppendable
             _out.close();
         }
     }
+
+    /**
+     * Directs further output to another stream, keeping the buffer.
+     * Anything not yet flushed is discarded.
+     */
+    final void reset(OutputStream out)
+    {
+        out.getClass(); // Efficient null check
+
+        _out = out;
+        _pos = 0;
+    }
 }
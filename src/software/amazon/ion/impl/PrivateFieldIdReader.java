@@ -0,0 +1,37 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl;
+
+import software.amazon.ion.SymbolTable;
+
+/**
+ * Implemented by readers that can report the symbol ID a field name was
+ * encoded with, without resolving its text.
+ *
+ * @deprecated This is an internal API that is subject to change without notice.
+ */
+@Deprecated
+public interface PrivateFieldIdReader
+{
+    /**
+     * Returns the symbol ID of the current field name, relative to the
+     * reader's current symbol table, exactly as it appeared in the input.
+     *
+     * @return {@link SymbolTable#UNKNOWN_SYMBOL_ID} if the current value
+     *  has no field name or it was given as text.
+     */
+    public int getRawFieldId();
+}
@@ -18,15 +18,14 @@ import java.io.IOException;
 import java.io.OutputStream;
 import software.amazon.ion.IonCatalog;
 import software.amazon.ion.IonException;
-import software.amazon.ion.IonSystem;
 import software.amazon.ion.IonWriter;
 import software.amazon.ion.SubstituteSymbolTableException;
 import software.amazon.ion.SymbolTable;
 import software.amazon.ion.ValueFactory;
 import software.amazon.ion.impl.bin.PrivateIonManagedBinaryWriterBuilder;
 import software.amazon.ion.impl.bin.PrivateIonManagedBinaryWriterBuilder.AllocatorMode;
+import software.amazon.ion.system.BlockPool;
 import software.amazon.ion.system.IonBinaryWriterBuilder;
-import software.amazon.ion.system.IonSystemBuilder;
 
 /**
  * @deprecated This is an internal API that is subject to change without notice.
@@ -95,6 +94,16 @@ public class PrivateIonBinaryWriterBuilder
     }
 
 
+    //=========================================================================
+
+
+    @Override
+    public BlockPool getBlockPool()
+    {
+        return myBinaryWriterBuilder.getBlockPool();
+    }
+
+
     //=========================================================================
 
     // TODO The symtab value factory should not be needed.
@@ -241,23 +250,6 @@ public class PrivateIonBinaryWriterBuilder
     //=========================================================================
 
 
-    /**
-     * Fills all properties and returns an immutable builder.
-     */
-    private PrivateIonBinaryWriterBuilder fillDefaults()
-    {
-        // Ensure that we don't modify the user's builder.
-        PrivateIonBinaryWriterBuilder b = copy();
-
-        if (b.getSymtabValueFactory() == null)
-        {
-            IonSystem system = IonSystemBuilder.standard().build();
-            b.setSymtabValueFactory(system);
-        }
-
-        return b.immutable();
-    }
-
     /**
      * Returns a symtab usable in a local context.
      * This copies {@link #myInitialSymbolTable} if symbols have been added to
@@ -277,10 +269,12 @@ public class PrivateIonBinaryWriterBuilder
     @Override
     public final IonWriter build(OutputStream out)
     {
-        PrivateIonBinaryWriterBuilder b = fillDefaults();
+        // The managed builder is kept in sync by our setters, and the writer
+        // takes what it needs from it at construction, so there's no need to
+        // copy this builder (or create an IonSystem) for each writer.
         try
         {
-            return b.myBinaryWriterBuilder.newWriter(out);
+            return myBinaryWriterBuilder.newWriter(out);
         }
         catch (final IOException e)
         {
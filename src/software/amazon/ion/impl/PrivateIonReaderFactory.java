@@ -14,6 +14,7 @@
 
 package software.amazon.ion.impl;
 
+import static software.amazon.ion.impl.PrivateIonConstants.BINARY_VERSION_MARKER_1_0;
 import static software.amazon.ion.impl.PrivateIonConstants.BINARY_VERSION_MARKER_SIZE;
 import static software.amazon.ion.impl.UnifiedInputStreamX.makeStream;
 import static software.amazon.ion.util.IonStreamUtils.isIonBinary;
@@ -22,12 +23,16 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.util.zip.GZIPInputStream;
 import software.amazon.ion.IonCatalog;
 import software.amazon.ion.IonException;
 import software.amazon.ion.IonReader;
 import software.amazon.ion.IonSystem;
 import software.amazon.ion.IonValue;
+import software.amazon.ion.OffsetSpan;
+import software.amazon.ion.SymbolTable;
+import software.amazon.ion.system.StringCache;
 import software.amazon.ion.util.IonStreamUtils;
 
 /**
@@ -192,6 +197,23 @@ public final class PrivateIonReaderFactory
         }
     }
 
+    /**
+     * Creates a reader over binary Ion data that may arrive in pieces; see
+     * {@link IonReaderBinaryIncrementalX}.
+     */
+    public static final IonReader makeIncrementalReader(IonCatalog catalog,
+                                                        InputStream is)
+    {
+        return makeIncrementalReader(catalog, is, LocalSymbolTable.DEFAULT_LST_FACTORY);
+    }
+
+    public static final IonReader makeIncrementalReader(IonCatalog catalog,
+                                                        InputStream is,
+                                                        PrivateLocalSymbolTableFactory lstFactory)
+    {
+        return new IonReaderBinaryIncrementalX(catalog, lstFactory, is);
+    }
+
     public static IonReader makeSystemReader(InputStream is)
     {
         try {
@@ -203,6 +225,90 @@ public final class PrivateIonReaderFactory
         }
     }
 
+    public static final IonReader makeReader(IonCatalog catalog,
+                                             ByteBuffer buffer)
+    {
+        return makeReader(catalog, buffer, LocalSymbolTable.DEFAULT_LST_FACTORY);
+    }
+
+    /**
+     * Binary data in a buffer without an accessible backing array (direct,
+     * memory-mapped or read-only) is read in place; text and GZIPped data
+     * is streamed from it.
+     */
+    public static final IonReader makeReader(IonCatalog catalog,
+                                             ByteBuffer buffer,
+                                             PrivateLocalSymbolTableFactory lstFactory)
+    {
+        if (buffer.hasArray())
+        {
+            return makeReader(catalog,
+                              buffer.array(),
+                              buffer.arrayOffset() + buffer.position(),
+                              buffer.remaining(),
+                              lstFactory);
+        }
+
+        ByteBuffer data = buffer.slice();
+        if (cookieMatches(BINARY_VERSION_MARKER_1_0, data))
+        {
+            UnifiedInputStreamX uis = UnifiedInputStreamX.makeStream(data);
+            return new IonReaderBinaryUserX(catalog, lstFactory, uis, 0);
+        }
+        return makeReader(catalog, new ByteBufferInputStream(data), lstFactory);
+    }
+
+    /**
+     * Reads the top-level values of binary data that lie between the
+     * {@link OffsetSpan} offsets {@code start} and {@code finish}, with
+     * {@code symbols} in effect at {@code start}. The data must not be
+     * GZIPped, and need not begin with an IVM.
+     */
+    public static final IonReader makeSegmentReader(IonCatalog catalog,
+                                                    byte[] bytes,
+                                                    int offset,
+                                                    int length,
+                                                    long start,
+                                                    long finish,
+                                                    SymbolTable symbols)
+    {
+        UnifiedInputStreamX uis = makeStream(bytes, offset, length);
+        IonReaderBinaryUserX r =
+            new IonReaderBinaryUserX(catalog,
+                                     LocalSymbolTable.DEFAULT_LST_FACTORY,
+                                     uis, offset);
+        r.restrictTo(start, finish, symbols);
+        return r;
+    }
+
+    /**
+     * As {@link #makeSegmentReader(IonCatalog, byte[], int, int, long, long, SymbolTable)},
+     * with offsets relative to the buffer's position.
+     */
+    public static final IonReader makeSegmentReader(IonCatalog catalog,
+                                                    ByteBuffer buffer,
+                                                    long start,
+                                                    long finish,
+                                                    SymbolTable symbols)
+    {
+        if (buffer.hasArray())
+        {
+            return makeSegmentReader(catalog,
+                                     buffer.array(),
+                                     buffer.arrayOffset() + buffer.position(),
+                                     buffer.remaining(),
+                                     start, finish, symbols);
+        }
+
+        UnifiedInputStreamX uis = makeStream(buffer.slice());
+        IonReaderBinaryUserX r =
+            new IonReaderBinaryUserX(catalog,
+                                     LocalSymbolTable.DEFAULT_LST_FACTORY,
+                                     uis, 0);
+        r.restrictTo(start, finish, symbols);
+        return r;
+    }
+
     public static final IonReader makeReader(IonCatalog catalog,
                                              Reader chars)
     {
@@ -250,6 +356,37 @@ public final class PrivateIonReaderFactory
     }
 
 
+    /**
+     * Creates a {@link StringCache} for {@link #setStringCache}.
+     *
+     * @param maxEntries must be positive; rounded up to a power of two.
+     */
+    public static final StringCache makeStringCache(int maxEntries)
+    {
+        return new Utf8StringCache(maxEntries);
+    }
+
+    /**
+     * Makes a binary reader created by this factory share {@code cache},
+     * which must come from {@link #makeStringCache(int)}. Other readers do
+     * not use a cache and are left unchanged.
+     *
+     * @return the given reader.
+     */
+    public static final IonReader setStringCache(IonReader reader,
+                                                 StringCache cache)
+    {
+        Utf8StringCache c = (Utf8StringCache) cache;
+        if (reader instanceof IonReaderBinaryRawX) {
+            ((IonReaderBinaryRawX) reader).setStringCache(c);
+        }
+        else if (reader instanceof IonReaderBinaryIncrementalX) {
+            ((IonReaderBinaryIncrementalX) reader).setStringCache(c);
+        }
+        return reader;
+    }
+
+
     //=========================================================================
 
 
@@ -321,6 +458,16 @@ public final class PrivateIonReaderFactory
         return uis;
     }
 
+    private static boolean cookieMatches(byte[] cookie, ByteBuffer buffer)
+    {
+        if (buffer.limit() < cookie.length) return false;
+        for (int i = 0; i < cookie.length; i++)
+        {
+            if (cookie[i] != buffer.get(i)) return false;
+        }
+        return true;
+    }
+
     private static final boolean has_binary_cookie(UnifiedInputStreamX uis)
         throws IOException
     {
@@ -29,6 +29,7 @@ import java.math.BigInteger;
 import java.nio.CharBuffer;
 import java.nio.charset.Charset;
 import software.amazon.ion.Decimal;
+import software.amazon.ion.Timestamp.Precision;
 import software.amazon.ion.impl.Base64Encoder.TextStream;
 import software.amazon.ion.system.IonTextWriterBuilder;
 import software.amazon.ion.util.PrivateFastAppendable;
@@ -223,6 +224,10 @@ public final class PrivateIonTextAppender
     private final PrivateFastAppendable myAppendable;
     private final boolean escapeNonAscii;
 
+    /** Scratch space for numbers, so that printing them doesn't allocate. */
+    private final char[]     myNumberChars  = new char[TextNumberFormatter.MAX_CHARS];
+    private final CharBuffer myNumberBuffer = CharBuffer.wrap(myNumberChars);
+
 
     PrivateIonTextAppender(PrivateFastAppendable out, boolean escapeNonAscii)
     {
@@ -299,6 +304,29 @@ public final class PrivateIonTextAppender
         }
     }
 
+    /**
+     * Indicates whether {@link #reset(OutputStream)} is supported, that is
+     * whether this appender was created over an {@link OutputStream}.
+     */
+    boolean isResettable()
+    {
+        return myAppendable instanceof OutputStreamFastAppendable;
+    }
+
+    /**
+     * Directs further output to another stream. The caller must have flushed.
+     *
+     * @throws UnsupportedOperationException if not {@link #isResettable()}.
+     */
+    void reset(OutputStream out)
+    {
+        if (! isResettable())
+        {
+            throw new UnsupportedOperationException();
+        }
+        ((OutputStreamFastAppendable) myAppendable).reset(out);
+    }
+
 
     public void appendAscii(char c)
         throws IOException
@@ -732,7 +760,6 @@ public final class PrivateIonTextAppender
         if (signum < 0)
         {
             appendAscii('-');
-            unscaled = unscaled.negate();
         }
         else if (value instanceof Decimal
              && ((Decimal)value).isNegativeZero())
@@ -743,21 +770,72 @@ public final class PrivateIonTextAppender
             appendAscii('-');
         }
 
-        final String unscaledText = unscaled.toString();
-        final int significantDigits = unscaledText.length();
+        // Format coefficients that fit in a long straight into our scratch
+        // buffer; only larger ones need BigInteger's string conversion.
+        final CharSequence unscaledText;
+        final int significantDigits;
+        if (unscaled.bitLength() < 63)
+        {
+            long magnitude = Math.abs(unscaled.longValue());
+            significantDigits =
+                TextNumberFormatter.formatLong(magnitude, myNumberChars, 0);
+            unscaledText = myNumberBuffer;
+        }
+        else
+        {
+            String text = unscaled.abs().toString();
+            significantDigits = text.length();
+            unscaledText = text;
+        }
+
+        printDecimalDigits(_options, unscaledText, significantDigits,
+                           value.scale());
+    }
+
+    /**
+     * Prints a decimal from its sign, the magnitude of its coefficient and
+     * its scale, without creating a {@link BigDecimal}.
+     *
+     * @param negative whether to print a minus sign, which must be true for
+     * negative zero.
+     * @param magnitude must not be negative.
+     */
+    public void printDecimal(PrivateIonTextWriterBuilder _options,
+                             boolean                       negative,
+                             long                          magnitude,
+                             int                           scale)
+        throws IOException
+    {
+        if (negative)
+        {
+            appendAscii('-');
+        }
+        int significantDigits =
+            TextNumberFormatter.formatLong(magnitude, myNumberChars, 0);
+        printDecimalDigits(_options, myNumberBuffer, significantDigits, scale);
+    }
 
-        final int scale = value.scale();
+    /**
+     * Prints a decimal whose sign has been printed already, given the digits
+     * of its coefficient.
+     */
+    private void printDecimalDigits(PrivateIonTextWriterBuilder _options,
+                                    CharSequence                  unscaledText,
+                                    int                           significantDigits,
+                                    int                           scale)
+        throws IOException
+    {
         final int exponent = -scale;
 
         if (_options._decimal_as_float)
         {
-            appendAscii(unscaledText);
+            appendAscii(unscaledText, 0, significantDigits);
             appendAscii('e');
-            appendAscii(Integer.toString(exponent));
+            printInt(exponent);
         }
         else if (exponent == 0)
         {
-            appendAscii(unscaledText);
+            appendAscii(unscaledText, 0, significantDigits);
             appendAscii('.');
         }
         else if (exponent < 0)
@@ -778,23 +856,40 @@ public final class PrivateIonTextAppender
             {
                 appendAscii("0.");
                 appendAscii("00000", 0, scale - significantDigits);
-                appendAscii(unscaledText);
+                appendAscii(unscaledText, 0, significantDigits);
             }
             else
             {
-                appendAscii(unscaledText);
+                appendAscii(unscaledText, 0, significantDigits);
                 appendAscii("d-");
-                appendAscii(Integer.toString(scale));
+                printInt(scale);
             }
         }
         else // (exponent > 0)
         {
             // We cannot move the decimal point to the right, adding
             // rightmost zeros, because that would alter the precision.
-            appendAscii(unscaledText);
+            appendAscii(unscaledText, 0, significantDigits);
             appendAscii('d');
-            appendAscii(Integer.toString(exponent));
+            printInt(exponent);
+        }
+    }
+
+    /**
+     * Prints an int through the scratch buffer; callers must be done with
+     * anything they formatted there already.
+     */
+    private void printInt(int value)
+        throws IOException
+    {
+        long magnitude = value;
+        if (magnitude < 0)
+        {
+            appendAscii('-');
+            magnitude = -magnitude;
         }
+        int len = TextNumberFormatter.formatLong(magnitude, myNumberChars, 0);
+        appendAscii(myNumberBuffer, 0, len);
     }
 
 
@@ -827,22 +922,8 @@ public final class PrivateIonTextAppender
         }
         else
         {
-            // Double.toString() forces a digit after the decimal point.
-            // Remove it when it's not meaningful.
-            String str = Double.toString(value);
-            if (str.endsWith(".0"))
-            {
-                appendAscii(str, 0, str.length() - 2);
-                appendAscii("e0");
-            }
-            else
-            {
-                appendAscii(str);
-                if (str.indexOf('E') == -1)
-                {
-                    appendAscii("e0");
-                }
-            }
+            int len = TextNumberFormatter.formatDouble(value, myNumberChars);
+            appendAscii(myNumberBuffer, 0, len);
         }
     }
 
@@ -860,6 +941,140 @@ public final class PrivateIonTextAppender
     }
 
 
+    //=========================================================================
+    // Timestamps
+
+
+    /**
+     * Prints a timestamp from its UTC fields, as {@link
+     * software.amazon.ion.Timestamp#print(Appendable)} would, without
+     * creating a {@link software.amazon.ion.Timestamp}.
+     *
+     * @param fraction the unscaled fractional second, which is printed only
+     * when {@code fractionScale} is positive.
+     * @param offsetKnown whether {@code offset} is the local offset in
+     * minutes; it must be less than a day either way.
+     */
+    public void printTimestamp(Precision precision,
+                               int year, int month, int day,
+                               int hour, int minute, int second,
+                               long fraction, int fractionScale,
+                               boolean offsetKnown, int offset)
+        throws IOException
+    {
+        if (offsetKnown && offset != 0)
+        {
+            // shift the UTC fields to local time
+            int minutes = hour * 60 + minute + offset;
+            if (minutes < 0)
+            {
+                minutes += 24 * 60;
+                if (--day < 1)
+                {
+                    if (--month < 1)
+                    {
+                        month = 12;
+                        year--;
+                    }
+                    day = IonReaderBinaryRawX.lastDayInMonth(year, month);
+                }
+            }
+            else if (minutes >= 24 * 60)
+            {
+                minutes -= 24 * 60;
+                if (++day > IonReaderBinaryRawX.lastDayInMonth(year, month))
+                {
+                    day = 1;
+                    if (++month > 12)
+                    {
+                        month = 1;
+                        year++;
+                    }
+                }
+            }
+            hour = minutes / 60;
+            minute = minutes % 60;
+        }
+
+        printPaddedInt(year, 4);
+        if (precision == Precision.YEAR)
+        {
+            appendAscii('T');
+            return;
+        }
+        appendAscii('-');
+        printPaddedInt(month, 2);
+        if (precision == Precision.MONTH)
+        {
+            appendAscii('T');
+            return;
+        }
+        appendAscii('-');
+        printPaddedInt(day, 2);
+        if (precision == Precision.DAY)
+        {
+            return;
+        }
+
+        appendAscii('T');
+        printPaddedInt(hour, 2);
+        appendAscii(':');
+        printPaddedInt(minute, 2);
+        if (precision == Precision.SECOND)
+        {
+            appendAscii(':');
+            printPaddedInt(second, 2);
+            if (fractionScale > 0)
+            {
+                appendAscii('.');
+                int len =
+                    TextNumberFormatter.formatLong(fraction, myNumberChars, 0);
+                for (int i = len; i < fractionScale; i++)
+                {
+                    appendAscii('0');
+                }
+                appendAscii(myNumberBuffer, 0, len);
+            }
+        }
+
+        if (!offsetKnown)
+        {
+            appendAscii("-00:00");
+        }
+        else if (offset == 0)
+        {
+            appendAscii('Z');
+        }
+        else
+        {
+            if (offset < 0)
+            {
+                appendAscii('-');
+                offset = -offset;
+            }
+            else
+            {
+                appendAscii('+');
+            }
+            printPaddedInt(offset / 60, 2);
+            appendAscii(':');
+            printPaddedInt(offset % 60, 2);
+        }
+    }
+
+    /** Prints a non-negative int with leading zeros up to {@code width}. */
+    private void printPaddedInt(int value, int width)
+        throws IOException
+    {
+        int len = TextNumberFormatter.formatLong(value, myNumberChars, 0);
+        for (int i = len; i < width; i++)
+        {
+            appendAscii('0');
+        }
+        appendAscii(myNumberBuffer, 0, len);
+    }
+
+
     //=========================================================================
     // LOBs
 
@@ -950,7 +1165,7 @@ public final class PrivateIonTextAppender
             _options._clob_as_string && _options._string_as_json;
 
         final int threshold = _options.getLongStringThreshold();
-        final boolean longString = (0 < threshold && threshold < value.length);
+        final boolean longString = (0 < threshold && threshold < len);
 
         if (!_options._clob_as_string)
         {
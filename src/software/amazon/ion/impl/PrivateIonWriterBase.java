@@ -339,6 +339,20 @@ public abstract class PrivateIonWriterBase
         writeValueRecursively(type, reader);
     }
 
+    /**
+     * Writes the current non-null value of a binary reader straight from
+     * its encoded fields, without materializing it as a String, BigInteger,
+     * Decimal or Timestamp. Overrides can optimize special cases.
+     *
+     * @return false, having written nothing, if this writer has no such
+     *  path for the value.
+     */
+    boolean transcodeScalar(IonType type, IonReaderBinarySystemX reader)
+        throws IOException
+    {
+        return false;
+    }
+
     /**
      * Unoptimized copy. This must not recurse back to the public
      * {@link #writeValue(IonReader)} method since that will cause the
@@ -353,6 +367,10 @@ public abstract class PrivateIonWriterBase
         if (reader.isNullValue()) {
             this.writeNull(type);
         }
+        else if (reader instanceof IonReaderBinarySystemX
+                 && transcodeScalar(type, (IonReaderBinarySystemX) reader)) {
+            if (_debug_on) System.out.print("x");
+        }
         else {
             switch (type) {
             case NULL:
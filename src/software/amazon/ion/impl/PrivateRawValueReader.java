@@ -0,0 +1,37 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl;
+
+import java.io.IOException;
+import software.amazon.ion.IonReader;
+
+/**
+ * An {@link IonReader} {@linkplain software.amazon.ion.facet facet} that
+ * hands out the Ion binary encoding of the current value wherever it is,
+ * including any annotation wrapper but not its field name.
+ * <p>
+ * Unlike {@link PrivateByteTransferReader}, the bytes are only meaningful
+ * with the reader's current symbol table, so the receiver must translate
+ * any symbol IDs they contain.
+ *
+ * @deprecated This is an internal API that is subject to change without notice.
+ */
+@Deprecated
+public interface PrivateRawValueReader
+{
+    public void transferRawValue(PrivateByteTransferSink sink)
+        throws IOException;
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl;
+
+import software.amazon.ion.IonReader;
+
+/**
+ * An {@link IonReader} {@linkplain software.amazon.ion.facet facet} that
+ * exposes the current scalar without materializing it, so that a writer
+ * can copy it straight into its own encoding.
+ * <p>
+ * Each method applies only to the current, non-null value, and anything it
+ * returns is only valid until the reader moves.
+ *
+ * @deprecated This is an internal API that is subject to change without notice.
+ */
+@Deprecated
+public interface PrivateTranscodingReader
+{
+    /**
+     * Returns the text of the current string, which may be a view of the
+     * reader's own buffer.
+     *
+     * @throws IllegalStateException if the current value isn't a non-null
+     *  string.
+     */
+    public CharSequence stringChars();
+
+    /**
+     * Prepares the current decimal for {@link #decimalUnscaledValue()} and
+     * {@link #decimalScale()}.
+     *
+     * @return false if the decimal can't be represented that way, namely
+     *  when its coefficient doesn't fit in a long or it is negative zero.
+     *
+     * @throws IllegalStateException if the current value isn't a non-null
+     *  decimal.
+     */
+    public boolean loadDecimal();
+
+    /**
+     * Returns the unscaled value of the decimal prepared by
+     * {@link #loadDecimal()}.
+     */
+    public long decimalUnscaledValue();
+
+    /**
+     * Returns the scale of the decimal prepared by {@link #loadDecimal()}.
+     */
+    public int decimalScale();
+
+    /**
+     * Returns the array holding the content of the current lob, which is
+     * {@link IonReader#byteSize()} bytes starting at {@link #lobOffset()},
+     * so that it can be copied without consuming it.
+     *
+     * @return null if the content can't be read in place.
+     *
+     * @throws IllegalStateException if the current value isn't a non-null
+     *  blob or clob.
+     */
+    public byte[] lobArray();
+
+    /**
+     * Returns where the content of the current lob starts in the array
+     * returned by {@link #lobArray()}.
+     */
+    public int lobOffset();
+}
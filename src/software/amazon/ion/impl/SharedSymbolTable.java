@@ -25,10 +25,8 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import software.amazon.ion.IonException;
 import software.amazon.ion.IonReader;
 import software.amazon.ion.IonStruct;
@@ -73,11 +71,11 @@ final class SharedSymbolTable
     private static final SymbolTable ION_1_0_SYSTEM_SYMTAB;
     static
     {
-        Map<String, Integer> systemSymbolsMap = new HashMap<String, Integer>();
+        SymbolIdMap systemSymbolsMap = new SymbolIdMap(SYSTEM_SYMBOLS.length);
 
         for (int i = 0; i < SYSTEM_SYMBOLS.length; i++)
         {
-            systemSymbolsMap.put(SYSTEM_SYMBOLS[i], i+1);
+            systemSymbolsMap.putIfAbsent(SYSTEM_SYMBOLS[i], i+1);
         }
 
         ION_1_0_SYSTEM_SYMTAB =
@@ -107,8 +105,9 @@ final class SharedSymbolTable
 
     /**
      * Map of symbol names to symbol ids of declared symbols.
+     * Never modified after construction.
      */
-    private final Map<String, Integer>          mySymbolsMap;
+    private final SymbolIdMap                   mySymbolsMap;
 
     //==========================================================================
     // Private constructor(s) and static factory methods
@@ -116,7 +115,7 @@ final class SharedSymbolTable
 
     private SharedSymbolTable(String name, int version,
                               List<String> symbolsList,
-                              Map<String, Integer> symbolsMap)
+                              SymbolIdMap symbolsMap)
     {
         myName          = name;
         myVersion       = version;
@@ -128,7 +127,7 @@ final class SharedSymbolTable
 
     private SharedSymbolTable(String name, int version,
                               String[] symbolNames,
-                              Map<String, Integer> symbolsMap)
+                              SymbolIdMap symbolsMap)
     {
         myName          = name;
         myVersion       = version;
@@ -165,7 +164,7 @@ final class SharedSymbolTable
         }
 
         List<String> symbolsList = new ArrayList<String>();
-        Map<String, Integer> symbolsMap = new HashMap<String, Integer>();
+        SymbolIdMap symbolsMap = new SymbolIdMap();
 
         assert version ==
             (priorSymtab == null ? 1 : priorSymtab.getVersion() + 1);
@@ -302,17 +301,8 @@ final class SharedSymbolTable
         // least 1, treat it as 1.
         version = (version < 1) ? 1 : version;
 
-        Map<String, Integer> symbolsMap = null;
-        if (! symbolsList.isEmpty())
-        {
-            symbolsMap = new HashMap<String, Integer>();
-            transferNonExistingSymbols(symbolsList, symbolsMap);
-        }
-        else
-        {
-            // Empty Map is more efficient than an empty HashMap
-            symbolsMap = Collections.emptyMap();
-        }
+        SymbolIdMap symbolsMap = new SymbolIdMap(symbolsList.size());
+        transferNonExistingSymbols(symbolsList, symbolsMap);
 
         // We have all necessary data, pass it over to the private constructor.
         return new SharedSymbolTable(name, version, symbolsList, symbolsMap);
@@ -343,22 +333,6 @@ final class SharedSymbolTable
     // Static methods relating to construction
     //==========================================================================
 
-    private static void putToMapIfNotThere(Map<String, Integer> symbolsMap,
-                                           String text, int sid)
-    {
-        // When there's a duplicate mapping for the symbol text, don't
-        // replace the lower sid. This pattern avoids double-lookup in the
-        // common scenario and only performs a second lookup when there's
-        // a duplicate.
-        Integer extantSid = symbolsMap.put(text, sid);
-        if (extantSid != null)
-        {
-            // We always insert symbols with increasing sids
-            assert extantSid < sid;
-            symbolsMap.put(text, extantSid);
-        }
-    }
-
     /**
      * Collects the necessary symbols from {@code priorSymtab} and
      * {@code symbols}, and load them into the passed-in {@code symbolsList} and
@@ -367,7 +341,7 @@ final class SharedSymbolTable
     private static void
     prepSymbolsListAndMap(SymbolTable priorSymtab, Iterator<String> symbols,
                           List<String> symbolsList,
-                          Map<String, Integer> symbolsMap)
+                          SymbolIdMap symbolsMap)
     {
         int sid = 1;
 
@@ -382,7 +356,8 @@ final class SharedSymbolTable
                 if (text != null)
                 {
                     assert text.length() > 0;
-                    putToMapIfNotThere(symbolsMap, text, sid);
+                    // When there's a duplicate, the lower sid is retained.
+                    symbolsMap.putIfAbsent(text, sid);
                 }
 
                 // NB: Null entries must be added in the sid sequence
@@ -394,13 +369,24 @@ final class SharedSymbolTable
         }
 
         // Collect from passed-in symbols
+        boolean hasGap = false;
         while (symbols.hasNext())
         {
             String text = symbols.next();
             // TODO amzn/ion-java#12 What about empty symbols?
-            if (symbolsMap.get(text) == null)
+            boolean isNew;
+            if (text == null)
+            {
+                // Like other duplicates, only the first null is retained.
+                isNew = !hasGap;
+                hasGap = true;
+            }
+            else
+            {
+                isNew = symbolsMap.putIfAbsent(text, sid);
+            }
+            if (isNew)
             {
-                putToMapIfNotThere(symbolsMap, text, sid);
                 symbolsList.add(text);
                 sid++;
             }
@@ -413,7 +399,7 @@ final class SharedSymbolTable
      */
     private static void
     transferNonExistingSymbols(List<String> symbolsList,
-                               Map<String, Integer> symbolsMap)
+                               SymbolIdMap symbolsMap)
     {
         int sid = 1;
         for (String text : symbolsList)
@@ -422,7 +408,8 @@ final class SharedSymbolTable
 
             if (text != null)
             {
-                putToMapIfNotThere(symbolsMap, text, sid);
+                // When there's a duplicate, the lower sid is retained.
+                symbolsMap.putIfAbsent(text, sid);
             }
 
             sid++;
@@ -527,11 +514,9 @@ final class SharedSymbolTable
     {
         text.getClass(); // fast null check
 
-        Integer sid = mySymbolsMap.get(text);
-        if (sid != null)
+        int sid = mySymbolsMap.get(text);
+        if (sid != UNKNOWN_SYMBOL_ID)
         {
-            assert sid != UNKNOWN_SYMBOL_ID;
-
             int offset = sid - 1;
             String internedText = mySymbolNames[offset];
 
@@ -545,13 +530,7 @@ final class SharedSymbolTable
 
     public int findSymbol(String name)
     {
-        Integer sid = mySymbolsMap.get(name);
-        if (sid != null)
-        {
-            return sid;
-        }
-
-        return UNKNOWN_SYMBOL_ID;
+        return mySymbolsMap.get(name);
     }
 
     public String findKnownSymbol(int id)
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl;
+
+import static software.amazon.ion.SymbolTable.UNKNOWN_SYMBOL_ID;
+
+/**
+ * An open-addressing map from symbol text to symbol ID that stores the IDs
+ * unboxed. IDs must be positive.
+ * <p>
+ * Lookups never lock. Mutation is single-writer: callers must serialize
+ * calls to {@link #putIfAbsent(String, int)}, but any number of threads may
+ * call {@link #get(String)} concurrently with the writer. Each entry is
+ * written ID first and text second and is then published by a volatile
+ * write of {@link #myTable}; a grown table is filled completely before it
+ * is published. A reader racing with the writer therefore sees either a
+ * complete entry or, for an entry still being added, no entry at all.
+ */
+final class SymbolIdMap
+{
+    private static final int MIN_CAPACITY = 16;
+
+    private static final class Table
+    {
+        /** Length is a power of two; null marks an empty slot. */
+        final String[] myKeys;
+        final int[]    mySids;
+
+        Table(int capacity)
+        {
+            myKeys = new String[capacity];
+            mySids = new int[capacity];
+        }
+    }
+
+    private volatile Table myTable;
+
+    /** Only accessed by the writer. */
+    private int mySize;
+
+    SymbolIdMap()
+    {
+        this(0);
+    }
+
+    /**
+     * @param expectedSize the number of entries to make room for without
+     * growing.
+     */
+    SymbolIdMap(int expectedSize)
+    {
+        myTable = new Table(capacityFor(expectedSize));
+    }
+
+    /** Copy-constructor; the copy may be written independently. */
+    SymbolIdMap(SymbolIdMap other)
+    {
+        Table table = other.myTable;
+        Table copy = new Table(table.myKeys.length);
+        System.arraycopy(table.myKeys, 0, copy.myKeys, 0, table.myKeys.length);
+        System.arraycopy(table.mySids, 0, copy.mySids, 0, table.mySids.length);
+        mySize = other.mySize;
+        myTable = copy;
+    }
+
+    private static int capacityFor(int size)
+    {
+        // keep the load factor at or below 1/2
+        int capacity = MIN_CAPACITY;
+        while (capacity < size * 2)
+        {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int slotFor(String text, int mask)
+    {
+        int h = text.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * @return the symbol ID of the text, or
+     * {@link software.amazon.ion.SymbolTable#UNKNOWN_SYMBOL_ID} if absent.
+     */
+    int get(String text)
+    {
+        Table table = myTable;
+        String[] keys = table.myKeys;
+        int mask = keys.length - 1;
+        int i = slotFor(text, mask);
+        for (;;)
+        {
+            String key = keys[i];
+            if (key == null)
+            {
+                return UNKNOWN_SYMBOL_ID;
+            }
+            if (key == text || key.equals(text))
+            {
+                int sid = table.mySids[i];
+                // Zero means we raced with the writer on this very entry.
+                return (sid == 0 ? UNKNOWN_SYMBOL_ID : sid);
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    /**
+     * Maps the text to the symbol ID unless the text is already mapped, in
+     * which case the existing (lower) ID is retained.
+     *
+     * @return true if the mapping was added.
+     */
+    boolean putIfAbsent(String text, int sid)
+    {
+        assert sid > 0;
+
+        Table table = myTable;
+        if ((mySize + 1) * 2 > table.myKeys.length)
+        {
+            table = grow(table);
+        }
+
+        String[] keys = table.myKeys;
+        int mask = keys.length - 1;
+        int i = slotFor(text, mask);
+        for (;;)
+        {
+            String key = keys[i];
+            if (key == null) break;
+            if (key == text || key.equals(text))
+            {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+
+        table.mySids[i] = sid;
+        keys[i] = text;
+        mySize++;
+        myTable = table; // publish
+        return true;
+    }
+
+    private Table grow(Table table)
+    {
+        String[] keys = table.myKeys;
+        int[] sids = table.mySids;
+        Table bigger = new Table(keys.length * 2);
+        int mask = bigger.myKeys.length - 1;
+        for (int j = 0; j < keys.length; j++)
+        {
+            String key = keys[j];
+            if (key != null)
+            {
+                int i = slotFor(key, mask);
+                while (bigger.myKeys[i] != null)
+                {
+                    i = (i + 1) & mask;
+                }
+                bigger.myKeys[i] = key;
+                bigger.mySids[i] = sids[j];
+            }
+        }
+        myTable = bigger;
+        return bigger;
+    }
+}
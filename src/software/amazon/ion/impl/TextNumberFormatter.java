@@ -0,0 +1,312 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl;
+
+import java.math.BigInteger;
+
+/**
+ * Allocation-free number formatting for {@link PrivateIonTextAppender}.
+ * <p>
+ * Doubles are rendered with the shortest decimal that rounds back to the
+ * same value, using Raffaello Giulietti's Schubfach algorithm (the one
+ * behind {@code Double.toString} since JDK 19). The layout matches what
+ * the appender has always produced from {@code Double.toString}: plain
+ * notation with an {@code e0} suffix for magnitudes in [10<sup>-3</sup>,
+ * 10<sup>7</sup>), computerized scientific notation otherwise.
+ * <p>
+ * Section numbers below refer to Giulietti, "The Schubfach way to render
+ * doubles".
+ */
+final class TextNumberFormatter
+{
+    /** Enough for any formatted double or long, sign included. */
+    static final int MAX_CHARS = 32;
+
+    private static final int  P       = 53;   // precision, hidden bit included
+    private static final int  Q_MIN   = -1074;
+    private static final long C_MIN   = 1L << (P - 1);
+    private static final int  BQ_MASK = 0x7ff;
+    private static final long T_MASK  = (1L << (P - 1)) - 1;
+    private static final long C_TINY  = 3;    // smaller subnormals get an extra digit
+    private static final int  K_MIN   = -324;
+    private static final int  K_MAX   = 292;
+    private static final long MASK_63 = (1L << 63) - 1;
+
+    /**
+     * {@code g1(k)} and {@code g0(k)} interleaved: with
+     * {@code 10^-k = beta 2^r} and {@code 2^125 <= beta < 2^126},
+     * {@code g = floor(beta) + 1} split into its high and low 63 bits.
+     */
+    private static final long[] G = new long[(K_MAX - K_MIN + 1) * 2];
+    static
+    {
+        BigInteger ten = BigInteger.TEN;
+        for (int k = K_MIN; k <= K_MAX; k++)
+        {
+            int r = flog2pow10(-k) - 125;
+            BigInteger num = (k <= 0) ? ten.pow(-k) : BigInteger.ONE;
+            BigInteger den = (k > 0)  ? ten.pow(k)  : BigInteger.ONE;
+            if (r < 0)
+            {
+                num = num.shiftLeft(-r);
+            }
+            else
+            {
+                den = den.shiftLeft(r);
+            }
+            BigInteger g = num.divide(den).add(BigInteger.ONE);
+            int i = (k - K_MIN) << 1;
+            G[i]     = g.shiftRight(63).longValue();
+            G[i + 1] = g.longValue() & MASK_63;
+        }
+    }
+
+    private TextNumberFormatter() { }
+
+
+    /**
+     * Writes the Ion text for a finite, non-zero double.
+     *
+     * @return the number of chars written to the start of {@code buf}.
+     */
+    static int formatDouble(double v, char[] buf)
+    {
+        assert v != 0 && !Double.isNaN(v) && !Double.isInfinite(v);
+
+        long bits = Double.doubleToRawLongBits(v);
+        long t = bits & T_MASK;
+        int bq = (int) (bits >>> (P - 1)) & BQ_MASK;
+
+        int pos = 0;
+        if (bits < 0)
+        {
+            buf[pos++] = '-';
+        }
+
+        if (bq != 0)
+        {
+            // normal value, mq = -q
+            int mq = -Q_MIN + 1 - bq;
+            long c = C_MIN | t;
+            // integers below 2^53 need no search at all
+            if (0 < mq && mq < P)
+            {
+                long f = c >> mq;
+                if (f << mq == c)
+                {
+                    return layout(f, 0, buf, pos);
+                }
+            }
+            return toDecimal(-mq, c, 0, buf, pos);
+        }
+        // subnormal value
+        return (t < C_TINY)
+            ? toDecimal(Q_MIN, 10 * t, -1, buf, pos)
+            : toDecimal(Q_MIN, t, 0, buf, pos);
+    }
+
+    /**
+     * Finds the decimal closest to {@code c 2^q} among the shortest ones
+     * that round back to it, following section 9 of the paper.
+     */
+    private static int toDecimal(int q, long c, int dk, char[] buf, int pos)
+    {
+        int out = (int) c & 0x1;
+        long cb = c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        if (c != C_MIN || q == Q_MIN)
+        {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        }
+        else
+        {
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        int h = q + flog2pow10(-k) + 2;
+
+        int i = (k - K_MIN) << 1;
+        long g1 = G[i];
+        long g0 = G[i + 1];
+
+        long vb  = rop(g1, g0, cb << h);
+        long vbl = rop(g1, g0, cbl << h);
+        long vbr = rop(g1, g0, cbr << h);
+
+        long s = vb >> 2;
+        if (s >= 100)
+        {
+            // s / 10 * 10, computed as a multiply by a scaled 1/10
+            long sp10 = 10 * multiplyHigh(s, 115292150460684698L << 4);
+            long tp10 = sp10 + 10;
+            boolean upin = vbl + out <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin)
+            {
+                return layout(upin ? sp10 : tp10, k, buf, pos);
+            }
+        }
+
+        long tt = s + 1;
+        boolean uin = vbl + out <= s << 2;
+        boolean win = (tt << 2) + out <= vbr;
+        if (uin != win)
+        {
+            return layout(uin ? s : tt, k + dk, buf, pos);
+        }
+        long cmp = vb - ((s + tt) << 1);
+        boolean pickS = cmp < 0 || (cmp == 0 && (s & 0x1) == 0);
+        return layout(pickS ? s : tt, k + dk, buf, pos);
+    }
+
+    /** Round to odd of {@code g cp 2^-127}. */
+    private static long rop(long g1, long g0, long cp)
+    {
+        long x1 = multiplyHigh(g0, cp);
+        long y0 = g1 * cp;
+        long y1 = multiplyHigh(g1, cp);
+        long z = (y0 >>> 1) + x1;
+        long vbp = y1 + (z >>> 63);
+        return vbp | ((z & MASK_63) + MASK_63) >>> 63;
+    }
+
+    /** The high 64 bits of the signed 128 bit product. */
+    private static long multiplyHigh(long x, long y)
+    {
+        long x1 = x >> 32;
+        long x2 = x & 0xFFFFFFFFL;
+        long y1 = y >> 32;
+        long y2 = y & 0xFFFFFFFFL;
+        long z2 = x2 * y2;
+        long t = x1 * y2 + (z2 >>> 32);
+        long z1 = t & 0xFFFFFFFFL;
+        long z0 = t >> 32;
+        z1 += x2 * y1;
+        return x1 * y1 + z0 + (z1 >> 32);
+    }
+
+    /** floor(log10(2^e)) */
+    private static int flog10pow2(int e)
+    {
+        return (int) (e * 661971961083L >> 41);
+    }
+
+    /** floor(log10(3/4 2^e)) */
+    private static int flog10threeQuartersPow2(int e)
+    {
+        return (int) ((e * 661971961083L + -274743187321L) >> 41);
+    }
+
+    /** floor(log2(10^e)) */
+    private static int flog2pow10(int e)
+    {
+        return (int) (e * 913124641741L >> 38);
+    }
+
+    /**
+     * Lays out {@code f 10^e} the way {@code Double.toString} would, but
+     * with Ion's {@code e0} suffix in place of a meaningless {@code .0}.
+     */
+    private static int layout(long f, int e, char[] buf, int pos)
+    {
+        while (f % 10 == 0)
+        {
+            f /= 10;
+            e++;
+        }
+        int start = pos;
+        int len = formatLong(f, buf, pos);
+        // the value is 0.ddd x 10^point
+        int point = e + len;
+
+        if (0 < point && point <= 7)
+        {
+            if (len <= point)
+            {
+                pos += len;
+                for (int i = len; i < point; i++)
+                {
+                    buf[pos++] = '0';
+                }
+            }
+            else
+            {
+                System.arraycopy(buf, start + point, buf, start + point + 1,
+                                 len - point);
+                buf[start + point] = '.';
+                pos += len + 1;
+            }
+            buf[pos++] = 'e';
+            buf[pos++] = '0';
+        }
+        else if (-3 < point && point <= 0)
+        {
+            int zeros = -point;
+            System.arraycopy(buf, start, buf, start + 2 + zeros, len);
+            buf[start] = '0';
+            buf[start + 1] = '.';
+            for (int i = 0; i < zeros; i++)
+            {
+                buf[start + 2 + i] = '0';
+            }
+            pos += 2 + zeros + len;
+            buf[pos++] = 'e';
+            buf[pos++] = '0';
+        }
+        else
+        {
+            System.arraycopy(buf, start + 1, buf, start + 2, len - 1);
+            buf[start + 1] = '.';
+            pos += len + 1;
+            if (len == 1)
+            {
+                buf[pos++] = '0';
+            }
+            buf[pos++] = 'E';
+            int exponent = point - 1;
+            if (exponent < 0)
+            {
+                buf[pos++] = '-';
+                exponent = -exponent;
+            }
+            pos += formatLong(exponent, buf, pos);
+        }
+        return pos;
+    }
+
+    /**
+     * Writes the decimal digits of a non-negative long at {@code pos}.
+     *
+     * @return the number of digits written.
+     */
+    static int formatLong(long value, char[] buf, int pos)
+    {
+        assert value >= 0;
+        int len = 1;
+        for (long v = value / 10; v != 0; v /= 10)
+        {
+            len++;
+        }
+        for (int i = pos + len - 1; i >= pos; i--)
+        {
+            buf[i] = (char) ('0' + (value % 10));
+            value /= 10;
+        }
+        return len;
+    }
+}
@@ -18,6 +18,7 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import software.amazon.ion.impl.IonReaderTextRawTokensX.IonReaderTextTokenException;
 import software.amazon.ion.impl.UnifiedSavePointManagerX.SavePoint;
 
@@ -28,7 +29,9 @@ import software.amazon.ion.impl.UnifiedSavePointManagerX.SavePoint;
  * <code>Reader</code>.
  *
  * When passed a users data buffer it simply operates of the
- * entire buffer directly.
+ * entire buffer directly.  This includes a {@link ByteBuffer}
+ * (heap, direct or memory-mapped) which is read in place using
+ * absolute index reads, without copying into a page.
  *
  * When the input source is a stream is creates it's own local
  * buffers, using {@link #UnifiedInputBufferX} and {@link #UnifiedDataPageX}.
@@ -86,6 +89,10 @@ abstract class UnifiedInputStreamX
     byte[]                  _bytes;
     char[]                  _chars;
 
+    // set only for ByteBuffer sources, in which case _bytes stays null
+    // and the single page only tracks positions within the buffer
+    ByteBuffer              _byte_buffer;
+
 
     UnifiedSavePointManagerX _save_points;
 
@@ -116,6 +123,13 @@ abstract class UnifiedInputStreamX
     public static UnifiedInputStreamX makeStream(InputStream stream) throws IOException {
         return new FromByteStream(stream);
     }
+    /**
+     * Retains a reference to the buffer, which is read from index 0 up to
+     * its limit without regard to (or modification of) its position.
+     */
+    public static UnifiedInputStreamX makeStream(ByteBuffer buffer) {
+        return new FromByteBuffer(buffer);
+    }
     public final InputStream getInputStream() { return _stream; }
     public final Reader      getReader()      { return _reader; }
     public final byte[]      getByteArray()   { return _bytes; }
@@ -297,9 +311,225 @@ abstract class UnifiedInputStreamX
     public final int read() throws IOException {
         if (_pos >= _limit) return read_helper();
         // both bytes and chars might be null if this is empty input
-        // otherwise we should have 1, and only 1, of these buffers set
-        assert((_bytes == null) ^ (_chars == null));
-        return (_is_byte_data) ? (_bytes[_pos++] & 0xff) : _chars[_pos++];
+        // or a ByteBuffer source, otherwise we should have 1, and only 1,
+        // of these buffers set
+        assert((_bytes == null) ^ (_chars == null) || _byte_buffer != null);
+        if (_is_byte_data) {
+            return (_bytes != null)
+                ? (_bytes[_pos++] & 0xff)
+                : (_byte_buffer.get(_pos++) & 0xff);
+        }
+        return _chars[_pos++];
+    }
+
+    /**
+     * Advances over the bytes already buffered in the current page up to,
+     * but not including, the first byte whose value is flagged in
+     * {@code stops}.  Bytes at or above 0x80 never stop the scan, so UTF-8
+     * sequences are passed over without being decoded; every byte that
+     * matters to the tokenizer's skip routines is 7-bit.
+     * <p>
+     * This never refills and does nothing over character sources, so the
+     * caller must still fall back to {@link #read()} afterwards.
+     *
+     * @param stops a 128 entry table of the ASCII bytes to stop at.
+     */
+    final void skip_plain_bytes(boolean[] stops)
+    {
+        if (!_is_byte_data) return;
+        int pos = _pos;
+        int limit = _limit;
+        if (_bytes != null) {
+            byte[] bytes = _bytes;
+            while (pos < limit) {
+                int b = bytes[pos];
+                if (b >= 0 && stops[b]) break;
+                pos++;
+            }
+        }
+        else if (_byte_buffer != null) {
+            ByteBuffer buffer = _byte_buffer;
+            while (pos < limit) {
+                int b = buffer.get(pos);
+                if (b >= 0 && stops[b]) break;
+                pos++;
+            }
+        }
+        _pos = pos;
+    }
+
+    /**
+     * Passes over as much of a container's content, in the current page, as
+     * can be skipped without the tokenizer's help: nested containers, and
+     * short strings and quoted symbols that end within the page.  Nesting is
+     * tracked in {@code closers}, which holds the closing character expected
+     * at each depth; a closer that doesn't match is ignored, as it is by
+     * {@link IonReaderTextRawTokensX}.
+     * <p>
+     * The scan stops just after the closer that brings the depth to zero, or
+     * in front of anything else it flags in {@code stops}: comments, line
+     * breaks, long strings, lobs, or a quoted value that runs past the page.
+     * Stopping never splits a token, so the caller can pick up from there
+     * with its usual routines.  ByteBuffer sources are left to the caller.
+     *
+     * @param stops a 128 entry table of the ASCII characters to look at;
+     *  everything else is passed over.
+     * @param closers the expected closers, innermost at {@code depth - 1}.
+     *  The scan stops in front of an opener that would overflow it.
+     * @param depth the current nesting depth, at least 1.
+     *
+     * @return the nesting depth where the scan stopped.
+     */
+    final int skip_container_body(boolean[] stops, char[] closers, int depth)
+    {
+        if (_bytes != null && _is_byte_data) {
+            return skip_container_body(_bytes, stops, closers, depth);
+        }
+        if (_chars != null && !_is_byte_data) {
+            return skip_container_body(_chars, stops, closers, depth);
+        }
+        return depth;
+    }
+
+    private final int skip_container_body(byte[] bytes, boolean[] stops,
+                                          char[] closers, int depth)
+    {
+        int pos = _pos;
+        int limit = _limit;
+        scan: while (pos < limit) {
+            int c = bytes[pos];
+            if (c < 0 || !stops[c]) {
+                pos++;
+                continue;
+            }
+            switch (c) {
+            case '{':
+                if (pos + 1 >= limit || bytes[pos + 1] == '{') break scan;
+                // fall through
+            case '(':
+            case '[':
+                if (depth == closers.length) break scan;
+                closers[depth++] = closer(c);
+                pos++;
+                break;
+            case ')':
+            case ']':
+            case '}':
+                pos++;
+                if (c == closers[depth - 1] && --depth == 0) break scan;
+                break;
+            case '\'':
+                if (pos + 2 >= limit
+                    || (bytes[pos + 1] == '\'' && bytes[pos + 2] == '\'')) {
+                    break scan;
+                }
+                // fall through
+            case '"':
+            {
+                int end = find_quote(bytes, pos + 1, limit, c);
+                if (end < 0) break scan;
+                pos = end + 1;
+                break;
+            }
+            default:
+                break scan;
+            }
+        }
+        _pos = pos;
+        return depth;
+    }
+
+    private final int skip_container_body(char[] chars, boolean[] stops,
+                                          char[] closers, int depth)
+    {
+        int pos = _pos;
+        int limit = _limit;
+        scan: while (pos < limit) {
+            int c = chars[pos];
+            if (c >= 128 || !stops[c]) {
+                pos++;
+                continue;
+            }
+            switch (c) {
+            case '{':
+                if (pos + 1 >= limit || chars[pos + 1] == '{') break scan;
+                // fall through
+            case '(':
+            case '[':
+                if (depth == closers.length) break scan;
+                closers[depth++] = closer(c);
+                pos++;
+                break;
+            case ')':
+            case ']':
+            case '}':
+                pos++;
+                if (c == closers[depth - 1] && --depth == 0) break scan;
+                break;
+            case '\'':
+                if (pos + 2 >= limit
+                    || (chars[pos + 1] == '\'' && chars[pos + 2] == '\'')) {
+                    break scan;
+                }
+                // fall through
+            case '"':
+            {
+                int end = find_quote(chars, pos + 1, limit, c);
+                if (end < 0) break scan;
+                pos = end + 1;
+                break;
+            }
+            default:
+                break scan;
+            }
+        }
+        _pos = pos;
+        return depth;
+    }
+
+    private static char closer(int opener)
+    {
+        switch (opener) {
+        case '(': return ')';
+        case '[': return ']';
+        default:  return '}';
+        }
+    }
+
+    /**
+     * @return the index of the closing {@code quote}, or -1 if it isn't in
+     * the page or a line break (escaped or not) comes first.
+     */
+    private static int find_quote(byte[] bytes, int pos, int limit, int quote)
+    {
+        while (pos < limit) {
+            int c = bytes[pos];
+            if (c == quote) return pos;
+            if (c == '\\') {
+                if (pos + 1 >= limit) return -1;
+                c = bytes[pos + 1];
+                pos++;
+            }
+            if (c == '\n' || c == '\r') return -1;
+            pos++;
+        }
+        return -1;
+    }
+
+    private static int find_quote(char[] chars, int pos, int limit, int quote)
+    {
+        while (pos < limit) {
+            int c = chars[pos];
+            if (c == quote) return pos;
+            if (c == '\\') {
+                if (pos + 1 >= limit) return -1;
+                c = chars[pos + 1];
+                pos++;
+            }
+            if (c == '\n' || c == '\r') return -1;
+            pos++;
+        }
+        return -1;
     }
 
     protected final int read_helper() throws IOException
@@ -372,7 +602,15 @@ abstract class UnifiedInputStreamX
             if (ready > remaining) {
                 ready = remaining;
             }
-            System.arraycopy(_bytes, _pos, dst, offset, ready);
+            if (_byte_buffer != null) {
+                // _byte_buffer is private to this stream, so moving
+                // its position for the bulk get disturbs no one
+                _byte_buffer.position(_pos);
+                _byte_buffer.get(dst, offset, ready);
+            }
+            else {
+                System.arraycopy(_bytes, _pos, dst, offset, ready);
+            }
             _pos += ready;
             offset += ready;
             remaining -= ready;
@@ -591,6 +829,43 @@ static class FromByteArray extends UnifiedInputStreamX
             make_page_current(curr, 0, offset, offset+length);
             super.init();
         }
+
+        /**
+         * Re-points this stream at a new range of bytes, as if it had been
+         * constructed over them, while keeping its page and save point
+         * manager (and so any save points allocated from it) alive.
+         * Active save points are released.
+         */
+        final void reset(byte[] bytes, int offset, int length)
+        {
+            for (;;) {
+                SavePoint sp = _save_points._active_stack;
+                if (sp == null) break;
+                _save_points.savePointPopActive(sp);
+                sp.free();
+            }
+            UnifiedDataPageX.Bytes curr =
+                (UnifiedDataPageX.Bytes) _buffer.getCurrentPage();
+            curr.reload(bytes, offset, length);
+            make_page_current(curr, 0, offset, offset+length);
+        }
+    }
+
+    static class FromByteBuffer extends UnifiedInputStreamX
+    {
+        FromByteBuffer(ByteBuffer buffer)
+        {
+            _is_byte_data = true;
+            _is_stream = false;
+            _byte_buffer = buffer.duplicate();
+            int length = buffer.limit();
+            // the page has no backing array, it is only used to track
+            // positions (including save points) within the buffer
+            _buffer = UnifiedInputBufferX.makePageBuffer((byte[]) null, 0, length);
+            UnifiedDataPageX curr = _buffer.getCurrentPage();
+            make_page_current(curr, 0, 0, length);
+            super.init();
+        }
     }
 
     private static class FromByteStream extends UnifiedInputStreamX
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import software.amazon.ion.system.StringCache;
+
+/**
+ * A direct-mapped {@link StringCache} keyed by UTF-8 bytes.
+ * <p>
+ * Each slot holds an immutable {@link Entry}, so readers on different threads
+ * may look up and replace entries without locking: a racing replacement only
+ * costs a later miss. An entry is only replaced when the same hash misses in
+ * its slot twice in a row, so strings that never repeat don't allocate or
+ * evict anything.
+ * <p>
+ * The counters are striped by thread, each stripe on its own cache line, so
+ * that readers on different threads don't contend on them.
+ */
+final class Utf8StringCache
+    implements StringCache
+{
+    /** The longest encoding cached; longer strings rarely repeat. */
+    static final int MAX_LENGTH = 64;
+
+    private static final class Entry
+    {
+        final int    hash;
+        final byte[] bytes;
+        final String value;
+
+        Entry(int hash, byte[] bytes, String value)
+        {
+            this.hash = hash;
+            this.bytes = bytes;
+            this.value = value;
+        }
+    }
+
+    /** Must be a power of two. */
+    private static final int STRIPES = 16;
+
+    /** Longs per cache line, so that stripes don't share one. */
+    private static final int PAD = 8;
+
+    private static final int HITS   = 0;
+    private static final int MISSES = PAD;
+
+    private final Entry[]         _slots;
+
+    /** The hash that last missed in each slot, awaiting a second miss. */
+    private final int[]           _candidates;
+    private final int             _mask;
+    private final AtomicLongArray _counters = new AtomicLongArray(STRIPES * 2 * PAD);
+
+    /**
+     * @param maxEntries must be positive; rounded up to a power of two.
+     */
+    Utf8StringCache(int maxEntries)
+    {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        int size = Integer.highestOneBit(maxEntries);
+        if (size < maxEntries) {
+            size <<= 1;
+        }
+        _slots = new Entry[size];
+        _candidates = new int[size];
+        _mask = size - 1;
+    }
+
+    /** Determines whether an encoding of {@code len} bytes may be cached. */
+    static boolean isCacheable(int len)
+    {
+        return len <= MAX_LENGTH;
+    }
+
+    static int hash(byte[] bytes, int offset, int len)
+    {
+        int h = len;
+        for (int i = offset, end = offset + len; i < end; i++) {
+            h = 31 * h + bytes[i];
+        }
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns the cached string whose encoding is the given bytes, or null
+     * if there is none; {@code hash} must come from {@link #hash}.
+     */
+    String get(int hash, byte[] bytes, int offset, int len)
+    {
+        Entry e = _slots[hash & _mask];
+        if (e != null && e.hash == hash && matches(e.bytes, bytes, offset, len)) {
+            count(HITS);
+            return e.value;
+        }
+        count(MISSES);
+        return null;
+    }
+
+    /**
+     * Caches {@code value} as the decoding of the given bytes, if the last
+     * miss in its slot had the same hash.
+     */
+    void put(int hash, byte[] bytes, int offset, int len, String value)
+    {
+        int slot = hash & _mask;
+        if (_candidates[slot] != hash) {
+            _candidates[slot] = hash;
+            return;
+        }
+        byte[] copy = new byte[len];
+        System.arraycopy(bytes, offset, copy, 0, len);
+        _slots[slot] = new Entry(hash, copy, value);
+    }
+
+    private void count(int counter)
+    {
+        int stripe = (int) Thread.currentThread().getId() & (STRIPES - 1);
+        _counters.incrementAndGet(stripe * 2 * PAD + counter);
+    }
+
+    private long sum(int counter)
+    {
+        long total = 0;
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            total += _counters.get(stripe * 2 * PAD + counter);
+        }
+        return total;
+    }
+
+    private static boolean matches(byte[] cached, byte[] bytes, int offset, int len)
+    {
+        if (cached.length != len) return false;
+        for (int i = 0; i < len; i++) {
+            if (cached[i] != bytes[offset + i]) return false;
+        }
+        return true;
+    }
+
+    public long getHitCount()
+    {
+        return sum(HITS);
+    }
+
+    public long getMissCount()
+    {
+        return sum(MISSES);
+    }
+
+    public int getMaxEntries()
+    {
+        return _slots.length;
+    }
+
+    public int getMaxLength()
+    {
+        return MAX_LENGTH;
+    }
+
+    public void clear()
+    {
+        for (int i = 0; i < _slots.length; i++) {
+            _slots[i] = null;
+            _candidates[i] = 0;
+        }
+    }
+}
@@ -15,6 +15,7 @@
 package software.amazon.ion.impl.bin;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.math.BigInteger;
 import software.amazon.ion.Decimal;
 import software.amazon.ion.IonDatagram;
@@ -27,7 +28,9 @@ import software.amazon.ion.Timestamp;
 import software.amazon.ion.impl.PrivateByteTransferReader;
 import software.amazon.ion.impl.PrivateByteTransferSink;
 import software.amazon.ion.impl.PrivateIonWriter;
+import software.amazon.ion.impl.PrivateRawValueReader;
 import software.amazon.ion.impl.PrivateSymtabExtendsCache;
+import software.amazon.ion.impl.PrivateTranscodingReader;
 import software.amazon.ion.impl.PrivateUtils;
 
 /** Common adapter for binary {@link IonWriter} implementations. */
@@ -78,6 +81,12 @@ import software.amazon.ion.impl.PrivateUtils;
                 transferReader.transferCurrentValue(this);
                 return;
             }
+
+            final PrivateRawValueReader rawReader = reader.asFacet(PrivateRawValueReader.class);
+            if (rawReader != null && transferRemappingSymbols(reader, rawReader))
+            {
+                return;
+            }
         }
 
         writeValueRecursive(reader);
@@ -136,9 +145,18 @@ import software.amazon.ion.impl.PrivateUtils;
                 writeFloat(doubleValue);
                 break;
             case DECIMAL:
+            {
+                final PrivateTranscodingReader transcodingReader =
+                    reader.asFacet(PrivateTranscodingReader.class);
+                if (transcodingReader != null && transcodingReader.loadDecimal())
+                {
+                    writeDecimal(transcodingReader.decimalUnscaledValue(), transcodingReader.decimalScale());
+                    break;
+                }
                 final Decimal decimalValue = reader.decimalValue();
                 writeDecimal(decimalValue);
                 break;
+            }
             case TIMESTAMP:
                 final Timestamp timestampValue = reader.timestampValue();
                 writeTimestamp(timestampValue);
@@ -148,17 +166,50 @@ import software.amazon.ion.impl.PrivateUtils;
                 writeSymbolToken(symbolValue);
                 break;
             case STRING:
+            {
+                final PrivateTranscodingReader transcodingReader =
+                    reader.asFacet(PrivateTranscodingReader.class);
+                if (transcodingReader != null)
+                {
+                    writeStringChars(transcodingReader.stringChars());
+                    break;
+                }
                 final String stringValue = reader.stringValue();
                 writeString(stringValue);
                 break;
+            }
             case CLOB:
-                final byte[] clobValue = reader.newBytes();
-                writeClob(clobValue);
-                break;
             case BLOB:
-                final byte[] blobValue = reader.newBytes();
-                writeBlob(blobValue);
+            {
+                final PrivateTranscodingReader transcodingReader =
+                    reader.asFacet(PrivateTranscodingReader.class);
+                final byte[] lobArray = transcodingReader == null ? null : transcodingReader.lobArray();
+                if (lobArray != null)
+                {
+                    // copy in place, leaving the lob readable
+                    final int offset = transcodingReader.lobOffset();
+                    final int length = reader.byteSize();
+                    if (type == IonType.CLOB)
+                    {
+                        writeClob(lobArray, offset, length);
+                    }
+                    else
+                    {
+                        writeBlob(lobArray, offset, length);
+                    }
+                    break;
+                }
+                final byte[] lobValue = reader.newBytes();
+                if (type == IonType.CLOB)
+                {
+                    writeClob(lobValue);
+                }
+                else
+                {
+                    writeBlob(lobValue);
+                }
                 break;
+            }
             case LIST:
             case SEXP:
             case STRUCT:
@@ -175,6 +226,33 @@ import software.amazon.ion.impl.PrivateUtils;
         }
     }
 
+    /**
+     * Copies the reader's current value from its binary encoding, translating the symbol IDs it contains
+     * from the reader's symbol table to this writer's.
+     *
+     * @return false, having written nothing, if this writer can't do that for the value.
+     */
+    /*package*/ boolean transferRemappingSymbols(final IonReader reader, final PrivateRawValueReader source)
+        throws IOException
+    {
+        return false;
+    }
+
+    /**
+     * Writes a non-null string from characters that may be a view of a reader's
+     * buffer, so implementations must not retain them past this call.
+     */
+    /*package*/ void writeStringChars(final CharSequence value) throws IOException
+    {
+        writeString(value.toString());
+    }
+
+    /** Writes a decimal held as its unscaled value and scale. */
+    /*package*/ void writeDecimal(final long unscaledValue, final int scale) throws IOException
+    {
+        writeDecimal(BigDecimal.valueOf(unscaledValue, scale));
+    }
+
     public final void writeValues(final IonReader reader) throws IOException
     {
         if (reader.getType() != null)
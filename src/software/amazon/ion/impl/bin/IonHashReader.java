@@ -0,0 +1,271 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl.bin;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Date;
+import java.util.Iterator;
+import software.amazon.ion.Decimal;
+import software.amazon.ion.IntegerSize;
+import software.amazon.ion.IonException;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonType;
+import software.amazon.ion.SymbolTable;
+import software.amazon.ion.SymbolToken;
+import software.amazon.ion.Timestamp;
+
+/**
+ * An {@link IonReader} that passes through another reader, feeding each value
+ * into an {@link IonHashWriter} once the reader moves past it.
+ * <p>
+ * Values that are skipped, or only partially read, are still hashed in full
+ * from the underlying reader, so the digest does not depend on how the
+ * caller traverses the data.
+ */
+/*package*/ final class IonHashReader implements IonReader
+{
+    private final IonReader     reader;
+    private final IonHashWriter writer;
+
+    /** True if the reader's current value has not been hashed. */
+    private boolean             pending;
+
+    /*package*/ IonHashReader(final IonReader reader, final IonHashWriter writer)
+    {
+        this.reader = reader;
+        this.writer = writer;
+        this.pending = false;
+    }
+
+    private void hashPending()
+    {
+        if (pending)
+        {
+            pending = false;
+            try
+            {
+                writer.writeValue(reader);
+            }
+            catch (final IOException e)
+            {
+                throw new IonException(e);
+            }
+        }
+    }
+
+    public IonType next()
+    {
+        hashPending();
+        final IonType type = reader.next();
+        pending = (type != null);
+        return type;
+    }
+
+    public void stepIn()
+    {
+        final IonType type = reader.getType();
+        if (type == null || !IonType.isContainer(type) || reader.isNullValue())
+        {
+            // let the underlying reader report the error
+            reader.stepIn();
+            return;
+        }
+        if (reader.isInStruct())
+        {
+            writer.setFieldNameSymbol(reader.getFieldNameSymbol());
+        }
+        writer.setTypeAnnotationSymbols(reader.getTypeAnnotationSymbols());
+        try
+        {
+            writer.stepIn(type);
+        }
+        catch (final IOException e)
+        {
+            throw new IonException(e);
+        }
+        pending = false;
+        reader.stepIn();
+    }
+
+    public void stepOut()
+    {
+        if (reader.getDepth() == 0)
+        {
+            // let the underlying reader report the error
+            reader.stepOut();
+            return;
+        }
+        try
+        {
+            hashPending();
+            while (reader.next() != null)
+            {
+                writer.writeValue(reader);
+            }
+            writer.stepOut();
+        }
+        catch (final IOException e)
+        {
+            throw new IonException(e);
+        }
+        reader.stepOut();
+    }
+
+    public int getDepth()
+    {
+        return reader.getDepth();
+    }
+
+    public SymbolTable getSymbolTable()
+    {
+        return reader.getSymbolTable();
+    }
+
+    public IonType getType()
+    {
+        return reader.getType();
+    }
+
+    public IntegerSize getIntegerSize()
+    {
+        return reader.getIntegerSize();
+    }
+
+    public String[] getTypeAnnotations()
+    {
+        return reader.getTypeAnnotations();
+    }
+
+    public SymbolToken[] getTypeAnnotationSymbols()
+    {
+        return reader.getTypeAnnotationSymbols();
+    }
+
+    public Iterator<String> iterateTypeAnnotations()
+    {
+        return reader.iterateTypeAnnotations();
+    }
+
+    public String getFieldName()
+    {
+        return reader.getFieldName();
+    }
+
+    public SymbolToken getFieldNameSymbol()
+    {
+        return reader.getFieldNameSymbol();
+    }
+
+    public boolean isNullValue()
+    {
+        return reader.isNullValue();
+    }
+
+    public boolean isInStruct()
+    {
+        return reader.isInStruct();
+    }
+
+    public boolean booleanValue()
+    {
+        return reader.booleanValue();
+    }
+
+    public int intValue()
+    {
+        return reader.intValue();
+    }
+
+    public long longValue()
+    {
+        return reader.longValue();
+    }
+
+    public BigInteger bigIntegerValue()
+    {
+        return reader.bigIntegerValue();
+    }
+
+    public double doubleValue()
+    {
+        return reader.doubleValue();
+    }
+
+    public BigDecimal bigDecimalValue()
+    {
+        return reader.bigDecimalValue();
+    }
+
+    public Decimal decimalValue()
+    {
+        return reader.decimalValue();
+    }
+
+    public Date dateValue()
+    {
+        return reader.dateValue();
+    }
+
+    public Timestamp timestampValue()
+    {
+        return reader.timestampValue();
+    }
+
+    public String stringValue()
+    {
+        return reader.stringValue();
+    }
+
+    public SymbolToken symbolValue()
+    {
+        return reader.symbolValue();
+    }
+
+    public int byteSize()
+    {
+        return reader.byteSize();
+    }
+
+    public byte[] newBytes()
+    {
+        return reader.newBytes();
+    }
+
+    public int getBytes(final byte[] buffer, final int offset, final int len)
+    {
+        return reader.getBytes(buffer, offset, len);
+    }
+
+    /**
+     * Returns null: facets such as {@link software.amazon.ion.SeekableReader}
+     * would move the underlying reader behind the digest's back.
+     */
+    public <T> T asFacet(final Class<T> facetType)
+    {
+        return null;
+    }
+
+    /** Hashes the current value, if any, and closes the underlying reader. */
+    public void close() throws IOException
+    {
+        if (reader.getDepth() == 0)
+        {
+            hashPending();
+        }
+        reader.close();
+    }
+}
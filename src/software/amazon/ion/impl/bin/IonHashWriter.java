@@ -0,0 +1,823 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl.bin;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import software.amazon.ion.Decimal;
+import software.amazon.ion.IonCatalog;
+import software.amazon.ion.IonException;
+import software.amazon.ion.IonType;
+import software.amazon.ion.SymbolTable;
+import software.amazon.ion.SymbolToken;
+import software.amazon.ion.Timestamp;
+
+/**
+ * An {@link software.amazon.ion.IonWriter} that feeds a canonical encoding of
+ * each value into a {@link MessageDigest} as it is written, without
+ * serializing or buffering the value.
+ * <p>
+ * The encoding borrows the framing of the Ion Hash specification, but its
+ * scalar representations are this library's own, so the digests are not
+ * compatible with Ion Hash implementations. It depends only on the Ion data
+ * model, not on symbol tables or the Ion encoding:
+ * <ul>
+ *   <li>A value is {@code BEGIN TQ representation END}, where {@code TQ} is
+ *       the binary type descriptor's type code in the high nibble.</li>
+ *   <li>An annotated value is {@code BEGIN 0xE0 annotations value END}, with
+ *       each annotation encoded as a symbol value.</li>
+ *   <li>The representation of a list or s-expression is the concatenation of
+ *       its children's encodings.</li>
+ *   <li>The representation of a struct is the sorted concatenation of the
+ *       digests of each field, where a field is its name encoded as a symbol
+ *       value followed by its value. Field order is therefore
+ *       insignificant.</li>
+ *   <li>Symbols are represented by their UTF-8 text. All symbols with unknown
+ *       text share the type qualifier {@code 0x71} and an empty
+ *       representation.</li>
+ *   <li>Ints are the big-endian magnitude, with the sign in the type
+ *       qualifier. Floats are always the 8 bytes of the IEEE 754 double.
+ *       Decimals are a 4-byte scale, a sign byte and the magnitude of the
+ *       coefficient. Timestamps are their canonical text.</li>
+ * </ul>
+ * Representation bytes equal to {@code BEGIN}, {@code END} or {@code ESCAPE}
+ * are preceded by {@code ESCAPE}.
+ * <p>
+ * Top-level values are fed directly into the caller's digest, so a digest
+ * per value is obtained by calling {@link MessageDigest#digest()} after
+ * writing each one. Struct fields are digested with additional instances of
+ * the same algorithm, which are reused for the life of the writer.
+ */
+/*package*/ final class IonHashWriter extends AbstractIonWriter
+{
+    private static final byte BEGIN  = (byte) 0x0B;
+    private static final byte END    = (byte) 0x0E;
+    private static final byte ESCAPE = (byte) 0x0C;
+
+    private static final byte NULL_NULL           = (byte) 0x0F;
+    private static final byte BOOL_FALSE          = (byte) 0x10;
+    private static final byte BOOL_TRUE           = (byte) 0x11;
+    private static final byte POS_INT_TYPE        = (byte) 0x20;
+    private static final byte NEG_INT_TYPE        = (byte) 0x30;
+    private static final byte FLOAT_TYPE          = (byte) 0x40;
+    private static final byte DECIMAL_TYPE        = (byte) 0x50;
+    private static final byte DECIMAL_NEG_ZERO    = (byte) 0x51;
+    private static final byte TIMESTAMP_TYPE      = (byte) 0x60;
+    private static final byte SYMBOL_TYPE         = (byte) 0x70;
+    private static final byte SYMBOL_UNKNOWN_TEXT = (byte) 0x71;
+    private static final byte STRING_TYPE         = (byte) 0x80;
+    private static final byte CLOB_TYPE           = (byte) 0x90;
+    private static final byte BLOB_TYPE           = (byte) 0xA0;
+    private static final byte ANNOTATION_WRAPPER  = (byte) 0xE0;
+
+    private static final byte[] TYPE_CODES = new byte[IonType.values().length];
+    static
+    {
+        TYPE_CODES[IonType.NULL.ordinal()]      = (byte) 0x00;
+        TYPE_CODES[IonType.BOOL.ordinal()]      = (byte) 0x10;
+        TYPE_CODES[IonType.INT.ordinal()]       = (byte) 0x20;
+        TYPE_CODES[IonType.FLOAT.ordinal()]     = (byte) 0x40;
+        TYPE_CODES[IonType.DECIMAL.ordinal()]   = (byte) 0x50;
+        TYPE_CODES[IonType.TIMESTAMP.ordinal()] = (byte) 0x60;
+        TYPE_CODES[IonType.SYMBOL.ordinal()]    = (byte) 0x70;
+        TYPE_CODES[IonType.STRING.ordinal()]    = (byte) 0x80;
+        TYPE_CODES[IonType.CLOB.ordinal()]      = (byte) 0x90;
+        TYPE_CODES[IonType.BLOB.ordinal()]      = (byte) 0xA0;
+        TYPE_CODES[IonType.LIST.ordinal()]      = (byte) 0xB0;
+        TYPE_CODES[IonType.SEXP.ordinal()]      = (byte) 0xC0;
+        TYPE_CODES[IonType.STRUCT.ordinal()]    = (byte) 0xD0;
+    }
+
+    /**
+     * An open container. Frames are pooled by depth and reused.
+     * <p>
+     * The digests of a struct's fields are kept in {@link #fields}, with
+     * {@link #order} listing their indices in sorted order.
+     */
+    private static final class Container
+    {
+        IonType       type;
+        boolean       annotated;
+        /** Where the container's own encoding goes. */
+        MessageDigest parentSink;
+        MessageDigest fieldDigest;
+        byte[]        fields;
+        int[]         order;
+        int           fieldCount;
+    }
+
+    private final MessageDigest     digest;
+    private final int               digestLength;
+    private final List<Container>   containers;
+    private int                     depth;
+    private MessageDigest           sink;
+
+    private boolean                 fieldNameSet;
+    private String                  fieldName;
+    private final List<String>      annotations;
+
+    private final byte[]            scalar;
+    private byte[]                  scratch;
+
+    /*package*/ IonHashWriter(final MessageDigest digest)
+    {
+        super(WriteValueOptimization.NONE);
+        this.digest = digest;
+        this.digestLength = digest.getDigestLength();
+        if (digestLength <= 0)
+        {
+            throw new IllegalArgumentException("Digest length must be known: " + digest.getAlgorithm());
+        }
+        this.containers = new ArrayList<Container>();
+        this.depth = 0;
+        this.sink = digest;
+
+        this.fieldNameSet = false;
+        this.fieldName = null;
+        this.annotations = new ArrayList<String>();
+
+        this.scalar = new byte[12];
+        this.scratch = new byte[64];
+    }
+
+    /** Always returns {@link Symbols#systemSymbolTable()}. */
+    public SymbolTable getSymbolTable()
+    {
+        return Symbols.systemSymbolTable();
+    }
+
+    /** Resolves the text of a token, which is null if it is unknown. */
+    private String textOf(final SymbolToken symbol)
+    {
+        final String text = symbol.getText();
+        if (text == null && symbol.getSid() > 0)
+        {
+            return getSymbolTable().findKnownSymbol(symbol.getSid());
+        }
+        return text;
+    }
+
+    // Current Value Meta
+
+    public void setFieldName(final String name)
+    {
+        if (!isInStruct())
+        {
+            throw new IonException("Cannot set field name outside of struct context");
+        }
+        if (name == null)
+        {
+            throw new NullPointerException("Null field name is not allowed.");
+        }
+        fieldName = name;
+        fieldNameSet = true;
+    }
+
+    public void setFieldNameSymbol(final SymbolToken name)
+    {
+        if (!isInStruct())
+        {
+            throw new IonException("Cannot set field name outside of struct context");
+        }
+        fieldName = textOf(name);
+        fieldNameSet = true;
+    }
+
+    public void setTypeAnnotations(final String... annotations)
+    {
+        this.annotations.clear();
+        if (annotations != null)
+        {
+            for (final String annotation : annotations)
+            {
+                addTypeAnnotation(annotation);
+            }
+        }
+    }
+
+    public void setTypeAnnotationSymbols(final SymbolToken... annotations)
+    {
+        this.annotations.clear();
+        if (annotations != null)
+        {
+            for (final SymbolToken annotation : annotations)
+            {
+                this.annotations.add(textOf(annotation));
+            }
+        }
+    }
+
+    public void addTypeAnnotation(final String annotation)
+    {
+        if (annotation == null)
+        {
+            throw new NullPointerException("Null annotation is not allowed.");
+        }
+        annotations.add(annotation);
+    }
+
+    // Compatibility with Implementation Writer Interface
+
+    public IonCatalog getCatalog()
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    public boolean isFieldNameSet()
+    {
+        return fieldNameSet;
+    }
+
+    /** Does nothing: IVMs have no effect on the digest. */
+    public void writeIonVersionMarker() throws IOException {}
+
+    public int getDepth()
+    {
+        return depth;
+    }
+
+    // Low-Level Hashing
+
+    /** Feeds bytes into the sink, escaping any marker bytes. */
+    private void updateEscaped(final byte[] data, final int offset, final int length)
+    {
+        final int limit = offset + length;
+        int start = offset;
+        for (int i = offset; i < limit; i++)
+        {
+            final byte b = data[i];
+            if (b == BEGIN || b == END || b == ESCAPE)
+            {
+                sink.update(data, start, i - start);
+                sink.update(ESCAPE);
+                start = i;
+            }
+        }
+        sink.update(data, start, limit - start);
+    }
+
+    private byte[] scratch(final int length)
+    {
+        if (scratch.length < length)
+        {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        return scratch;
+    }
+
+    /** Feeds the UTF-8 encoding of text into the sink, escaped. */
+    private void updateUtf8(final String text)
+    {
+        final int length = text.length();
+        final byte[] bytes = scratch(length * 3);
+        int pos = 0;
+        for (int i = 0; i < length; i++)
+        {
+            int c = text.charAt(i);
+            if (c < 0x80)
+            {
+                bytes[pos++] = (byte) c;
+            }
+            else if (c < 0x800)
+            {
+                bytes[pos++] = (byte) (0xC0 | (c >> 6));
+                bytes[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+            else if (Character.isHighSurrogate((char) c)
+                     && i + 1 < length
+                     && Character.isLowSurrogate(text.charAt(i + 1)))
+            {
+                c = Character.toCodePoint((char) c, text.charAt(++i));
+                bytes[pos++] = (byte) (0xF0 | (c >> 18));
+                bytes[pos++] = (byte) (0x80 | ((c >> 12) & 0x3F));
+                bytes[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+            else
+            {
+                if (Character.isSurrogate((char) c))
+                {
+                    // unpaired, as String.getBytes() would replace it
+                    c = 0xFFFD;
+                }
+                bytes[pos++] = (byte) (0xE0 | (c >> 12));
+                bytes[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        updateEscaped(bytes, 0, pos);
+    }
+
+    /** Feeds a symbol value with the given text, which may be unknown. */
+    private void updateSymbol(final String text)
+    {
+        sink.update(BEGIN);
+        if (text == null)
+        {
+            sink.update(SYMBOL_UNKNOWN_TEXT);
+        }
+        else
+        {
+            sink.update(SYMBOL_TYPE);
+            updateUtf8(text);
+        }
+        sink.update(END);
+    }
+
+    /** Feeds the big-endian magnitude of a long, as unsigned, without leading zeros. */
+    private void updateMagnitude(final long magnitude)
+    {
+        int length = 8 - (Long.numberOfLeadingZeros(magnitude) >> 3);
+        for (int i = 0; i < length; i++)
+        {
+            scalar[i] = (byte) (magnitude >>> ((length - 1 - i) << 3));
+        }
+        updateEscaped(scalar, 0, length);
+    }
+
+    private Container currentContainer()
+    {
+        return depth == 0 ? null : containers.get(depth - 1);
+    }
+
+    /** Prepares to hash a value with field name and annotations. */
+    private void prepareValue()
+    {
+        if (isInStruct())
+        {
+            if (!fieldNameSet)
+            {
+                throw new IllegalStateException("IonWriter.setFieldName() must be called before writing a value into a struct.");
+            }
+            final Container struct = currentContainer();
+            struct.fieldDigest.reset();
+            sink = struct.fieldDigest;
+            updateSymbol(fieldName);
+
+            // clear out field name
+            fieldName = null;
+            fieldNameSet = false;
+        }
+        if (!annotations.isEmpty())
+        {
+            sink.update(BEGIN);
+            sink.update(ANNOTATION_WRAPPER);
+            for (final String annotation : annotations)
+            {
+                updateSymbol(annotation);
+            }
+            // clear out annotations
+            annotations.clear();
+        }
+    }
+
+    /**
+     * Closes out annotations, and completes the field if the value is in a
+     * struct.
+     */
+    private void finishValue(final boolean annotated)
+    {
+        if (annotated)
+        {
+            sink.update(END);
+        }
+        final Container struct = currentContainer();
+        if (struct != null && struct.type == IonType.STRUCT)
+        {
+            addField(struct);
+        }
+    }
+
+    /** Digests the field just written, keeping field digests sorted. */
+    private void addField(final Container struct)
+    {
+        final int count = struct.fieldCount;
+        if (struct.order.length == count)
+        {
+            final int[] order = new int[count * 2];
+            System.arraycopy(struct.order, 0, order, 0, count);
+            struct.order = order;
+            final byte[] fields = new byte[count * 2 * digestLength];
+            System.arraycopy(struct.fields, 0, fields, 0, count * digestLength);
+            struct.fields = fields;
+        }
+        final byte[] fields = struct.fields;
+        final int offset = count * digestLength;
+        try
+        {
+            struct.fieldDigest.digest(fields, offset, digestLength);
+        }
+        catch (final DigestException e)
+        {
+            throw new IonException(e);
+        }
+
+        // binary search for the insertion point
+        final int[] order = struct.order;
+        int low = 0;
+        int high = count;
+        while (low < high)
+        {
+            final int mid = (low + high) >>> 1;
+            if (compareFields(fields, order[mid] * digestLength, offset) <= 0)
+            {
+                low = mid + 1;
+            }
+            else
+            {
+                high = mid;
+            }
+        }
+        System.arraycopy(order, low, order, low + 1, count - low);
+        order[low] = count;
+        struct.fieldCount = count + 1;
+    }
+
+    /** Compares two digests as unsigned bytes. */
+    private int compareFields(final byte[] fields, final int a, final int b)
+    {
+        for (int i = 0; i < digestLength; i++)
+        {
+            final int diff = (fields[a + i] & 0xFF) - (fields[b + i] & 0xFF);
+            if (diff != 0)
+            {
+                return diff;
+            }
+        }
+        return 0;
+    }
+
+    private void writeScalar(final byte typeQualifier)
+    {
+        sink.update(BEGIN);
+        sink.update(typeQualifier);
+        sink.update(END);
+    }
+
+    private void beginScalar(final byte typeQualifier)
+    {
+        sink.update(BEGIN);
+        sink.update(typeQualifier);
+    }
+
+    private void endScalar()
+    {
+        sink.update(END);
+    }
+
+    // Container Manipulation
+
+    public void stepIn(final IonType containerType) throws IOException
+    {
+        if (!IonType.isContainer(containerType))
+        {
+            throw new IonException("Cannot step into " + containerType);
+        }
+        final boolean annotated = !annotations.isEmpty();
+        prepareValue();
+
+        if (depth == containers.size())
+        {
+            containers.add(new Container());
+        }
+        final Container container = containers.get(depth);
+        container.type = containerType;
+        container.annotated = annotated;
+        container.parentSink = sink;
+        depth++;
+
+        sink.update(BEGIN);
+        sink.update(TYPE_CODES[containerType.ordinal()]);
+        if (containerType == IonType.STRUCT)
+        {
+            if (container.fieldDigest == null)
+            {
+                container.fieldDigest = newDigest();
+                container.order = new int[8];
+                container.fields = new byte[8 * digestLength];
+            }
+            container.fieldCount = 0;
+        }
+    }
+
+    private MessageDigest newDigest()
+    {
+        try
+        {
+            return MessageDigest.getInstance(digest.getAlgorithm(), digest.getProvider());
+        }
+        catch (final NoSuchAlgorithmException e)
+        {
+            throw new IonException(e);
+        }
+    }
+
+    public void stepOut() throws IOException
+    {
+        if (fieldNameSet)
+        {
+            throw new IonException("Cannot step out with field name set");
+        }
+        if (!annotations.isEmpty())
+        {
+            throw new IonException("Cannot step out with annotations set");
+        }
+        final Container container = currentContainer();
+        if (container == null)
+        {
+            throw new IonException("Cannot step out when not in container");
+        }
+        sink = container.parentSink;
+        container.parentSink = null;
+        if (container.type == IonType.STRUCT)
+        {
+            final int[] order = container.order;
+            for (int i = 0; i < container.fieldCount; i++)
+            {
+                updateEscaped(container.fields, order[i] * digestLength, digestLength);
+            }
+        }
+        sink.update(END);
+        depth--;
+        finishValue(container.annotated);
+    }
+
+    public boolean isInStruct()
+    {
+        final Container container = currentContainer();
+        return container != null && container.type == IonType.STRUCT;
+    }
+
+    // Write Value Methods
+
+    public void writeNull() throws IOException
+    {
+        writeNull(IonType.NULL);
+    }
+
+    public void writeNull(final IonType type) throws IOException
+    {
+        byte typeQualifier = NULL_NULL;
+        if (type != null && type != IonType.NULL)
+        {
+            if (type == IonType.DATAGRAM)
+            {
+                throw new IllegalArgumentException("Cannot write a null for: " + type);
+            }
+            typeQualifier = (byte) (TYPE_CODES[type.ordinal()] | 0x0F);
+        }
+        final boolean annotated = !annotations.isEmpty();
+        prepareValue();
+        writeScalar(typeQualifier);
+        finishValue(annotated);
+    }
+
+    public void writeBool(final boolean value) throws IOException
+    {
+        final boolean annotated = !annotations.isEmpty();
+        prepareValue();
+        writeScalar(value ? BOOL_TRUE : BOOL_FALSE);
+        finishValue(annotated);
+    }
+
+    public void writeInt(final long value) throws IOException
+    {
+        final boolean annotated = !annotations.isEmpty();
+        prepareValue();
+        if (value < 0)
+        {
+            beginScalar(NEG_INT_TYPE);
+            // the negation of Long.MIN_VALUE is still correct as unsigned
+            updateMagnitude(-value);
+        }
+        else
+        {
+            beginScalar(POS_INT_TYPE);
+            updateMagnitude(value);
+        }
+        endScalar();
+        finishValue(annotated);
+    }
+
+    public void writeInt(final BigInteger value) throws IOException
+    {
+        if (value == null)
+        {
+            writeNull(IonType.INT);
+            return;
+        }
+        if (value.bitLength() < 64)
+        {
+            writeInt(value.longValue());
+            return;
+        }
+        final boolean annotated = !annotations.isEmpty();
+        prepareValue();
+        beginScalar(value.signum() < 0 ? NEG_INT_TYPE : POS_INT_TYPE);
+        final byte[] magnitude = value.abs().toByteArray();
+        // skip the sign byte
+        final int offset = magnitude[0] == 0 ? 1 : 0;
+        updateEscaped(magnitude, offset, magnitude.length - offset);
+        endScalar();
+        finishValue(annotated);
+    }
+
+    public void writeFloat(final double value) throws IOException
+    {
+        final boolean annotated = !annotations.isEmpty();
+        prepareValue();
+        beginScalar(FLOAT_TYPE);
+        final long bits = Double.doubleToLongBits(value);
+        for (int i = 0; i < 8; i++)
+        {
+            scalar[i] = (byte) (bits >>> ((7 - i) << 3));
+        }
+        updateEscaped(scalar, 0, 8);
+        endScalar();
+        finishValue(annotated);
+    }
+
+    public void writeDecimal(final BigDecimal value) throws IOException
+    {
+        if (value == null)
+        {
+            writeNull(IonType.DECIMAL);
+            return;
+        }
+        final boolean annotated = !annotations.isEmpty();
+        prepareValue();
+        beginScalar(Decimal.isNegativeZero(value) ? DECIMAL_NEG_ZERO : DECIMAL_TYPE);
+        final int scale = value.scale();
+        for (int i = 0; i < 4; i++)
+        {
+            scalar[i] = (byte) (scale >>> ((3 - i) << 3));
+        }
+        updateEscaped(scalar, 0, 4);
+        // the sign, then the magnitude of the coefficient
+        final BigInteger unscaled = value.unscaledValue();
+        sink.update(unscaled.signum() < 0 ? (byte) 1 : (byte) 0);
+        if (unscaled.bitLength() < 64)
+        {
+            updateMagnitude(Math.abs(unscaled.longValue()));
+        }
+        else
+        {
+            final byte[] magnitude = unscaled.abs().toByteArray();
+            final int offset = magnitude[0] == 0 ? 1 : 0;
+            updateEscaped(magnitude, offset, magnitude.length - offset);
+        }
+        endScalar();
+        finishValue(annotated);
+    }
+
+    public void writeTimestamp(final Timestamp value) throws IOException
+    {
+        if (value == null)
+        {
+            writeNull(IonType.TIMESTAMP);
+            return;
+        }
+        final boolean annotated = !annotations.isEmpty();
+        prepareValue();
+        beginScalar(TIMESTAMP_TYPE);
+        // the canonical text form distinguishes precision and offset, as
+        // equivalence does
+        updateUtf8(value.toString());
+        endScalar();
+        finishValue(annotated);
+    }
+
+    public void writeSymbol(final String content) throws IOException
+    {
+        if (content == null)
+        {
+            writeNull(IonType.SYMBOL);
+            return;
+        }
+        final boolean annotated = !annotations.isEmpty();
+        prepareValue();
+        updateSymbol(content);
+        finishValue(annotated);
+    }
+
+    public void writeSymbolToken(final SymbolToken content) throws IOException
+    {
+        if (content == null)
+        {
+            writeNull(IonType.SYMBOL);
+            return;
+        }
+        final boolean annotated = !annotations.isEmpty();
+        prepareValue();
+        updateSymbol(textOf(content));
+        finishValue(annotated);
+    }
+
+    public void writeString(final String value) throws IOException
+    {
+        if (value == null)
+        {
+            writeNull(IonType.STRING);
+            return;
+        }
+        final boolean annotated = !annotations.isEmpty();
+        prepareValue();
+        beginScalar(STRING_TYPE);
+        updateUtf8(value);
+        endScalar();
+        finishValue(annotated);
+    }
+
+    public void writeClob(final byte[] data) throws IOException
+    {
+        if (data == null)
+        {
+            writeNull(IonType.CLOB);
+            return;
+        }
+        writeClob(data, 0, data.length);
+    }
+
+    public void writeClob(final byte[] data, final int offset, final int length) throws IOException
+    {
+        writeLob(IonType.CLOB, CLOB_TYPE, data, offset, length);
+    }
+
+    public void writeBlob(final byte[] data) throws IOException
+    {
+        if (data == null)
+        {
+            writeNull(IonType.BLOB);
+            return;
+        }
+        writeBlob(data, 0, data.length);
+    }
+
+    public void writeBlob(final byte[] data, final int offset, final int length) throws IOException
+    {
+        writeLob(IonType.BLOB, BLOB_TYPE, data, offset, length);
+    }
+
+    private void writeLob(final IonType type, final byte typeQualifier,
+                          final byte[] data, final int offset, final int length)
+        throws IOException
+    {
+        if (data == null)
+        {
+            writeNull(type);
+            return;
+        }
+        final boolean annotated = !annotations.isEmpty();
+        prepareValue();
+        beginScalar(typeQualifier);
+        updateEscaped(data, offset, length);
+        endScalar();
+        finishValue(annotated);
+    }
+
+    /** Raw binary values depend on a symbol table, and so cannot be hashed. */
+    public void writeBytes(final byte[] data, final int offset, final int length) throws IOException
+    {
+        throw new UnsupportedOperationException("Cannot hash raw binary values");
+    }
+
+    // Stream Manipulation/Terminators
+
+    public void flush() throws IOException {}
+
+    public void finish() throws IOException
+    {
+        if (depth != 0)
+        {
+            throw new IllegalStateException("Cannot finish within container");
+        }
+    }
+
+    /** Leaves the digest as it is; it belongs to the caller. */
+    public void close() throws IOException
+    {
+        depth = 0;
+        sink = digest;
+        fieldName = null;
+        fieldNameSet = false;
+        annotations.clear();
+    }
+}
@@ -16,7 +16,9 @@ package software.amazon.ion.impl.bin;
 
 import static java.util.Collections.unmodifiableList;
 import static software.amazon.ion.IonType.LIST;
+import static software.amazon.ion.IonType.SEXP;
 import static software.amazon.ion.IonType.STRUCT;
+import static software.amazon.ion.SymbolTable.UNKNOWN_SYMBOL_ID;
 import static software.amazon.ion.SystemSymbols.IMPORTS_SID;
 import static software.amazon.ion.SystemSymbols.ION_1_0_MAX_ID;
 import static software.amazon.ion.SystemSymbols.ION_1_0_SID;
@@ -44,17 +46,22 @@ import java.util.List;
 import java.util.Map;
 import software.amazon.ion.IonCatalog;
 import software.amazon.ion.IonException;
+import software.amazon.ion.IonReader;
 import software.amazon.ion.IonType;
+import software.amazon.ion.ResettableWriter;
 import software.amazon.ion.SymbolTable;
 import software.amazon.ion.SymbolToken;
 import software.amazon.ion.Timestamp;
 import software.amazon.ion.UnknownSymbolException;
+import software.amazon.ion.impl.PrivateByteTransferSink;
+import software.amazon.ion.impl.PrivateFieldIdReader;
+import software.amazon.ion.impl.PrivateRawValueReader;
 import software.amazon.ion.impl.PrivateUtils;
 import software.amazon.ion.impl.bin.IonRawBinaryWriter.StreamCloseMode;
 import software.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
 
 /** Wraps {@link IonRawBinaryWriter} with symbol table management. */
-/*package*/ final class IonManagedBinaryWriter extends AbstractIonWriter
+/*package*/ final class IonManagedBinaryWriter extends AbstractIonWriter implements ResettableWriter
 {
     private interface SymbolResolver
     {
@@ -374,6 +381,7 @@ import software.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
                     // replace the symbol table context with the user provided one
                     // TODO determine if the resolver mode should be configurable for this use case
                     self.imports = new ImportedSymbolContext(ImportedSymbolResolverMode.DELEGATE, self.userImports);
+                    self.clearRecentSymbols();
 
                     // explicitly start the local symbol table with no version marker
                     // in case we need the previous symbols
@@ -621,6 +629,18 @@ import software.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
         }
     }
 
+    // high nibbles of the binary type descriptors that RemappingSink looks into
+    private static final int NULL_TYPE_CODE       = 0x0;
+    private static final int BOOL_TYPE_CODE       = 0x1;
+    private static final int SYMBOL_TYPE_CODE     = 0x7;
+    private static final int LIST_TYPE_CODE       = 0xB;
+    private static final int SEXP_TYPE_CODE       = 0xC;
+    private static final int STRUCT_TYPE_CODE     = 0xD;
+    private static final int ANNOTATION_TYPE_CODE = 0xE;
+
+    /** Size of {@link #recentSymbols}; must be a power of two. */
+    private static final int RECENT_SYMBOLS_SIZE = 256;
+
     private final IonCatalog                    catalog;
     private final ImportedSymbolContext         bootstrapImports;
 
@@ -628,6 +648,12 @@ import software.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
     private final Map<String, SymbolToken>      locals;
     private boolean                             localsLocked;
     private SymbolTable                         localSymbolTableView;
+    private final SymbolToken[]                 recentSymbols;
+
+    // symbol IDs of a reader's symbol table mapped to our tokens, for copying raw values
+    private SymbolTable                         remapSource;
+    private SymbolToken[]                       remapTokens;
+    private final RemappingSink                 remappingSink;
 
     private final IonRawBinaryWriter            symbols;
     private final IonRawBinaryWriter            user;
@@ -641,6 +667,8 @@ import software.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
     private final List<String>                  userSymbols;
     private final ImportDescriptor              userCurrentImport;
 
+    private final SymbolTable                   initialSymbolTable;
+
     private boolean                             forceSystemOutput;
     private boolean                             closed;
 
@@ -676,6 +704,10 @@ import software.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
         this.locals = new LinkedHashMap<String, SymbolToken>();
         this.localsLocked = false;
         this.localSymbolTableView = new LocalSymbolTableView();
+        this.recentSymbols = new SymbolToken[RECENT_SYMBOLS_SIZE];
+        this.remapSource = null;
+        this.remapTokens = new SymbolToken[RECENT_SYMBOLS_SIZE];
+        this.remappingSink = new RemappingSink();
         this.symbolState = SymbolState.SYSTEM_SYMBOLS;
 
         this.forceSystemOutput = false;
@@ -688,8 +720,16 @@ import software.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
         this.userSymbols = new ArrayList<String>();
         this.userCurrentImport = new ImportDescriptor();
 
+        this.initialSymbolTable = builder.initialSymbolTable;
+        initializeSymbols();
+    }
+
+    /** Establishes the symbol context that each new stream starts with. */
+    private void initializeSymbols() throws IOException
+    {
         // TODO decide if initial LST should survive finish() and seed the next LST
-        final SymbolTable lst = builder.initialSymbolTable;
+        clearRecentSymbols();
+        final SymbolTable lst = initialSymbolTable;
         if (lst != null)
         {
             // build import context from seeded LST
@@ -711,7 +751,7 @@ import software.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
         }
         else
         {
-            this.imports = builder.imports;
+            this.imports = bootstrapImports;
         }
     }
 
@@ -788,12 +828,39 @@ import software.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
         }
     }
 
+    /**
+     * Forgets the recently interned symbols and any symbol IDs remapped from a reader;
+     * this must be called whenever the imports or locals are replaced.
+     */
+    private void clearRecentSymbols()
+    {
+        Arrays.fill(recentSymbols, null);
+        remapSource = null;
+    }
+
     private SymbolToken intern(final String text)
     {
         if (text == null)
         {
             return null;
         }
+
+        // most streams repeat a small set of field names and annotations, so check the
+        // direct-mapped cache of recent results before going to the import and local maps
+        final int slot = text.hashCode() & (RECENT_SYMBOLS_SIZE - 1);
+        final SymbolToken recent = recentSymbols[slot];
+        if (recent != null && text.equals(recent.getText()))
+        {
+            return recent;
+        }
+
+        final SymbolToken token = internSlow(text);
+        recentSymbols[slot] = token;
+        return token;
+    }
+
+    private SymbolToken internSlow(final String text)
+    {
         try
         {
             SymbolToken token = imports.importedSymbols.get(text);
@@ -986,6 +1053,12 @@ import software.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
         user.writeDecimal(value);
     }
 
+    @Override
+    /*package*/ void writeDecimal(final long unscaledValue, final int scale) throws IOException
+    {
+        user.writeDecimal(unscaledValue, scale);
+    }
+
     public void writeTimestamp(final Timestamp value) throws IOException
     {
         user.writeTimestamp(value);
@@ -1024,6 +1097,18 @@ import software.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
         user.writeString(value);
     }
 
+    @Override
+    /*package*/ void writeStringChars(final CharSequence value) throws IOException
+    {
+        if (userState != UserState.NORMAL)
+        {
+            // the text may belong to a user-written symbol table, which needs a String
+            writeString(value.toString());
+            return;
+        }
+        user.writeStringChars(value);
+    }
+
     public void writeClob(byte[] data) throws IOException
     {
         user.writeClob(data);
@@ -1051,6 +1136,244 @@ import software.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
         user.writeBytes(data, off, len);
     }
 
+    @Override
+    /*package*/ boolean transferRemappingSymbols(final IonReader reader, final PrivateRawValueReader source)
+        throws IOException
+    {
+        if (userState != UserState.NORMAL)
+        {
+            return false;
+        }
+        final SymbolTable symbols = reader.getSymbolTable();
+        if (symbols != remapSource)
+        {
+            Arrays.fill(remapTokens, null);
+            remapSource = symbols;
+        }
+
+        final RemappingSink sink = remappingSink;
+        sink.reader = reader;
+        try
+        {
+            source.transferRawValue(sink);
+        }
+        finally
+        {
+            sink.reader = null;
+            sink.bytes = null;
+        }
+        return sink.transferred;
+    }
+
+    /** Returns our token for a symbol ID of {@link #remapSource}. */
+    private SymbolToken remap(final int sid)
+    {
+        final int maxId = remapSource.getMaxId();
+        if (sid <= 0 || sid > maxId)
+        {
+            // $0 or an ID outside of the table, neither of which has text or a slot to cache
+            return intern(PrivateUtils.newSymbolToken((String) null, sid));
+        }
+        SymbolToken[] tokens = remapTokens;
+        if (sid >= tokens.length)
+        {
+            tokens = Arrays.copyOf(tokens, Math.min(Math.max(sid + 1, tokens.length * 2), maxId + 1));
+            remapTokens = tokens;
+        }
+        SymbolToken token = tokens[sid];
+        if (token == null)
+        {
+            final String text = remapSource.findKnownSymbol(sid);
+            token = text == null ? intern(PrivateUtils.newSymbolToken((String) null, sid)) : intern(symbol(text, sid));
+            tokens[sid] = token;
+        }
+        return token;
+    }
+
+    /**
+     * Copies binary values to {@link #user}, rewriting each field name, annotation and symbol value
+     * through {@link #remap(int)} and passing all other scalars through as they are.
+     */
+    private final class RemappingSink implements PrivateByteTransferSink
+    {
+        IonReader reader;
+        byte[] bytes;
+        int position;
+        boolean transferred;
+
+        public void writeBytes(final byte[] data, final int off, final int len) throws IOException
+        {
+            bytes = data;
+            position = off;
+            transferred = false;
+            if (user.getDepth() == 0 && isSymbolTable())
+            {
+                // leave it to the managed path to recognize the local symbol table
+                return;
+            }
+
+            if (user.isInStruct() && !user.isFieldNameSet())
+            {
+                if (reader instanceof PrivateFieldIdReader)
+                {
+                    final int sid = ((PrivateFieldIdReader) reader).getRawFieldId();
+                    if (sid != UNKNOWN_SYMBOL_ID)
+                    {
+                        user.setFieldNameSymbol(remap(sid));
+                    }
+                }
+                else
+                {
+                    setFieldNameSymbol(reader.getFieldNameSymbol());
+                }
+            }
+            copyValue();
+            if (position != off + len)
+            {
+                throw new IonException("Binary value length mismatch while copying");
+            }
+            transferred = true;
+        }
+
+        /** Whether the value is a struct with a top-level annotation that makes it a local symbol table. */
+        private boolean isSymbolTable()
+        {
+            final int td = bytes[position] & 0xFF;
+            if ((td >> 4) != ANNOTATION_TYPE_CODE)
+            {
+                return false;
+            }
+            final int start = position;
+            try
+            {
+                position++;
+                readLength(td);
+                final int end = readVarUInt() + position;
+                boolean found = false;
+                while (position < end)
+                {
+                    found |= remap(readVarUInt()).getSid() == ION_SYMBOL_TABLE_SID;
+                }
+                return found && (bytes[position] & 0xFF) >> 4 == STRUCT_TYPE_CODE;
+            }
+            finally
+            {
+                position = start;
+            }
+        }
+
+        private int readVarUInt()
+        {
+            int value = 0;
+            int b;
+            do
+            {
+                b = bytes[position++];
+                value = (value << 7) | (b & 0x7F);
+            }
+            while (b >= 0);
+            return value;
+        }
+
+        /** Reads the length of the value whose type descriptor has been read. */
+        private int readLength(final int td)
+        {
+            final int length = td & 0xF;
+            if (length == 0xE || ((td >> 4) == STRUCT_TYPE_CODE && length == 1))
+            {
+                return readVarUInt();
+            }
+            return length;
+        }
+
+        private void copyValue() throws IOException
+        {
+            final int start = position;
+            final int td = bytes[position++] & 0xFF;
+            final int type = td >> 4;
+            if ((td & 0xF) == 0xF || type == BOOL_TYPE_CODE)
+            {
+                // nulls and booleans are all type descriptor
+                user.writeBytes(bytes, start, 1);
+                return;
+            }
+            final int length = readLength(td);
+            final int end = position + length;
+            switch (type)
+            {
+                case SYMBOL_TYPE_CODE:
+                {
+                    int sid = 0;
+                    while (position < end)
+                    {
+                        sid = (sid << 8) | (bytes[position++] & 0xFF);
+                    }
+                    final SymbolToken token = remap(sid);
+                    if (token.getSid() == ION_1_0_SID)
+                    {
+                        writeSymbolToken(token);
+                    }
+                    else
+                    {
+                        user.writeSymbolToken(token);
+                    }
+                    break;
+                }
+                case LIST_TYPE_CODE:
+                case SEXP_TYPE_CODE:
+                case STRUCT_TYPE_CODE:
+                {
+                    user.stepIn(type == LIST_TYPE_CODE ? LIST : type == SEXP_TYPE_CODE ? SEXP : STRUCT);
+                    while (position < end)
+                    {
+                        final int fieldSid = type == STRUCT_TYPE_CODE ? readVarUInt() : 0;
+                        final int childTd = bytes[position] & 0xFF;
+                        if ((childTd >> 4) == NULL_TYPE_CODE && (childTd & 0xF) != 0xF)
+                        {
+                            // padding
+                            position++;
+                            position += readLength(childTd);
+                            continue;
+                        }
+                        if (type == STRUCT_TYPE_CODE)
+                        {
+                            user.setFieldNameSymbol(remap(fieldSid));
+                        }
+                        copyValue();
+                    }
+                    user.stepOut();
+                    break;
+                }
+                case ANNOTATION_TYPE_CODE:
+                {
+                    final int annotationsEnd = readVarUInt() + position;
+                    final int first = position;
+                    int count = 0;
+                    while (position < annotationsEnd)
+                    {
+                        if (bytes[position++] < 0)
+                        {
+                            count++;
+                        }
+                    }
+                    final SymbolToken[] annotations = new SymbolToken[count];
+                    position = first;
+                    for (int i = 0; i < count; i++)
+                    {
+                        annotations[i] = remap(readVarUInt());
+                    }
+                    user.setTypeAnnotationSymbols(annotations);
+                    copyValue();
+                    break;
+                }
+                default:
+                    user.writeBytes(bytes, start, end - start);
+                    break;
+            }
+            position = end;
+        }
+    }
+
     // Stream Terminators
 
     public void flush() throws IOException
@@ -1090,6 +1413,29 @@ import software.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
         localsLocked = false;
         symbolState = SymbolState.SYSTEM_SYMBOLS;
         imports = bootstrapImports;
+        clearRecentSymbols();
+    }
+
+    public void reset(final OutputStream out) throws IOException
+    {
+        if (closed)
+        {
+            throw new IllegalStateException("Cannot reset a closed writer");
+        }
+        if (out == null) { throw new NullPointerException(); }
+        finish();
+
+        symbols.reset(out);
+        user.reset(out);
+
+        userState = UserState.NORMAL;
+        userSymbolTablePosition = 0L;
+        userImports.clear();
+        userSymbols.clear();
+        userCurrentImport.reset();
+        forceSystemOutput = false;
+
+        initializeSymbols();
     }
 
     public void close() throws IOException
@@ -455,7 +455,7 @@ import software.amazon.ion.Timestamp;
     }
 
     private final BlockAllocator                allocator;
-    private final OutputStream                  out;
+    private OutputStream                        out;
     private final StreamCloseMode               streamCloseMode;
     private final StreamFlushMode               streamFlushMode;
     private final PreallocationMode             preallocationMode;
@@ -1077,53 +1077,9 @@ import software.amazon.ion.Timestamp;
                 updateLength(1);
                 buffer.writeByte(DECIMAL_NEGATIVE_ZERO_MANTISSA);
             }
-            else if (mantissa == Long.MIN_VALUE)
-            {
-                // XXX special case for min value -- we need 64-bits to store the magnitude and we need a bit for sign
-                updateLength(9);
-                buffer.writeUInt8(0x80);
-                buffer.writeUInt64(mantissa);
-            }
-            else if (mantissa >= 0xFFFFFFFFFFFFFF81L && mantissa <= 0x000000000000007FL)
-            {
-                updateLength(1);
-                buffer.writeInt8(mantissa);
-            }
-            else if (mantissa >= 0xFFFFFFFFFFFF8001L && mantissa <= 0x0000000000007FFFL)
-            {
-                updateLength(2);
-                buffer.writeInt16(mantissa);
-            }
-            else if (mantissa >= 0xFFFFFFFFFF800001L && mantissa <= 0x00000000007FFFFFL)
-            {
-                updateLength(3);
-                buffer.writeInt24(mantissa);
-            }
-            else if (mantissa >= 0xFFFFFFFF80000001L && mantissa <= 0x000000007FFFFFFFL)
-            {
-                updateLength(4);
-                buffer.writeInt32(mantissa);
-            }
-            else if (mantissa >= 0xFFFFFF8000000001L && mantissa <= 0x0000007FFFFFFFFFL)
-            {
-                updateLength(5);
-                buffer.writeInt40(mantissa);
-            }
-            else if (mantissa >= 0xFFFF800000000001L && mantissa <= 0x00007FFFFFFFFFFFL)
-            {
-                updateLength(6);
-                buffer.writeInt48(mantissa);
-            }
-            else if (mantissa >= 0xFF80000000000001L && mantissa <= 0x007FFFFFFFFFFFFFL)
-            {
-                updateLength(7);
-                buffer.writeInt56(mantissa);
-            }
             else
             {
-                // TODO consider being more space efficient for integers that can be written with 6/7 bytes.
-                updateLength(8);
-                buffer.writeInt64(mantissa);
+                writeDecimalMantissa(mantissa);
             }
         }
         else
@@ -1148,6 +1104,59 @@ import software.amazon.ion.Timestamp;
         }
     }
 
+    /** Encodes a non-zero decimal coefficient as a signed-magnitude Int, updating the current container length context. */
+    private void writeDecimalMantissa(final long mantissa)
+    {
+        if (mantissa == Long.MIN_VALUE)
+        {
+            // XXX special case for min value -- we need 64-bits to store the magnitude and we need a bit for sign
+            updateLength(9);
+            buffer.writeUInt8(0x80);
+            buffer.writeUInt64(mantissa);
+        }
+        else if (mantissa >= 0xFFFFFFFFFFFFFF81L && mantissa <= 0x000000000000007FL)
+        {
+            updateLength(1);
+            buffer.writeInt8(mantissa);
+        }
+        else if (mantissa >= 0xFFFFFFFFFFFF8001L && mantissa <= 0x0000000000007FFFL)
+        {
+            updateLength(2);
+            buffer.writeInt16(mantissa);
+        }
+        else if (mantissa >= 0xFFFFFFFFFF800001L && mantissa <= 0x00000000007FFFFFL)
+        {
+            updateLength(3);
+            buffer.writeInt24(mantissa);
+        }
+        else if (mantissa >= 0xFFFFFFFF80000001L && mantissa <= 0x000000007FFFFFFFL)
+        {
+            updateLength(4);
+            buffer.writeInt32(mantissa);
+        }
+        else if (mantissa >= 0xFFFFFF8000000001L && mantissa <= 0x0000007FFFFFFFFFL)
+        {
+            updateLength(5);
+            buffer.writeInt40(mantissa);
+        }
+        else if (mantissa >= 0xFFFF800000000001L && mantissa <= 0x00007FFFFFFFFFFFL)
+        {
+            updateLength(6);
+            buffer.writeInt48(mantissa);
+        }
+        else if (mantissa >= 0xFF80000000000001L && mantissa <= 0x007FFFFFFFFFFFFFL)
+        {
+            updateLength(7);
+            buffer.writeInt56(mantissa);
+        }
+        else
+        {
+            // TODO consider being more space efficient for integers that can be written with 6/7 bytes.
+            updateLength(8);
+            buffer.writeInt64(mantissa);
+        }
+    }
+
     private void patchSingleByteTypedOptimisticValue(final byte type, final ContainerInfo info)
     {
         if (info.length <= 0xD)
@@ -1193,6 +1202,34 @@ import software.amazon.ion.Timestamp;
         finishValue();
     }
 
+    @Override
+    /*package*/ void writeDecimal(final long unscaledValue, final int scale) throws IOException
+    {
+        prepareValue();
+
+        if (unscaledValue == 0 && scale == 0)
+        {
+            // 0d0 can be written in one byte
+            updateLength(1);
+            buffer.writeUInt8(DECIMAL_POS_ZERO);
+        }
+        else
+        {
+            updateLength(1);
+            pushContainer(ContainerType.VALUE);
+            buffer.writeByte(DECIMAL_TYPE);
+            writeVarInt(-(long) scale);
+            if (unscaledValue != 0)
+            {
+                writeDecimalMantissa(unscaledValue);
+            }
+            final ContainerInfo info = popContainer();
+            patchSingleByteTypedOptimisticValue(DECIMAL_TYPE, info);
+        }
+
+        finishValue();
+    }
+
     @SuppressWarnings("deprecation")
     public void writeTimestamp(final Timestamp value) throws IOException
     {
@@ -1288,6 +1325,12 @@ import software.amazon.ion.Timestamp;
             writeNull(IonType.STRING);
             return;
         }
+        writeStringChars(value);
+    }
+
+    @Override
+    /*package*/ void writeStringChars(final CharSequence value) throws IOException
+    {
         prepareValue();
 
         // assume the string is ASCII and round up the sizing -- we should revisit this for CJK heavy use cases
@@ -1476,6 +1519,25 @@ import software.amazon.ion.Timestamp;
         hasWrittenValuesSinceFinished = false;
     }
 
+    /**
+     * Directs output to a new stream, as if this writer had been newly constructed for it.
+     * Must be called when finished, with nothing buffered; the allocated blocks are kept.
+     */
+    /*package*/ void reset(final OutputStream out)
+    {
+        if (out == null) { throw new NullPointerException(); }
+        if (!containers.isEmpty() || buffer.position() != 0)
+        {
+            throw new IllegalStateException("Cannot reset an unfinished writer");
+        }
+        this.out = out;
+        this.hasWrittenValuesSinceFinished    = false;
+        this.hasWrittenValuesSinceConstructed = false;
+        this.currentFieldName                 = null;
+        this.currentAnnotations.clear();
+        this.hasTopLevelSymbolTableAnnotation = false;
+    }
+
     public void close() throws IOException
     {
         if (closed)
@@ -17,15 +17,70 @@ package software.amazon.ion.impl.bin;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import software.amazon.ion.system.BlockPool;
 
 /**
  * A simple pooling implementation of {@link BlockAllocatorProvider} with a global thread-safe free block list
  * for each block size.
  * <p>
+ * The free lists of all sizes together hold at most {@link #getMaxRetainedBytes()}; blocks released beyond that
+ * are left to the garbage collector.  Optionally, each thread keeps a small cache of released blocks of each size
+ * in front of the free lists, which avoids contending on them when a thread repeatedly builds short-lived writers.
+ * <p>
  * This implementation is thread-safe.
  */
-/*package*/ final class PooledBlockAllocatorProvider extends BlockAllocatorProvider
+/*package*/ final class PooledBlockAllocatorProvider extends BlockAllocatorProvider implements BlockPool
 {
+    /** The retained bytes limit of the {@link #shared()} provider. */
+    /*package*/ static final long DEFAULT_MAX_RETAINED_BYTES = 64L * 1024 * 1024;
+
+    /** The number of blocks of each size cached per thread by the {@link #shared()} provider. */
+    /*package*/ static final int DEFAULT_THREAD_CACHE_SIZE = 2;
+
+    private static final PooledBlockAllocatorProvider SHARED =
+        new PooledBlockAllocatorProvider(DEFAULT_MAX_RETAINED_BYTES, DEFAULT_THREAD_CACHE_SIZE);
+
+    /** Returns the provider shared by all pooled writers in the process. */
+    /*package*/ static PooledBlockAllocatorProvider shared()
+    {
+        return SHARED;
+    }
+
+    /** A bounded, single-threaded stack of free blocks. */
+    private static final class BlockCache
+    {
+        private final Block[] blocks;
+        private int size;
+
+        BlockCache(final int capacity)
+        {
+            this.blocks = new Block[capacity];
+            this.size = 0;
+        }
+
+        Block poll()
+        {
+            if (size == 0)
+            {
+                return null;
+            }
+            final Block block = blocks[--size];
+            blocks[size] = null;
+            return block;
+        }
+
+        boolean offer(final Block block)
+        {
+            if (size == blocks.length)
+            {
+                return false;
+            }
+            blocks[size++] = block;
+            return true;
+        }
+    }
+
     /**
      * A {@link BlockAllocator} of for a particular size that has a single thread-safe free list.
      * <p>
@@ -35,30 +90,79 @@ import java.util.concurrent.ConcurrentMap;
     {
         private final int blockSize;
         private final ConcurrentLinkedQueue<Block> freeBlocks;
+        /** Null if threads do not cache blocks. */
+        private final ThreadLocal<BlockCache> threadCaches;
 
         public PooledBlockAllocator(final int blockSize)
         {
             this.blockSize = blockSize;
             this.freeBlocks = new ConcurrentLinkedQueue<Block>();
+            this.threadCaches = threadCacheSize == 0 ? null : new ThreadLocal<BlockCache>()
+            {
+                @Override
+                protected BlockCache initialValue()
+                {
+                    return new BlockCache(threadCacheSize);
+                }
+            };
         }
 
         @Override
         public Block allocateBlock()
         {
-            Block block = freeBlocks.poll();
+            Block block = null;
+            if (threadCaches != null)
+            {
+                block = threadCaches.get().poll();
+            }
             if (block == null)
             {
-                block = new Block(new byte[blockSize])
+                block = freeBlocks.poll();
+                if (block != null)
                 {
-                    @Override
-                    public void close()
-                    {
-                        reset();
-                        freeBlocks.add(this);
-                    }
-                };
+                    retainedBytes.addAndGet(-blockSize);
+                }
+            }
+            if (block != null)
+            {
+                hits.incrementAndGet();
+                return block;
+            }
+
+            misses.incrementAndGet();
+            return new Block(new byte[blockSize])
+            {
+                @Override
+                public void close()
+                {
+                    reset();
+                    release(this);
+                }
+            };
+        }
+
+        private void release(final Block block)
+        {
+            if (threadCaches != null && threadCaches.get().offer(block))
+            {
+                return;
+            }
+            if (retainedBytes.addAndGet(blockSize) > maxRetainedBytes)
+            {
+                retainedBytes.addAndGet(-blockSize);
+                discards.incrementAndGet();
+                return;
+            }
+            freeBlocks.add(block);
+        }
+
+        /** Drops free blocks until the retained bytes are within the limit. */
+        private void trim()
+        {
+            while (retainedBytes.get() > maxRetainedBytes && freeBlocks.poll() != null)
+            {
+                retainedBytes.addAndGet(-blockSize);
             }
-            return block;
         }
 
         @Override
@@ -71,11 +175,42 @@ import java.util.concurrent.ConcurrentMap;
         public void close() {}
     }
 
-    private final ConcurrentMap<Integer, BlockAllocator> allocators;
+    private final ConcurrentMap<Integer, PooledBlockAllocator> allocators;
+    private final int threadCacheSize;
+    private volatile long maxRetainedBytes;
+
+    private final AtomicLong retainedBytes;
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+    private final AtomicLong discards;
 
+    /** Constructs a provider with no limit on retained bytes and no thread caches. */
     public PooledBlockAllocatorProvider()
     {
-        allocators = new ConcurrentHashMap<Integer, BlockAllocator>();
+        this(Long.MAX_VALUE, 0);
+    }
+
+    /**
+     * @param maxRetainedBytes the limit on bytes held by the free lists of all sizes.
+     * @param threadCacheSize the number of blocks of each size cached per thread, may be zero.
+     */
+    public PooledBlockAllocatorProvider(final long maxRetainedBytes, final int threadCacheSize)
+    {
+        if (maxRetainedBytes < 0)
+        {
+            throw new IllegalArgumentException("Invalid retained bytes limit: " + maxRetainedBytes);
+        }
+        if (threadCacheSize < 0)
+        {
+            throw new IllegalArgumentException("Invalid thread cache size: " + threadCacheSize);
+        }
+        this.allocators = new ConcurrentHashMap<Integer, PooledBlockAllocator>();
+        this.threadCacheSize = threadCacheSize;
+        this.maxRetainedBytes = maxRetainedBytes;
+        this.retainedBytes = new AtomicLong();
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+        this.discards = new AtomicLong();
     }
 
     @Override
@@ -86,11 +221,11 @@ import java.util.concurrent.ConcurrentMap;
             throw new IllegalArgumentException("Invalid block size: " + blockSize);
         }
 
-        BlockAllocator allocator = allocators.get(blockSize);
+        PooledBlockAllocator allocator = allocators.get(blockSize);
         if (allocator == null)
         {
             allocator = new PooledBlockAllocator(blockSize);
-            final BlockAllocator existingAllocator = allocators.putIfAbsent(blockSize, allocator);
+            final PooledBlockAllocator existingAllocator = allocators.putIfAbsent(blockSize, allocator);
             if (existingAllocator != null)
             {
                 allocator = existingAllocator;
@@ -98,4 +233,44 @@ import java.util.concurrent.ConcurrentMap;
         }
         return allocator;
     }
+
+    // Statistics
+
+    public long getHitCount()
+    {
+        return hits.get();
+    }
+
+    public long getMissCount()
+    {
+        return misses.get();
+    }
+
+    public long getDiscardCount()
+    {
+        return discards.get();
+    }
+
+    public long getRetainedBytes()
+    {
+        return retainedBytes.get();
+    }
+
+    public long getMaxRetainedBytes()
+    {
+        return maxRetainedBytes;
+    }
+
+    public void setMaxRetainedBytes(final long maxRetainedBytes)
+    {
+        if (maxRetainedBytes < 0)
+        {
+            throw new IllegalArgumentException("Invalid retained bytes limit: " + maxRetainedBytes);
+        }
+        this.maxRetainedBytes = maxRetainedBytes;
+        for (final PooledBlockAllocator allocator : allocators.values())
+        {
+            allocator.trim();
+        }
+    }
 }
@@ -1,14 +1,17 @@
 package software.amazon.ion.impl.bin;
 
+import software.amazon.ion.IonReader;
 import software.amazon.ion.IonWriter;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.security.MessageDigest;
 
 /**
  * NOT FOR APPLICATION USE!
  *
- * Exposes {@link IonRawBinaryWriter} functionality for use when creating Ion hashes.
+ * Exposes {@link IonRawBinaryWriter} functionality for use when creating Ion hashes,
+ * and the digesting {@link IonHashWriter} and {@link IonHashReader}.
  */
 @Deprecated
 public final class PrivateIonHashTrampoline
@@ -16,7 +19,7 @@ public final class PrivateIonHashTrampoline
     public static IonWriter newIonWriter(ByteArrayOutputStream baos) throws IOException
     {
         return new IonRawBinaryWriter(
-                new PooledBlockAllocatorProvider(),
+                PooledBlockAllocatorProvider.shared(),
                 PrivateIonManagedBinaryWriterBuilder.DEFAULT_BLOCK_SIZE,
                 baos,
                 AbstractIonWriter.WriteValueOptimization.NONE,
@@ -26,4 +29,14 @@ public final class PrivateIonHashTrampoline
                 false     // force floats to be encoded as binary64
         );
     }
+
+    public static IonWriter newHashWriter(MessageDigest digest)
+    {
+        return new IonHashWriter(digest);
+    }
+
+    public static IonReader newHashReader(IonReader reader, MessageDigest digest)
+    {
+        return new IonHashReader(reader, new IonHashWriter(digest));
+    }
 }
@@ -29,6 +29,7 @@ import software.amazon.ion.impl.bin.AbstractIonWriter.WriteValueOptimization;
 import software.amazon.ion.impl.bin.IonManagedBinaryWriter.ImportedSymbolContext;
 import software.amazon.ion.impl.bin.IonManagedBinaryWriter.ImportedSymbolResolverMode;
 import software.amazon.ion.impl.bin.IonRawBinaryWriter.PreallocationMode;
+import software.amazon.ion.system.BlockPool;
 import software.amazon.ion.system.SimpleCatalog;
 
 // TODO unify this with the IonWriter builder APIs
@@ -45,12 +46,13 @@ public final class PrivateIonManagedBinaryWriterBuilder
 {
     public enum AllocatorMode
     {
+        /** Blocks come from a bounded pool shared by the whole process. */
         POOLED
         {
             @Override
             BlockAllocatorProvider createAllocatorProvider()
             {
-                return new PooledBlockAllocatorProvider();
+                return PooledBlockAllocatorProvider.shared();
             }
         },
         BASIC
@@ -236,6 +238,14 @@ public final class PrivateIonManagedBinaryWriterBuilder
         return this;
     }
 
+    /**
+     * Returns the pool that built writers allocate blocks from, or null if blocks are not pooled.
+     */
+    public BlockPool getBlockPool()
+    {
+        return provider instanceof BlockPool ? (BlockPool) provider : null;
+    }
+
     // Construction
 
     public IonWriter newWriter(final OutputStream out) throws IOException
@@ -200,6 +200,52 @@ import java.util.List;
     private static final int UTF8_3_OCTET_MIN_VALUE = 1 << (5 + (1 * UTF8_BITS_PER_FOLLOW_OCTET));
 
 
+    /**
+     * Copies the leading run of ASCII characters straight into the block data, spanning as many blocks as needed.
+     * Returns the number of characters (and octets) written.
+     */
+    private int writeASCIIRun(final CharSequence chars, int off, int len)
+    {
+        int written = 0;
+        while (len > 0)
+        {
+            if (remaining() == 0)
+            {
+                if (index == blocks.size() - 1)
+                {
+                    allocateNewBlock();
+                }
+                index++;
+                current = blocks.get(index);
+            }
+            final Block block = current;
+            final byte[] data = block.data;
+            final int start = block.limit;
+            final int end = start + Math.min(len, block.remaining());
+            int limit = start;
+            while (limit < end)
+            {
+                final char ch = chars.charAt(off);
+                if (ch >= UTF8_2_OCTET_MIN_VALUE)
+                {
+                    break;
+                }
+                data[limit++] = (byte) ch;
+                off++;
+            }
+            block.limit = limit;
+            final int amount = limit - start;
+            written += amount;
+            len -= amount;
+            if (limit < end)
+            {
+                // hit a non-ASCII character
+                break;
+            }
+        }
+        return written;
+    }
+
     // slow in the sense that we deal with any kind of UTF-8 sequence and block boundaries
     private int writeUTF8Slow(final CharSequence chars, int off, int len)
     {
@@ -207,6 +253,14 @@ import java.util.List;
         while (len > 0)
         {
             final char ch = chars.charAt(off);
+            if (ch < UTF8_2_OCTET_MIN_VALUE)
+            {
+                final int amount = writeASCIIRun(chars, off, len);
+                octets += amount;
+                off += amount;
+                len -= amount;
+                continue;
+            }
             if (ch >= LOW_SURROGATE_FIRST && ch <= LOW_SURROGATE_LAST)
             {
                 throw new IllegalArgumentException("Unpaired low surrogate: " + (int) ch);
@@ -236,11 +290,6 @@ import java.util.List;
 
                 octets += 4;
             }
-            else if (ch < UTF8_2_OCTET_MIN_VALUE)
-            {
-                writeByte((byte) ch);
-                octets++;
-            }
             else if (ch < UTF8_3_OCTET_MIN_VALUE)
             {
                 writeByte((byte) (UTF8_2_OCTET_PREFIX_MASK | (ch >> UTF8_2_OCTET_SHIFT)                    ));
@@ -25,7 +25,9 @@ import software.amazon.ion.IonException;
 import software.amazon.ion.IonValue;
 import software.amazon.ion.NullValueException;
 import software.amazon.ion.ReadOnlyValueException;
+import software.amazon.ion.Span;
 import software.amazon.ion.SymbolTable;
+import software.amazon.ion.UnknownSymbolException;
 import software.amazon.ion.ValueVisitor;
 import software.amazon.ion.impl.PrivateIonConstants;
 import software.amazon.ion.impl.PrivateIonContainer;
@@ -33,13 +35,35 @@ import software.amazon.ion.impl.PrivateUtils;
 
 abstract class IonContainerLite
     extends IonValueLite
-    implements PrivateIonContainer, IonContext
+    implements PrivateIonContainer, IonContext, LazyChildrenSource
 {
 
     protected int            _child_count;
     protected IonValueLite[] _children;
     protected int            structuralModificationCount;
 
+    /**
+     * When not null, the children of this container have not been decoded
+     * or copied yet and must be loaded from this source, at
+     * {@link #_lazy_span}, before {@link #_children} or {@link #_child_count}
+     * are used.
+     */
+    private LazyChildrenSource _lazy_source;
+    private Span             _lazy_span;
+
+    /**
+     * The hash code of this container, computed bottom-up when it's made
+     * read-only; zero while it's mutable. Like {@link String#hashCode()}, a
+     * hash code that happens to be zero is merely computed again.
+     */
+    private int              _hash_code;
+
+    /**
+     * Set by {@link #makeReadOnlyInternal()} when a field name here or below
+     * has unknown text, in which case cloning must fail.
+     */
+    private boolean          _has_unknown_field_name;
+
     protected IonContainerLite(ContainerlessContext context, boolean isNull)
     {
         // we'll let IonValueLite handle this work as we always need to know
@@ -49,34 +73,96 @@ abstract class IonContainerLite
 
     IonContainerLite(IonContainerLite existing, IonContext context, boolean isStruct) {
         super(existing, context);
+        // the encoded children are immutable, so a copy can share them
+        this._lazy_source = existing._lazy_source;
+        this._lazy_span = existing._lazy_span;
+        if (existing._children == null) {
+            return;
+        }
+        if (existing._isLocked() && !(this instanceof IonDatagramLite)) {
+            // A read-only container can't change, so its children are only
+            // copied once this copy's are accessed, which in turn defers
+            // copying theirs. Mutating a deep value then copies just the
+            // containers on the path down to it.
+            if (existing._has_unknown_field_name) {
+                existing.check_field_names();
+            }
+            this._lazy_source = existing;
+            return;
+        }
+        copy_children(existing, isStruct);
+    }
+
+    private static boolean has_unknown_field_name(IonValueLite child) {
+        try {
+            if (child.getFieldName() == null) {
+                child.getKnownFieldNameSymbol();
+            }
+            return false;
+        }
+        catch (UnknownSymbolException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Throws, as copying the children would, if a field name here or below
+     * has unknown text.
+     */
+    private void check_field_names() throws UnknownSymbolException {
+        boolean isStruct = this instanceof IonStructLite;
+        for (int i = 0; i < _child_count; i++) {
+            IonValueLite child = _children[i];
+            if (isStruct && child.getFieldName() == null) {
+                child.getKnownFieldNameSymbol();
+            }
+            if (child instanceof IonContainerLite
+                && ((IonContainerLite) child)._has_unknown_field_name) {
+                ((IonContainerLite) child).check_field_names();
+            }
+        }
+    }
+
+    private void copy_children(IonContainerLite existing, boolean isStruct) {
         int childCount = existing._child_count;
         this._child_count = childCount;
         // when cloning the children we establish 'this' the cloned outer container as the context
-        if (existing._children != null) {
-            boolean isDatagram = this instanceof IonDatagramLite;
-            this._children = new IonValueLite[childCount];
-            for (int i = 0; i < childCount; i++) {
-                IonValueLite child = existing._children[i];
-                IonContext childContext = isDatagram
-                     ? TopLevelContext.wrap(child.getAssignedSymbolTable(), (IonDatagramLite)this)
-                     : this;
-
-                IonValueLite copy = child.clone(childContext);
-                if (isStruct) {
-                    if(child.getFieldName() == null) {
-                        // when name is null it could be a sid 0 so we need to perform the full symbol token lookup.
-                        // this is expensive so only do it when necessary
-                        // TODO profile `getKnownFieldNameSymbol` to see if we can improve its performance so branching
-                        // is not necessary. https://github.com/amzn/ion-java/issues/140
-                        copy.setFieldNameSymbol(child.getKnownFieldNameSymbol());
-                    }
-                    else {
-                        // if we have a non null name copying it is sufficient
-                        copy.setFieldName(child.getFieldName());
-                    }
+        boolean isDatagram = this instanceof IonDatagramLite;
+        this._children = new IonValueLite[childCount];
+        for (int i = 0; i < childCount; i++) {
+            IonValueLite child = existing._children[i];
+            IonContext childContext = isDatagram
+                 ? TopLevelContext.wrap(child.getAssignedSymbolTable(), (IonDatagramLite)this)
+                 : this;
+
+            IonValueLite copy = child.clone(childContext);
+            if (isStruct) {
+                if(child.getFieldName() == null) {
+                    // when name is null it could be a sid 0 so we need to perform the full symbol token lookup.
+                    // this is expensive so only do it when necessary
+                    // TODO profile `getKnownFieldNameSymbol` to see if we can improve its performance so branching
+                    // is not necessary. https://github.com/amzn/ion-java/issues/140
+                    copy.setFieldNameSymbol(child.getKnownFieldNameSymbol());
+                }
+                else {
+                    // if we have a non null name copying it is sufficient
+                    copy.setFieldName(child.getFieldName());
                 }
-                this._children[i] = copy;
             }
+            this._children[i] = copy;
+        }
+    }
+
+    /**
+     * Copies the children of this read-only container into a copy of it,
+     * whose children were deferred by the copy constructor.
+     */
+    public final void loadChildren(IonContainerLite container, Span span)
+    {
+        assert _isLocked() && container._child_count == 0;
+        container.copy_children(this, this instanceof IonStructLite);
+        if (container._child_count > container.initialSize()) {
+            container.transitionToLargeSize(container._child_count);
         }
     }
 
@@ -90,6 +176,7 @@ abstract class IonContainerLite
     public void clear()
     {
         checkForLock();
+        materialize();
 
         if (_isNullValue())
         {
@@ -175,6 +262,7 @@ abstract class IonContainerLite
 
         public SequenceContentIterator(int index, boolean readOnly)
         {
+            materialize();
             if (_isLocked() && !readOnly) {
                 throw new IllegalStateException("you can't open an updatable iterator on a read only value");
             }
@@ -386,6 +474,9 @@ abstract class IonContainerLite
     {
         if (_isLocked()) return;
 
+        // Decoding on access would mutate the value, so read-only values
+        // must be fully decoded to remain safe for concurrent reads.
+        materialize();
         if (_children != null) {
             for (int ii=0; ii<_child_count; ii++) {
                 IonValueLite child = _children[ii];
@@ -400,6 +491,31 @@ abstract class IonContainerLite
         // table reference if one exists.
         super.clearSymbolIDValues();
         _isLocked(true);
+
+        boolean isStruct = this instanceof IonStructLite;
+        for (int ii=0; ii<_child_count; ii++) {
+            IonValueLite child = _children[ii];
+            if ((isStruct && has_unknown_field_name(child))
+                || (child instanceof IonContainerLite
+                    && ((IonContainerLite) child)._has_unknown_field_name)) {
+                _has_unknown_field_name = true;
+                break;
+            }
+        }
+
+        // The children have cached their own hash codes by now, so this
+        // only visits them one level deep.
+        hashCode(new LazySymbolTableProvider(this));
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int result = _hash_code;
+        if (result == 0) {
+            result = super.hashCode();
+        }
+        return result;
     }
 
     /*
@@ -435,8 +551,9 @@ abstract class IonContainerLite
     void clearSymbolIDValues()
     {
         super.clearSymbolIDValues();
-        for (int ii=0; ii<get_child_count(); ii++) {
-            IonValueLite child = get_child(ii);
+        // Children that haven't been decoded yet will have no SIDs anyway.
+        for (int ii=0; ii<_child_count; ii++) {
+            IonValueLite child = _children[ii];
             child.clearSymbolIDValues();
         }
     }
@@ -607,11 +724,70 @@ abstract class IonContainerLite
         return;
     }
 
+    /**
+     * Marks this (non-null, empty) container as having its children encoded
+     * in the given source, to be decoded upon first access.
+     */
+    final void setLazyChildren(LazyBinarySource source, Span span)
+    {
+        assert !_isNullValue() && _child_count == 0;
+        _lazy_source = source;
+        _lazy_span = span;
+    }
+
+    /**
+     * Decodes the children of this container if it was loaded lazily, or
+     * copies them if it's a copy of a read-only container, and they haven't
+     * been accessed yet. Everything that uses
+     * {@link #_children} or {@link #_child_count} must call this first,
+     * usually via {@link #get_child_count()} or {@link #get_child(int)}.
+     */
+    final void materialize()
+    {
+        if (_lazy_source != null) {
+            materialize_helper();
+        }
+    }
+
+    private void materialize_helper()
+    {
+        LazyChildrenSource source = _lazy_source;
+        Span span = _lazy_span;
+        // cleared first, since adding the children checks it again
+        _lazy_source = null;
+        _lazy_span = null;
+        source.loadChildren(this, span);
+    }
+
+    /**
+     * @return the hash code cached by {@link #cacheHashCode(int)}, or zero.
+     */
+    final int cachedHashCode()
+    {
+        return _hash_code;
+    }
+
+    /**
+     * Caches this container's hash code if it's read-only, since neither it
+     * nor its children can change any more.
+     *
+     * @return the given hash code.
+     */
+    final int cacheHashCode(int hashCode)
+    {
+        if (_isLocked()) {
+            _hash_code = hashCode;
+        }
+        return hashCode;
+    }
+
     public final int get_child_count() {
+        materialize();
         return _child_count;
     }
 
     public final IonValueLite get_child(int idx) {
+        materialize();
         if (idx < 0 || idx >= _child_count) {
             throw new IndexOutOfBoundsException(Integer.toString(idx));
         }
@@ -28,8 +28,11 @@ import software.amazon.ion.IonLoader;
 import software.amazon.ion.IonReader;
 import software.amazon.ion.IonSystem;
 import software.amazon.ion.IonWriter;
+import software.amazon.ion.SpanProvider;
+import software.amazon.ion.SymbolTable;
 import software.amazon.ion.impl.PrivateIonWriterFactory;
 import software.amazon.ion.impl.PrivateLocalSymbolTableFactory;
+import software.amazon.ion.util.IonStreamUtils;
 
 final class IonLoaderLite
     implements IonLoader
@@ -80,6 +83,35 @@ final class IonLoaderLite
         return datagram;
     }
 
+    /**
+     * Loads binary data such that the children of containers are decoded
+     * only when first accessed.
+     *
+     * @return a new datagram; not null.
+     */
+    private IonDatagramLite load_lazily(byte[] ionData)
+    {
+        LazyBinarySource source =
+            new LazyBinarySource(_system, _catalog, _lstFactory,
+                                 ionData, 0, ionData.length);
+        IonReader reader = source.newReader();
+        SpanProvider spans = reader.asFacet(SpanProvider.class);
+
+        IonDatagramLite datagram = new IonDatagramLite(_system, _catalog);
+        SymbolTable symbols = null;
+        while (reader.next() != null)
+        {
+            SymbolTable current = reader.getSymbolTable();
+            if (current != symbols)
+            {
+                datagram.appendTrailingSymbolTable(current);
+                symbols = current;
+            }
+            datagram.add(_system.newLazyValue(reader, spans, source));
+        }
+        return datagram;
+    }
+
     public IonDatagram load(File ionFile) throws IonException, IOException
     {
         InputStream ionData = new FileInputStream(ionFile);
@@ -122,6 +154,11 @@ final class IonLoaderLite
 
     public IonDatagram load(byte[] ionData) throws IonException
     {
+        if (_system.isLazyBinaryLoading() && IonStreamUtils.isIonBinary(ionData))
+        {
+            return load_lazily(ionData);
+        }
+
         try {
             IonReader reader = makeReader(_catalog, ionData, 0, ionData.length, _lstFactory);
             IonDatagramLite datagram = load_helper(reader);
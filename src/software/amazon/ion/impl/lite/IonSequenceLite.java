@@ -90,7 +90,11 @@ abstract class IonSequenceLite
     protected int sequenceHashCode(int seed, SymbolTableProvider symbolTableProvider)
     {
         final int prime = 8191;
-        int result = seed;
+        int result = cachedHashCode();
+        if (result != 0) {
+            return result;
+        }
+        result = seed;
 
         if (!isNullValue()) {
             for (IonValue v : this) {
@@ -101,7 +105,7 @@ abstract class IonSequenceLite
             }
         }
 
-        return hashTypeAnnotations(result, symbolTableProvider);
+        return cacheHashCode(hashTypeAnnotations(result, symbolTableProvider));
     }
 
 
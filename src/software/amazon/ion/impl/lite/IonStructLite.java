@@ -17,9 +17,7 @@ package software.amazon.ion.impl.lite;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -52,17 +50,27 @@ final class IonStructLite
     private IonStructLite(IonStructLite existing, IonContext context)
     {
         super(existing, context, true);
-        // field map can be shallow cloned due to it dealing with String and Integer
-        // values - both of which are immutable constructs and so safe to retain as references
-        this._field_map = null == existing._field_map ? null : new HashMap<String, Integer>(existing._field_map);
-        this._field_map_duplicate_count = existing._field_map_duplicate_count;
         this.hasNullFieldName = existing.hasNullFieldName;
+        if (_children == null) {
+            // the children are copied later, and the index is rebuilt then
+            return;
+        }
+        // the copied children have the same positions, so the index applies
+        this._field_index = null == existing._field_index ? null : existing._field_index.clone();
     }
 
-    private Map<String, Integer> _field_map;
+    /**
+     * An open-addressed, linearly probed hash index of the fields by name,
+     * built once this struct outgrows its initial capacity; null until then.
+     * Each slot is a pair of ints: the spread hash code of the field name,
+     * and the child's index plus one, zero marking an empty slot. Fields
+     * with duplicate names take a slot each, and fields whose names have
+     * unknown text are left out. At most half of the slots are used.
+     */
+    private int[] _field_index;
     private boolean hasNullFieldName = false;
 
-    public int                      _field_map_duplicate_count;
+    private static final int FIELD_INDEX_MIN_SLOTS = 16;
 
     @Override
     IonStructLite clone(IonContext parentContext)
@@ -79,112 +87,139 @@ final class IonStructLite
     @Override
     protected void transitionToLargeSize(int size)
     {
-        if (_field_map != null) return;
+        if (_field_index != null) return;
 
-        build_field_map();
+        build_field_index();
         return;
     }
-    protected void build_field_map()
-    {
-        int size = (_children == null) ? 0 : _children.length;
-
-        _field_map = new HashMap<String, Integer>(size);
-        _field_map_duplicate_count = 0;
 
+    private void build_field_index()
+    {
         int count = get_child_count();
+        int slots = FIELD_INDEX_MIN_SLOTS;
+        while (slots < count * 2) {
+            slots <<= 1;
+        }
+        _field_index = new int[slots * 2];
+
         for (int ii=0; ii<count; ii++) {
             IonValueLite v = get_child(ii);
-            SymbolToken fieldNameSymbol = v.getFieldNameSymbol();
-            String name = fieldNameSymbol.getText();
-            if (_field_map.get(name) != null) {
-                _field_map_duplicate_count++;
+            String name = v.getFieldNameSymbol().getText();
+            if (name != null) {
+                insert_field(_field_index, field_hash(name), ii + 1);
             }
-            _field_map.put(name, ii); // this causes the map to have the largest index value stored
         }
-        return;
     }
-    private void add_field(String fieldName, int newFieldIdx)
+
+    private static int field_hash(String fieldName)
     {
-        Integer idx = _field_map.get(fieldName);
-        if (idx != null) {
-            _field_map_duplicate_count++;
-            if (idx.intValue() > newFieldIdx) {
-                newFieldIdx = idx.intValue();
-            }
-        }
-        _field_map.put(fieldName, newFieldIdx);
+        int h = fieldName.hashCode();
+        return h ^ (h >>> 16);
     }
-    private void remove_field(String fieldName, int lowest_idx, int copies)
+
+    private static void insert_field(int[] index, int hash, int entry)
     {
-        if (_field_map == null) {
-            return;
+        int mask = (index.length >> 1) - 1;
+        int slot = hash & mask;
+        while (index[2 * slot + 1] != 0) {
+            slot = (slot + 1) & mask;
         }
-
-        Integer field_idx = _field_map.get(fieldName);
-        assert(field_idx != null);
-        _field_map.remove(fieldName);
-        _field_map_duplicate_count -= (copies - 1);
+        index[2 * slot] = hash;
+        index[2 * slot + 1] = entry;
     }
 
-    private void remove_field_from_field_map(String fieldName, int idx)
+    /**
+     * Indexes the child just added at {@code idx}.
+     *
+     * @param fieldName may be null, in which case nothing is indexed.
+     */
+    private void add_field(String fieldName, int idx)
     {
-        Integer field_idx = _field_map.get(fieldName);
-        assert(field_idx != null);
-
-        if (field_idx.intValue() != idx) {
-            // if the map has a different index, this must
-            // be a duplicate, and this copy isn't in the map
-            assert(_field_map_duplicate_count > 0);
-            _field_map_duplicate_count--;
+        if (fieldName == null) {
+            return;
+        }
+        int[] index = _field_index;
+        if (_child_count * 4 > index.length) {
+            // keep the load factor at or below one half
+            int[] larger = new int[index.length * 2];
+            for (int slot=1; slot<index.length; slot+=2) {
+                if (index[slot] != 0) {
+                    insert_field(larger, index[slot - 1], index[slot]);
+                }
+            }
+            _field_index = index = larger;
         }
-        else if (_field_map_duplicate_count > 0) {
-            // if we have any duplicates we have to check
-            // every time since we don't track which field
-            // is duplicated - so any dup can be expensive
-            int ii = find_last_duplicate(fieldName, idx);
+        insert_field(index, field_hash(fieldName), idx + 1);
+    }
 
-            if (ii == -1) {
-                // this is the last copy of this key
-                _field_map.remove(fieldName);
+    /**
+     * @return the highest index of a field with the given name, according
+     * to the index, or -1.
+     */
+    private int find_indexed_field(String fieldName)
+    {
+        int[] index = _field_index;
+        int mask = (index.length >> 1) - 1;
+        int hash = field_hash(fieldName);
+        int found = -1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int entry = index[2 * slot + 1];
+            if (entry == 0) {
+                return found;
             }
-            else {
-                // replaces this fields (the one being
-                // removed) array idx in the map with
-                // the preceding duplicates index
-                _field_map.put(fieldName, ii);
-                _field_map_duplicate_count--;
+            if (index[2 * slot] == hash && entry - 1 > found
+                && fieldName.equals(_children[entry - 1].getFieldName())) {
+                found = entry - 1;
             }
         }
-        else {
-            // since there are not dup's we can just update
-            // the map by removing this fieldname
-            _field_map.remove(fieldName);
-        }
     }
 
-    private void patch_map_elements_helper(int removed_idx)
-    {
-        if (_field_map == null) {
-            return;
+    /**
+     * Updates the index for the removal of the child at {@code idx}, which
+     * moves those after it down by one. Must be called before the child
+     * list changes.
+     */
+    private void remove_from_field_index(int idx)
+    {
+        int[] index = _field_index;
+        int removed = idx + 1;
+        int hole = -1;
+        for (int slot=1; slot<index.length; slot+=2) {
+            int entry = index[slot];
+            if (entry > removed) {
+                index[slot] = entry - 1;
+            }
+            else if (entry == removed) {
+                hole = slot >> 1;
+            }
         }
-
-        if (removed_idx >= get_child_count()) {
-            // if this was the at the end of the list
-            // there's nothing to change
+        if (hole < 0) {
+            // the field name was unknown, so it wasn't indexed
             return;
         }
 
-        for (int ii=removed_idx; ii<get_child_count(); ii++) {
-            IonValueLite value = get_child(ii);
-            String  field_name = value.getFieldName();
-            Integer map_idx = _field_map.get(field_name);
-            if (map_idx.intValue() != ii) {
-                // if this is a field that to the right of
-                // the removed (in process of removing) value
-                // we need to patch the index value
-                _field_map.put(field_name, ii);
+        // Shift later entries of the probe sequence back into the hole, so
+        // lookups still reach them, unless they'd be before their home slot.
+        int mask = (index.length >> 1) - 1;
+        int slot = hole;
+        for (;;) {
+            slot = (slot + 1) & mask;
+            int entry = index[2 * slot + 1];
+            if (entry == 0) {
+                break;
+            }
+            int home = index[2 * slot] & mask;
+            boolean movable = (slot > hole)
+                ? (home <= hole || home > slot)
+                : (home <= hole && home > slot);
+            if (movable) {
+                index[2 * hole] = index[2 * slot];
+                index[2 * hole + 1] = entry;
+                hole = slot;
             }
         }
+        index[2 * hole] = 0;
+        index[2 * hole + 1] = 0;
     }
 
     @Override
@@ -192,21 +227,21 @@ final class IonStructLite
     {
         super.dump(out);
 
-        if (_field_map == null) {
+        if (_field_index == null) {
             return;
         }
 
-        out.println("   dups: "+_field_map_duplicate_count);
-        Iterator<Entry<String, Integer>> it = _field_map.entrySet().iterator();
-        out.print("   map: [");
+        out.print("   index: [");
         boolean first = true;
-        while (it.hasNext()) {
-            Entry<String, Integer> e = it.next();
-            if (!first) {
-                out.print(",");
+        for (int slot=1; slot<_field_index.length; slot+=2) {
+            int entry = _field_index[slot];
+            if (entry != 0) {
+                if (!first) {
+                    out.print(",");
+                }
+                out.print((slot >> 1)+":"+(entry - 1));
+                first = false;
             }
-            out.print(e.getKey()+":"+e.getValue());
-            first = false;
         }
         out.println("]");
     }
@@ -214,71 +249,33 @@ final class IonStructLite
     @Override
     public String validate()
     {
-        if (_field_map == null) {
+        if (_field_index == null) {
             return null;
         }
         String error = "";
-        Iterator<Entry<String, Integer>> it = _field_map.entrySet().iterator();
-        while (it.hasNext()) {
-            Entry<String, Integer> e = it.next();
-            int idx = e.getValue().intValue();
-            IonValueLite v = (idx >= 0 && idx < get_child_count()) ? get_child(idx) : null;
-            if (v == null || idx != v._elementid() || (e.getKey().equals(v.getFieldName()) == false)) {
-                error += "map entry ["+e+"] doesn't match list value ["+v+"]\n";
+        int mask = (_field_index.length >> 1) - 1;
+        int indexed = 0;
+        for (int slot=0; slot<=mask; slot++) {
+            int entry = _field_index[2 * slot + 1];
+            if (entry == 0) {
+                continue;
             }
-        }
-
-        return (error == "") ? null : error;
-    }
-
-    private int find_last_duplicate(String fieldName, int existing_idx)
-    {
-        for (int ii=existing_idx; ii>0; ) {
-            ii--;
-            IonValueLite field = get_child(ii);
-            if (fieldName.equals(field.getFieldName())) {
-                return ii;
+            indexed++;
+            int idx = entry - 1;
+            IonValueLite v = (idx < get_child_count()) ? get_child(idx) : null;
+            String name = (v == null) ? null : v.getFieldName();
+            if (name == null || idx != v._elementid()
+                || field_hash(name) != _field_index[2 * slot]
+                || find_indexed_field(name) < 0) {
+                error += "index slot ["+slot+":"+idx+"] doesn't match list value ["+v+"]\n";
             }
         }
-        assert(there_is_only_one(fieldName, existing_idx));
-        return -1;
-    }
-    private boolean there_is_only_one(String fieldName, int existing_idx)
-    {
-        int count = 0;
-        for (int ii=0; ii<get_child_count(); ii++) {
-            IonValueLite v = get_child(ii);
-            if (v.getFieldName().equals(fieldName)) {
-                count++;
-            }
+        if (indexed * 2 > mask + 1) {
+            error += "index is more than half full\n";
         }
-        if (count == 1 || count == 0) {
-            return true;
-        }
-        return false;
+
+        return (error == "") ? null : error;
     }
-//
-//    updateFieldName is unnecessary since field names are immutable
-//    (except when the value is unattached to any struct)
-//
-//    protected void updateFieldName(String oldname, String name, IonValue field)
-//    {
-//        assert(name != null && name.equals(field.getFieldName()));
-//
-//        if (oldname == null) return;
-//        if (_field_map == null) return;
-//
-//        Integer idx = _field_map.get(oldname);
-//        if (idx == null) return;
-//
-//        IonValue oldfield = get_child(idx);
-//
-//        // yes, we want object identity in this test
-//        if (oldfield == field) {
-//            remove_field(oldname, idx);
-//            add_field(name, idx);
-//        }
-//    }
 
     /**
      * Implements {@link Object#hashCode()} consistent with equals.
@@ -298,7 +295,11 @@ final class IonStructLite
         final int sidHashSalt   = 127;      // prime to salt sid of fieldname
         final int textHashSalt  = 31;       // prime to salt text of fieldname
 
-        int result = HASH_SIGNATURE;
+        int result = cachedHashCode();
+        if (result != 0) {
+            return result;
+        }
+        result = HASH_SIGNATURE;
 
         if (!isNullValue())  {
             for (IonValue v : this)  {
@@ -327,7 +328,7 @@ final class IonStructLite
             }
         }
 
-        return hashTypeAnnotations(result, symbolTableProvider);
+        return cacheHashCode(hashTypeAnnotations(result, symbolTableProvider));
     }
 
     public IonStruct cloneAndRemove(String... fieldNames)
@@ -412,15 +413,13 @@ final class IonStructLite
     private int find_field_helper(String fieldName)
     {
         validateFieldName(fieldName);
+        materialize();
 
         if (isNullValue()) {
             // nothing to see here, move along
         }
-        else if (_field_map != null) {
-            Integer idx = _field_map.get(fieldName);
-            if (idx != null) {
-                return idx.intValue();
-            }
+        else if (_field_index != null) {
+            return find_indexed_field(fieldName);
         }
         else {
             int ii, size = get_child_count();
@@ -438,8 +437,7 @@ final class IonStructLite
     public void clear()
     {
         super.clear();
-        _field_map = null;
-        _field_map_duplicate_count = 0;
+        _field_index = null;
     }
 
     @Override
@@ -483,8 +481,8 @@ final class IonStructLite
         // add this to the Container child collection
         add(size, child);
 
-        // if we have a hash map we need to update it now
-        if (_field_map != null) {
+        // if we have an index we need to update it now
+        if (_field_index != null) {
             add_field(fieldName, child._elementid());
         }
     }
@@ -567,26 +565,22 @@ final class IonStructLite
 
         // first we remove the any existing fields
         // associated with fieldName (which may be none)
-        if (_field_map != null && _field_map_duplicate_count == 0)
+        if (_field_index != null)
         {
-            // we have a map and no duplicates so the index
-            // (aka map) is all we need to find the only
-            // value associated with fieldName, if there is one
-            Integer idx = _field_map.get(fieldName);
-            if (idx != null) {
-                lowestRemovedIndex = idx.intValue();
-                remove_field_from_field_map(fieldName, lowestRemovedIndex);
-                remove_child(lowestRemovedIndex);
+            // the index finds every copy, the last one first
+            int idx;
+            while ((idx = find_indexed_field(fieldName)) >= 0) {
+                remove_from_field_index(idx);
+                remove_child(idx);
+                lowestRemovedIndex = idx;
                 any_removed = true;
             }
         }
         else {
-            // either we don't have a map (index) or there
-            // are duplicates in both cases we have to
+            // we don't have an index so we have to
             // scan the child list directly.
             // Walk backwards to minimize array movement
             // as we remove fields as we encounter them.
-            int copies_removed = 0;
             for (int ii = get_child_count(); ii > 0; )
             {
                 ii--;
@@ -596,16 +590,11 @@ final class IonStructLite
                     // done by remove_child: child.detachFromContainer();
                     remove_child(ii);
                     lowestRemovedIndex = ii;
-                    copies_removed++;
                     any_removed = true;
                 }
             }
-            if (any_removed) {
-                remove_field(fieldName, lowestRemovedIndex, copies_removed);
-            }
         }
         if (any_removed) {
-            patch_map_elements_helper(lowestRemovedIndex);
             patch_elements_helper(lowestRemovedIndex);
         }
 
@@ -649,14 +638,10 @@ final class IonStructLite
                 int concrete_idx = concrete._elementid();
                 assert(concrete_idx == idx);
 
-                if (_field_map != null) {
-                    remove_field_from_field_map(concrete.getFieldName(), idx);
+                if (_field_index != null) {
+                    remove_from_field_index(idx);
                 }
                 super.remove();
-
-                if (_field_map != null) {
-                    patch_map_elements_helper(idx);
-                }
             }
         };
     }
@@ -672,21 +657,17 @@ final class IonStructLite
 
         int idx = ((IonValueLite)field)._elementid();
 
-        // update the hash map first we don't want
+        // update the index first we don't want
         // the child list changed until we've done
-        // this since the map update expects the
+        // this since the index update expects the
         // index value of the remove field to be
         // correct and unchanged.
-        if (_field_map != null) {
-            remove_field_from_field_map(fieldName, idx);
+        if (_field_index != null) {
+            remove_from_field_index(idx);
         }
 
         super.remove(field);
 
-        if (_field_map != null) {
-            patch_map_elements_helper(idx);
-        }
-
         return field;
     }
 
@@ -706,21 +687,17 @@ final class IonStructLite
         IonValueLite concrete = (IonValueLite) element;
         int idx = concrete._elementid();
 
-        // update the hash map first we don't want
+        // update the index first we don't want
         // the child list changed until we've done
-        // this since the map update expects the
+        // this since the index update expects the
         // index value of the remove field to be
         // correct and unchanged.
-        if (_field_map != null) {
-            remove_field_from_field_map(concrete.getFieldName(), idx);
+        if (_field_index != null) {
+            remove_from_field_index(idx);
         }
 
         super.remove(concrete);
 
-        if (_field_map != null) {
-            patch_map_elements_helper(idx);
-        }
-
         return true;
     }
 
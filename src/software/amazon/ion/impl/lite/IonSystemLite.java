@@ -45,6 +45,7 @@ import software.amazon.ion.IonType;
 import software.amazon.ion.IonValue;
 import software.amazon.ion.IonWriter;
 import software.amazon.ion.SymbolTable;
+import software.amazon.ion.SpanProvider;
 import software.amazon.ion.SymbolToken;
 import software.amazon.ion.UnexpectedEofException;
 import software.amazon.ion.UnsupportedIonVersionException;
@@ -71,10 +72,24 @@ final class IonSystemLite
     private final PrivateIonBinaryWriterBuilder myBinaryWriterBuilder;
     /** Immutable. **/
     private final IonReaderBuilder myReaderBuilder;
+    private final boolean myLazyBinaryLoading;
 
     public IonSystemLite(IonTextWriterBuilder twb,
                          PrivateIonBinaryWriterBuilder bwb,
                          IonReaderBuilder rb)
+    {
+        this(twb, bwb, rb, false);
+    }
+
+    /**
+     * @param lazyBinaryLoading whether the loader defers decoding the
+     * children of containers loaded from binary byte arrays until they
+     * are accessed.
+     */
+    public IonSystemLite(IonTextWriterBuilder twb,
+                         PrivateIonBinaryWriterBuilder bwb,
+                         IonReaderBuilder rb,
+                         boolean lazyBinaryLoading)
     {
         IonCatalog catalog = twb.getCatalog();
         assert catalog != null;
@@ -94,6 +109,7 @@ final class IonSystemLite
         myBinaryWriterBuilder = bwb.immutable();
 
         myReaderBuilder = rb.immutable();
+        myLazyBinaryLoading = lazyBinaryLoading;
     }
 
     //==========================================================================
@@ -105,6 +121,11 @@ final class IonSystemLite
         return myBinaryWriterBuilder.isStreamCopyOptimized();
     }
 
+    boolean isLazyBinaryLoading()
+    {
+        return myLazyBinaryLoading;
+    }
+
     @SuppressWarnings("unchecked")
     public <T extends IonValue> T clone(T value) throws IonException
     {
@@ -285,14 +306,49 @@ final class IonSystemLite
 
     public IonValueLite newValue(IonReader reader)
     {
-        IonValueLite value = load_value_helper(reader, /*isTopLevel*/ true);
+        IonValueLite value = load_value_helper(reader, /*isTopLevel*/ true, null, null);
         if (value == null) {
             throw new IonException("No value available");
         }
         return value;
     }
 
-    private IonValueLite load_value_helper(IonReader reader, boolean isTopLevel)
+    /**
+     * Like {@link #newValue(IonReader)}, except that the children of a
+     * container are left encoded in {@code source} until first accessed.
+     *
+     * @param spans the span facet of {@code reader}, which must be reading
+     * {@code source}.
+     *
+     * @return null if the reader isn't positioned on a value.
+     */
+    IonValueLite newLazyValue(IonReader reader,
+                              SpanProvider spans,
+                              LazyBinarySource source)
+    {
+        return load_value_helper(reader, /*isTopLevel*/ true, spans, source);
+    }
+
+    /**
+     * Decodes the children of the (lazily loaded) value on which the reader
+     * is positioned into {@code container}.
+     */
+    void load_lazy_children(IonContainerLite container,
+                            IonReader reader,
+                            SpanProvider spans,
+                            LazyBinarySource source)
+    {
+        load_children(container, reader, spans, source);
+    }
+
+    /**
+     * @param source when not null, containers are loaded lazily from it
+     * using {@code spans}.
+     */
+    private IonValueLite load_value_helper(IonReader reader,
+                                           boolean isTopLevel,
+                                           SpanProvider spans,
+                                           LazyBinarySource source)
     {
         boolean symbol_is_present = false;
 
@@ -394,9 +450,15 @@ final class IonSystemLite
             case LIST:
             case SEXP:
             case STRUCT:
+                if (source != null) {
+                    // we can't tell without decoding the children
+                    ((IonContainerLite)v).setLazyChildren(source,
+                                                          spans.currentSpan());
+                    symbol_is_present = true;
+                }
                 // we have to load the children after we grabbed the
                 // fieldname and annotations off of the parent container
-                if (load_children((IonContainerLite)v, reader)) {
+                else if (load_children((IonContainerLite)v, reader, null, null)) {
                     symbol_is_present = true;
                 }
                 break;
@@ -414,7 +476,10 @@ final class IonSystemLite
      * @return true iff any child contains a symbol
      * (including field names and annotations)
      */
-    private boolean load_children(IonContainerLite container, IonReader reader)
+    private boolean load_children(IonContainerLite container,
+                                  IonReader reader,
+                                  SpanProvider spans,
+                                  LazyBinarySource source)
     {
         boolean symbol_is_present = false;
 
@@ -424,7 +489,8 @@ final class IonSystemLite
             if (t == null) {
                 break;
             }
-            IonValueLite child = load_value_helper(reader, /*isTopLevel*/ false);
+            IonValueLite child =
+                load_value_helper(reader, /*isTopLevel*/ false, spans, source);
 
             container.add(child);
 
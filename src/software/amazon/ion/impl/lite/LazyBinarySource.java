@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl.lite;
+
+import static software.amazon.ion.impl.PrivateIonReaderFactory.makeReader;
+
+import java.io.IOException;
+import software.amazon.ion.IonCatalog;
+import software.amazon.ion.IonException;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.SeekableReader;
+import software.amazon.ion.Span;
+import software.amazon.ion.SpanProvider;
+import software.amazon.ion.impl.PrivateLocalSymbolTableFactory;
+
+/**
+ * The binary data behind lazily loaded containers. Each such container
+ * holds a {@link Span} over this source and decodes its children from it
+ * upon first access; see {@link IonContainerLite#materialize()}.
+ * <p>
+ * The data must not be modified while any container refers to it.
+ */
+final class LazyBinarySource
+    implements LazyChildrenSource
+{
+    private final IonSystemLite _system;
+    private final IonCatalog    _catalog;
+    private final PrivateLocalSymbolTableFactory _lstFactory;
+    private final byte[]        _bytes;
+    private final int           _offset;
+    private final int           _length;
+
+    LazyBinarySource(IonSystemLite system,
+                     IonCatalog catalog,
+                     PrivateLocalSymbolTableFactory lstFactory,
+                     byte[] bytes, int offset, int length)
+    {
+        _system = system;
+        _catalog = catalog;
+        _lstFactory = lstFactory;
+        _bytes = bytes;
+        _offset = offset;
+        _length = length;
+    }
+
+    /**
+     * @return a new user reader over the whole source, whose spans are
+     * valid for {@link #loadChildren}.
+     */
+    IonReader newReader()
+    {
+        return makeReader(_catalog, _bytes, _offset, _length, _lstFactory);
+    }
+
+    /**
+     * Decodes the children of the container encoded at {@code span} into
+     * the given (empty) container. Child containers are themselves loaded
+     * lazily.
+     */
+    public void loadChildren(IonContainerLite container, Span span)
+    {
+        IonReader reader = newReader();
+        try
+        {
+            reader.asFacet(SeekableReader.class).hoist(span);
+            reader.next();
+            _system.load_lazy_children(container, reader,
+                                       reader.asFacet(SpanProvider.class),
+                                       this);
+            reader.close();
+        }
+        catch (IOException e)
+        {
+            throw new IonException(e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl.lite;
+
+import software.amazon.ion.Span;
+
+/**
+ * Provides the children of a container that aren't created until first
+ * accessed; see {@link IonContainerLite#materialize()}.
+ */
+interface LazyChildrenSource
+{
+    /**
+     * Adds the children to the given (empty) container.
+     *
+     * @param span locates the children within this source, if it holds
+     * more than one container's.
+     */
+    void loadChildren(IonContainerLite container, Span span);
+}
@@ -36,6 +36,14 @@ public final class PrivateLiteDomTrampoline
         return new IonSystemLite(twb, bwb, rb);
     }
 
+    public static IonSystem newLiteSystem(IonTextWriterBuilder twb,
+                                          PrivateIonBinaryWriterBuilder bwb,
+                                          IonReaderBuilder rb,
+                                          boolean lazyBinaryLoading)
+    {
+        return new IonSystemLite(twb, bwb, rb, lazyBinaryLoading);
+    }
+
     public static boolean isLiteSystem(IonSystem system)
     {
         return (system instanceof IonSystemLite);
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.system;
+
+/**
+ * The pool of fixed-size buffer blocks that binary writers encode into.
+ * Blocks released by a closed writer are kept for reuse by later writers,
+ * up to a limit on the bytes held.
+ * <p>
+ * The standard {@link IonBinaryWriterBuilder} uses a single pool shared by
+ * the whole process, so that short-lived writers do not each allocate fresh
+ * blocks. Each thread also keeps a few released blocks of its own in front of
+ * the shared free list; those are not counted against the limit.
+ * <p>
+ * The counters are cumulative over the life of the pool and are maintained
+ * without locking, so a set of readings taken together may be slightly
+ * inconsistent.
+ * <p>
+ * Implementations are thread-safe.
+ *
+ * @see IonBinaryWriterBuilder#getBlockPool()
+ */
+public interface BlockPool
+{
+    /**
+     * Gets the number of block allocations that reused a pooled block.
+     */
+    public long getHitCount();
+
+    /**
+     * Gets the number of block allocations that created a new block.
+     */
+    public long getMissCount();
+
+    /**
+     * Gets the number of released blocks that were dropped because the pool
+     * was full.
+     */
+    public long getDiscardCount();
+
+    /**
+     * Gets the number of bytes held by the pool's shared free lists.
+     */
+    public long getRetainedBytes();
+
+    /**
+     * Gets the maximum number of bytes the shared free lists may hold.
+     */
+    public long getMaxRetainedBytes();
+
+    /**
+     * Sets the maximum number of bytes the shared free lists may hold,
+     * releasing pooled blocks as needed to honor a lower limit.
+     *
+     * @param maxRetainedBytes must not be negative; zero disables the shared
+     *  free lists.
+     */
+    public void setMaxRetainedBytes(long maxRetainedBytes);
+}
@@ -229,6 +229,23 @@ public abstract class IonBinaryWriterBuilder
     //=========================================================================
 
 
+    /**
+     * Gets the pool of buffer blocks that built writers encode into, whose
+     * counters show how effectively blocks are being reused. The standard
+     * builder and all of its copies use the same process-wide pool.
+     *
+     * @return the pool; may be null if built writers do not pool blocks,
+     *  which is the case unless a subclass overrides this method.
+     */
+    public BlockPool getBlockPool()
+    {
+        return null;
+    }
+
+
+    //=========================================================================
+
+
     /**
      * Indicates whether built writers may attempt to optimize
      * {@link IonWriter#writeValue(IonReader)} by copying raw source data.
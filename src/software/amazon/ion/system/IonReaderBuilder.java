@@ -14,11 +14,17 @@
 
 package software.amazon.ion.system;
 
+import static software.amazon.ion.impl.PrivateIonReaderFactory.makeIncrementalReader;
 import static software.amazon.ion.impl.PrivateIonReaderFactory.makeReader;
+import static software.amazon.ion.impl.PrivateIonReaderFactory.makeStringCache;
+import static software.amazon.ion.impl.PrivateIonReaderFactory.setStringCache;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import software.amazon.ion.IonCatalog;
 import software.amazon.ion.IonException;
 import software.amazon.ion.IonReader;
@@ -40,6 +46,8 @@ public class IonReaderBuilder
 {
 
     private IonCatalog catalog = null;
+    private boolean isIncrementalReadingEnabled = false;
+    private StringCache stringCache = null;
 
     private IonReaderBuilder()
     {
@@ -48,6 +56,8 @@ public class IonReaderBuilder
     private IonReaderBuilder(IonReaderBuilder that)
     {
         this.catalog = that.catalog;
+        this.isIncrementalReadingEnabled = that.isIncrementalReadingEnabled;
+        this.stringCache = that.stringCache;
     }
 
     /**
@@ -149,6 +159,147 @@ public class IonReaderBuilder
         return catalog;
     }
 
+    /**
+     * Declares whether readers built from an {@link InputStream} read binary
+     * Ion incrementally, returning a new mutable builder if this is immutable.
+     *
+     * @param enabled whether to enable incremental reading.
+     *
+     * @return this builder instance, if mutable;
+     * otherwise a mutable copy of this builder.
+     *
+     * @see #setIncrementalReadingEnabled(boolean)
+     * @see #isIncrementalReadingEnabled()
+     */
+    public IonReaderBuilder withIncrementalReadingEnabled(boolean enabled)
+    {
+        IonReaderBuilder b = mutable();
+        b.setIncrementalReadingEnabled(enabled);
+        return b;
+    }
+
+    /**
+     * Sets whether readers built from an {@link InputStream} read binary Ion
+     * incrementally. By default they do not.
+     * <p>
+     * An incremental reader treats a stream read that returns zero or -1
+     * bytes as a pause rather than the end of the data. When the data
+     * received so far ends part way through a top-level value,
+     * {@link IonReader#next()} returns null instead of failing, and a later
+     * call to {@code next()} picks up from the same value once the stream
+     * has more bytes to give. This allows Ion to be decoded from
+     * non-blocking sources such as network frames without a thread blocking
+     * on each stream.
+     * <p>
+     * Each top-level value is buffered in memory in full before it is
+     * surfaced. Only binary Ion that starts with a version marker is
+     * supported; other data causes {@code next()} to throw
+     * {@link IonException}. Closing the reader throws
+     * {@link software.amazon.ion.UnexpectedEofException} if buffered data
+     * ends within a top-level value. Incremental readers do not provide
+     * {@link software.amazon.ion.SpanProvider} or
+     * {@link software.amazon.ion.SeekableReader} facets.
+     *
+     * @param enabled whether to enable incremental reading.
+     *
+     * @see #isIncrementalReadingEnabled()
+     * @see #withIncrementalReadingEnabled(boolean)
+     *
+     * @throws UnsupportedOperationException if this builder is immutable.
+     */
+    public void setIncrementalReadingEnabled(boolean enabled)
+    {
+        mutationCheck();
+        this.isIncrementalReadingEnabled = enabled;
+    }
+
+    /**
+     * Indicates whether readers built from an {@link InputStream} read
+     * binary Ion incrementally.
+     *
+     * @see #setIncrementalReadingEnabled(boolean)
+     * @see #withIncrementalReadingEnabled(boolean)
+     */
+    public boolean isIncrementalReadingEnabled()
+    {
+        return isIncrementalReadingEnabled;
+    }
+
+    /**
+     * Declares the number of strings the binary readers built by this
+     * builder cache, returning a new mutable builder if this is immutable.
+     *
+     * @param maxEntries the number of entries, or zero for no cache.
+     *
+     * @return this builder instance, if mutable;
+     * otherwise a mutable copy of this builder.
+     *
+     * @see #setStringCacheSize(int)
+     * @see #getStringCache()
+     */
+    public IonReaderBuilder withStringCacheSize(int maxEntries)
+    {
+        IonReaderBuilder b = mutable();
+        b.setStringCacheSize(maxEntries);
+        return b;
+    }
+
+    /**
+     * Sets the number of strings the binary readers built by this builder
+     * cache. By default there is no cache.
+     * <p>
+     * When enabled, every binary reader built from this builder, or from a
+     * copy of it, shares a single {@link StringCache} that maps short UTF-8
+     * string values to canonical {@link String} instances. A string seen
+     * before is returned without being decoded, so streams that repeat the
+     * same values decode faster, and values loaded from them share one
+     * instance of each string. Symbol text declared in local symbol tables
+     * is read through the same cache. Text and tree readers are not
+     * affected.
+     * <p>
+     * Each call replaces the cache, and its counters, with a new one.
+     *
+     * @param maxEntries the number of entries, or zero for no cache; rounded
+     * up to a power of two.
+     *
+     * @see #withStringCacheSize(int)
+     * @see #getStringCache()
+     *
+     * @throws IllegalArgumentException if {@code maxEntries} is negative.
+     * @throws UnsupportedOperationException if this builder is immutable.
+     */
+    public void setStringCacheSize(int maxEntries)
+    {
+        mutationCheck();
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("maxEntries must not be negative");
+        }
+        this.stringCache =
+            (maxEntries == 0 ? null : makeStringCache(maxEntries));
+    }
+
+    /**
+     * Gets the cache shared by the binary readers built by this builder,
+     * through which its hit rate may be monitored.
+     *
+     * @return the cache, or null if string caching is disabled.
+     *
+     * @see #setStringCacheSize(int)
+     * @see #withStringCacheSize(int)
+     */
+    public StringCache getStringCache()
+    {
+        return stringCache;
+    }
+
+    private IonReader configure(IonReader reader)
+    {
+        if (stringCache != null) {
+            setStringCache(reader, stringCache);
+        }
+        return reader;
+    }
+
     private IonCatalog validateCatalog()
     {
         // matches behavior in IonSystemBuilder when no catalog provided
@@ -173,7 +324,7 @@ public class IonReaderBuilder
      */
     public IonReader build(byte[] ionData)
     {
-        return makeReader(validateCatalog(), ionData);
+        return configure(makeReader(validateCatalog(), ionData));
     }
 
     /**
@@ -196,7 +347,38 @@ public class IonReaderBuilder
      */
     public IonReader build(byte[] ionData, int offset, int length)
     {
-        return makeReader(validateCatalog(), ionData, offset, length);
+        return configure(makeReader(validateCatalog(), ionData, offset, length));
+    }
+
+    /**
+     * Based on the builder's configuration properties, creates a new IonReader
+     * instance over the remaining bytes of the given buffer, detecting whether
+     * it's text or binary data.
+     * <p>
+     * Binary data is read in place, without copying, using absolute-index
+     * reads. This makes it suitable for direct buffers and for
+     * {@link MappedByteBuffer}s obtained from {@link FileChannel#map}, so that
+     * large files may be scanned without loading them onto the heap. Since a
+     * single buffer is limited to {@link Integer#MAX_VALUE} bytes, larger
+     * files must be mapped in several regions that each begin at a top-level
+     * value boundary.
+     * <p>
+     * Text data, and GZIPped data of either kind, is streamed from the buffer.
+     * <p>
+     * The reader neither modifies nor depends on the buffer's position, limit
+     * or mark after this method returns, but it retains a reference to the
+     * buffer's content, which must not be modified while the reader is active.
+     * {@link software.amazon.ion.OffsetSpan}s reported by the reader are
+     * relative to the buffer's position at the time of this call.
+     *
+     * @param ionData the source of the Ion data, which may be either Ion
+     * binary data or UTF-8 Ion text. Must not be null.
+     *
+     * @return a new {@link IonReader} instance; not {@code null}.
+     */
+    public IonReader build(ByteBuffer ionData)
+    {
+        return configure(makeReader(validateCatalog(), ionData));
     }
 
     /**
@@ -204,7 +386,9 @@ public class IonReaderBuilder
      * instance over the given stream of Ion data, detecting whether it's text or
      * binary data.
      * <p>
-     * This method will auto-detect and uncompress GZIPped Ion data.
+     * This method will auto-detect and uncompress GZIPped Ion data, unless
+     * {@linkplain #setIncrementalReadingEnabled(boolean) incremental reading}
+     * is enabled, in which case the data must be binary Ion.
      * <p>
      * Because this library performs its own buffering, it's recommended that
      * users avoid adding additional buffering to the given stream.
@@ -221,7 +405,10 @@ public class IonReaderBuilder
      */
     public IonReader build(InputStream ionData)
     {
-        return makeReader(validateCatalog(), ionData);
+        if (isIncrementalReadingEnabled) {
+            return configure(makeIncrementalReader(validateCatalog(), ionData));
+        }
+        return configure(makeReader(validateCatalog(), ionData));
     }
 
     /**
@@ -17,8 +17,10 @@ package software.amazon.ion.system;
 import static software.amazon.ion.impl.lite.PrivateLiteDomTrampoline.newLiteSystem;
 
 import software.amazon.ion.IonCatalog;
+import software.amazon.ion.IonLoader;
 import software.amazon.ion.IonReader;
 import software.amazon.ion.IonSystem;
+import software.amazon.ion.IonValue;
 import software.amazon.ion.IonWriter;
 import software.amazon.ion.SymbolTable;
 import software.amazon.ion.impl.PrivateIonBinaryWriterBuilder;
@@ -78,6 +80,14 @@ import software.amazon.ion.impl.PrivateUtils;
  *     conditions are met. <b>This feature is experimental! Please test
  *     thoroughly and report any issues.</b>
  *   </li>
+ *   <li>
+ *     <b>lazyBinaryLoading</b>: When true, {@link IonLoader#load(byte[])}
+ *     decodes the children of binary containers only when they are first
+ *     accessed, retaining the given array until then. This reduces the cost
+ *     of loading large datagrams when only part of each value is used.
+ *     <b>This feature is experimental! Please test thoroughly and report any
+ *     issues.</b>
+ *   </li>
  * </ul>
  */
 public class IonSystemBuilder
@@ -100,6 +110,7 @@ public class IonSystemBuilder
 
     IonCatalog myCatalog;
     boolean myStreamCopyOptimized = false;
+    boolean myLazyBinaryLoading = false;
 
 
     /** You no touchy. */
@@ -109,6 +120,7 @@ public class IonSystemBuilder
     {
         this.myCatalog      = that.myCatalog;
         this.myStreamCopyOptimized = that.myStreamCopyOptimized;
+        this.myLazyBinaryLoading = that.myLazyBinaryLoading;
     }
 
     //=========================================================================
@@ -258,6 +270,62 @@ public class IonSystemBuilder
 
 
 
+    /**
+     * Indicates whether built systems load binary data lazily.
+     * By default, this property is false.
+     *
+     * @see #setLazyBinaryLoading(boolean)
+     * @see #withLazyBinaryLoading(boolean)
+     */
+    public final boolean isLazyBinaryLoading()
+    {
+        return myLazyBinaryLoading;
+    }
+
+    /**
+     * Declares whether built systems load binary data lazily.
+     * By default, this property is false.
+     * <p>
+     * When enabled, {@link IonLoader#load(byte[])} of binary data creates
+     * containers whose children are decoded from the array only when they
+     * are first accessed. Until then the array is retained and must not be
+     * modified. Decoding mutates the container, so lazily loaded values
+     * that are shared between threads must first be made
+     * {@linkplain IonValue#makeReadOnly() read-only}, which decodes them
+     * fully. Text, GZIPped and streamed data are always loaded eagerly.
+     * <p>
+     * <b>This feature is experimental! Please test thoroughly and report any
+     * issues.</b>
+     *
+     * @throws UnsupportedOperationException if this is immutable.
+     *
+     * @see #isLazyBinaryLoading()
+     * @see #withLazyBinaryLoading(boolean)
+     */
+    public final void setLazyBinaryLoading(boolean lazy)
+    {
+        mutationCheck();
+        myLazyBinaryLoading = lazy;
+    }
+
+    /**
+     * Declares whether built systems load binary data lazily,
+     * returning a new mutable builder if this is immutable.
+     * <p>
+     * <b>This feature is experimental! Please test thoroughly and report any
+     * issues.</b>
+     *
+     * @see #isLazyBinaryLoading()
+     * @see #setLazyBinaryLoading(boolean)
+     */
+    public final IonSystemBuilder withLazyBinaryLoading(boolean lazy)
+    {
+        IonSystemBuilder b = mutable();
+        b.setLazyBinaryLoading(lazy);
+        return b;
+    }
+
+
     //=========================================================================
 
     /**
@@ -287,7 +355,7 @@ public class IonSystemBuilder
 //        bwb = bwb.fillDefaults();
 
         IonReaderBuilder rb = IonReaderBuilder.standard().withCatalog(catalog);
-        return newLiteSystem(twb, bwb, rb);
+        return newLiteSystem(twb, bwb, rb, myLazyBinaryLoading);
     }
 
     //=========================================================================
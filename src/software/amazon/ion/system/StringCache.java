@@ -0,0 +1,64 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.system;
+
+/**
+ * A bounded cache of recently decoded string values, shared by the binary
+ * readers of an {@link IonReaderBuilder}. Short UTF-8 encodings that have
+ * been seen before are mapped to the same {@link String} instance without
+ * being decoded again, so streams that repeat the same strings spend less
+ * time decoding them and values loaded from them retain less heap.
+ * <p>
+ * The cache has a fixed number of slots. A string is cached once it misses
+ * twice in a row for its slot, replacing whatever occupied the slot, so a
+ * hit is not guaranteed even for a string seen recently. Strings whose encoding is longer than {@link #getMaxLength()}
+ * bytes are never cached, and are not counted.
+ * <p>
+ * The counters are cumulative over the life of the cache and are maintained
+ * without locking, so a set of readings taken together may be slightly
+ * inconsistent.
+ * <p>
+ * Implementations are thread-safe.
+ *
+ * @see IonReaderBuilder#getStringCache()
+ */
+public interface StringCache
+{
+    /**
+     * Gets the number of strings that were found in the cache.
+     */
+    public long getHitCount();
+
+    /**
+     * Gets the number of cacheable strings that had to be decoded.
+     */
+    public long getMissCount();
+
+    /**
+     * Gets the number of strings the cache can hold.
+     */
+    public int getMaxEntries();
+
+    /**
+     * Gets the length in bytes of the longest UTF-8 encoding the cache will
+     * hold.
+     */
+    public int getMaxLength();
+
+    /**
+     * Removes all entries from the cache. The counters are not reset.
+     */
+    public void clear();
+}
@@ -18,10 +18,8 @@ import static software.amazon.ion.impl.PrivateIonConstants.UNKNOWN_SYMBOL_TEXT_P
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.Map;
-import java.util.Set;
 import software.amazon.ion.Decimal;
 import software.amazon.ion.IonBool;
 import software.amazon.ion.IonDecimal;
@@ -154,76 +152,117 @@ public final class Equivalence {
 
 
     /**
-     * Converts an IonStruct to a multi-set for use in IonStruct equality
-     * checks. This method returns the multi-set as a {@code Map<Field, Field>}.
-     * <p>
-     * A multi-set supports order-independent equality, and may have duplicate
-     * elements.
-     * <p>
-     * Take special note that {@link Set} is missing a {@code get()} API,
-     * and cannot contain duplicate elements, hence we cannot use it.
+     * Compares structs as multi-sets of name/value pairs. Fields are first
+     * matched in order, which succeeds without allocating when both structs
+     * were built the same way. From the first mismatch on, the remaining
+     * fields of both structs are sorted by name, so that differing names are
+     * found before any values are compared, and each value need only be
+     * matched against those with the same name.
      */
-    private static final Map<Field, Field>
-        convertToMultiSet(final IonStruct struct, final boolean strict) {
-
-        final Map<Field, Field> structMultiSet =
-            new HashMap<Field, Field>();
-
-        for (final IonValue val : struct) {
-            final Field item = new Field(val, strict);
-            Field curr = structMultiSet.put(item, item);
-            // curr will be non-null if the multi-set already contains the
-            // name/value pair
-            if (curr != null) {
-                // Set the 'occurrences' of the Field that is contained in
-                // the multi-set (i.e. item) to that of the previously mapped
-                // Field (i.e. curr)
-                item.occurrences = curr.occurrences;
+    private static int compareStructs(final IonStruct s1,
+                                      final IonStruct s2,
+                                      boolean strict)
+    {
+        int remaining = s1.size();
+        int result = remaining - s2.size();
+        if (result == 0) {
+            Iterator<IonValue> iter1 = s1.iterator();
+            Iterator<IonValue> iter2 = s2.iterator();
+            while (iter1.hasNext()) {
+                IonValue v1 = iter1.next();
+                IonValue v2 = iter2.next();
+                String name1 = fieldName(v1);
+                String name2 = fieldName(v2);
+                if (!name1.equals(name2) || !ionEqualsImpl(v1, v2, strict)) {
+                    Field[] fields1 = remainingFields(name1, v1, iter1, remaining);
+                    Field[] fields2 = remainingFields(name2, v2, iter2, remaining);
+                    return compareFields(fields1, fields2, strict);
+                }
+                remaining--;
             }
-            // At this point, item will be an existing
-            // name/value pair in the multi-set - increment its occurrence
-            item.occurrences++;
         }
+        return result;
+    }
+
 
-        return structMultiSet;
+    private static Field[] remainingFields(final String name,
+                                           final IonValue value,
+                                           final Iterator<IonValue> iter,
+                                           final int remaining)
+    {
+        final Field[] fields = new Field[remaining];
+        fields[0] = new Field(name, value);
+        for (int i = 1; i < remaining; i++) {
+            IonValue next = iter.next();
+            fields[i] = new Field(fieldName(next), next);
+        }
+        Arrays.sort(fields);
+        return fields;
     }
 
 
-    private static int compareStructs(final IonStruct s1,
-                                      final IonStruct s2,
-                                      boolean strict)
+    private static int compareFields(final Field[] fields1,
+                                     final Field[] fields2,
+                                     final boolean strict)
     {
-        int result = s1.size() - s2.size();
-        if (result == 0) {
-            // We convert IonStruct s1 to a multi-set (which is a
-            // Map<Field, Field>). Refer to convertToMultiSet()'s
-            // documentation for more info
-            final Map<Field, Field> s1MultiSet
-                    = convertToMultiSet(s1, strict);
-
-            // Iterates through each name/value pair in IonStruct s2 and
-            // determine if it also occurs in s1MultiSet.
-            // During each iteration:
-            //          If it does, remove an occurrence from s1MultiSet
-            //          If it doesn't, the two IonStructs aren't equal
-            for (IonValue val : s2) {
-                Field field = new Field(val, strict);
-
-                // Find an occurrence of the name/value pair in s1MultiSet
-                Field mappedValue = s1MultiSet.get(field);
-
-                if (mappedValue == null || mappedValue.occurrences == 0) {
-                    // No match in occurrences, the IonStructs aren't equal
+        final int size = fields1.length;
+        for (int i = 0; i < size; i++) {
+            if (!fields1[i].name.equals(fields2[i].name)) {
+                return -1;
+            }
+        }
+
+        // Each run of fields with the same name is matched greedily, which
+        // is enough since equivalence is transitive.
+        int start = 0;
+        while (start < size) {
+            final String name = fields1[start].name;
+            int end = start + 1;
+            while (end < size && fields1[end].name.equals(name)) {
+                end++;
+            }
+            for (int i = start; i < end; i++) {
+                final IonValue value = fields1[i].value;
+                boolean found = false;
+                for (int j = start; j < end && !found; j++) {
+                    final Field candidate = fields2[j];
+                    if (!candidate.matched
+                        && ionEqualsImpl(value, candidate.value, strict)) {
+                        candidate.matched = true;
+                        found = true;
+                    }
+                }
+                if (!found) {
                     return -1;
                 }
-
-                // Remove an occurrence by decrementing count instead of
-                // explicitly calling Map.remove(), as Map.remove() is a slower
-                // operation
-                mappedValue.occurrences--;
             }
+            start = end;
         }
-        return result;
+        return 0;
+    }
+
+
+    private static String fieldName(final IonValue value)
+    {
+        SymbolToken tok = value.getFieldNameSymbol();
+        String name = tok.getText();
+        if (name == null) {
+            // TODO amzn/ion-java#23 Problematic with unknown field names.
+            name = UNKNOWN_SYMBOL_TEXT_PREFIX + tok.getSid();
+        }
+        return name;
+    }
+
+
+    /**
+     * Read-only containers cache their hash codes, which are consistent with
+     * strict equivalence, so they may quickly rule it out.
+     */
+    private static boolean hashCodesDiffer(final IonValue v1,
+                                           final IonValue v2)
+    {
+        return v1.isReadOnly() && v2.isReadOnly()
+            && v1.hashCode() != v2.hashCode();
     }
 
 
@@ -291,85 +330,29 @@ public final class Equivalence {
 
 
     /**
-     * Class that denotes a name/value pair in Structs.
-     * <p>
-     * Structs are unordered collections of name/value pairs. The names are
-     * symbol tokens, and the values are unrestricted. Each name/value pair is
-     * called a <em>field</em>.
-     * <p>
-     * The responsibilities of this class is to expose a
-     * {@code Map<Field, Field>} as a multi-set. A Field instance holds the name
-     * and value of a Struct field, and counts the number of times that
-     * name/value pair occurs within the multi-set.
-     * <p>
-     * For example, an IonStruct:
-     *<pre>
-     *  {
-     *    a : 123,
-     *    a : 123
-     *  }
-     *</pre>
-     * will be converted into a multi-set {@code Map<Field, Field>} with
-     * a single {@code Field} -> {@code Field} with {@code occurrences} of 2.
-     * <p>
-     * Refer to
-     * {@link Equivalence#convertToMultiSet(IonStruct, boolean)} and
-     * {@link Field#equals(Object)} for more info.
-     * <p>
-     * NOTE: This class should only be instantiated for the sole purpose of
-     * using it as either a <em>key</em> or <em>value</em> in a {@link Map}.
+     * A name/value pair in a struct, ordered by name. Structs are unordered
+     * collections of fields, and may repeat names, so
+     * {@link Equivalence#compareFields(Field[], Field[], boolean)} compares
+     * them as sorted arrays.
      */
-    static class Field {
-        private final String    name; // aka field name
-        private final IonValue  value;
-        private final boolean   strict;
+    static final class Field implements Comparable<Field> {
+        final String    name; // aka field name
+        final IonValue  value;
 
         /**
-         * Number of times that this specific field (with the same name
-         * and value) occurs within the struct.
+         * Whether this field has been paired with an equivalent field of the
+         * other struct.
          */
-        private int occurrences;
+        boolean matched;
 
-        Field(final IonValue value, final boolean strict)
+        Field(final String name, final IonValue value)
         {
-            SymbolToken tok = value.getFieldNameSymbol();
-            String name = tok.getText();
-            if (name == null) {
-                // TODO amzn/ion-java#23 Problematic with unknown field names.
-                name = UNKNOWN_SYMBOL_TEXT_PREFIX + tok.getSid();
-            }
             this.name = name;
             this.value = value;
-            this.strict = strict;
-
-            // Occurrences of this name/value pair is 0 initially
-            this.occurrences = 0;
-        }
-
-        @Override
-        public int hashCode() {
-            return name.hashCode();
-            // TODO amzn/ion-java#58 : implement hash code such that it respects
-            // 'strict'. The prevously attempted fix is commented out below but
-            // is not sufficient because value.hasCode will always include
-            // type annotations in the hash computation. Type annotations
-            // should not be part of the hash computation if strict=true.
-//            result = (31 * result) + value.hashCode();
-//            return result;
         }
 
-        /**
-         * This method is implicitly called by {@link Map#get(Object)} to
-         * obtain a value to which {@code other} is mapped.
-         */
-        @Override
-        public boolean equals(final Object other) {
-            // We can assume other is always a Field and strict
-            // is the same - internal usage dictates it.
-            final Field sOther = (Field) other;
-
-            return name.equals(sOther.name)
-                && ionEqualsImpl(value, ((Field) other).value, strict);
+        public int compareTo(final Field other) {
+            return name.compareTo(other.name);
         }
     }
 
@@ -392,6 +375,9 @@ public final class Equivalence {
             // otherwise v1 == v2 == null and result == 0
             return result;
         }
+        if (v1 == v2) {
+            return 0;
+        }
 
         // check type
         IonType ty1 = v1.getType();
@@ -469,12 +455,22 @@ public final class Equivalence {
                     break;
                 case STRUCT:
                     assert !PUBLIC_COMPARISON_API; // TODO amzn/ion-java#26
+                    if (strict && hashCodesDiffer(v1, v2)) {
+                        result = 1;
+                        break;
+                    }
                     result = compareStructs((IonStruct) v1,
                                             (IonStruct) v2,
                                             strict);
                     break;
                 case LIST:
                 case SEXP:
+                    assert !PUBLIC_COMPARISON_API; // TODO amzn/ion-java#26
+                    if (strict && hashCodesDiffer(v1, v2)) {
+                        result = 1;
+                        break;
+                    }
+                    // fall through
                 case DATAGRAM:
                     result = compareSequences((IonSequence) v1,
                                               (IonSequence) v2,
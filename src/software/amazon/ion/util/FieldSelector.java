@@ -0,0 +1,304 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.util;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.SymbolTable;
+import software.amazon.ion.impl.PrivateFieldIdReader;
+
+/**
+ * A fixed set of field names, compiled once, for picking fields out of
+ * structs as they are read.
+ * <p>
+ * When the reader has the field name as a symbol ID, as binary readers
+ * always do, the ID is matched against a table built from the reader's
+ * current symbol table, without looking up the text. Tables are kept for
+ * the last few symbol tables seen, so readers sharing a selector don't
+ * rebuild each other's. Otherwise the field name text is looked up
+ * directly.
+ *<pre>
+ *    FieldSelector selector = FieldSelector.of("id", "price");
+ *    ...
+ *    reader.stepIn();
+ *    int field;
+ *    while ((field = selector.next(reader)) != -1) {
+ *        switch (field) {
+ *            case 0: id = reader.longValue(); break;
+ *            case 1: price = reader.decimalValue(); break;
+ *        }
+ *    }
+ *    reader.stepOut();
+ *</pre>
+ * Instances are thread-safe and may be shared between readers.
+ */
+public final class FieldSelector
+{
+    private final String[] fieldNames;
+    private final Map<String, Integer> indexes;
+
+    /** Must be a power of two. */
+    private static final int RESOLUTION_CACHE_SIZE = 8;
+
+    /**
+     * The symbol IDs resolved against recently seen symbol tables, indexed
+     * by their identity hash codes. Resolutions are immutable, so racing
+     * readers at worst resolve a table again.
+     */
+    private final Resolution[] resolutions = new Resolution[RESOLUTION_CACHE_SIZE];
+
+    private FieldSelector(final String[] fieldNames)
+    {
+        this.fieldNames = fieldNames;
+        this.indexes = new HashMap<String, Integer>(fieldNames.length * 2);
+        for (int i = 0; i < fieldNames.length; i++)
+        {
+            final String name = fieldNames[i];
+            if (name == null)
+            {
+                throw new NullPointerException("Null field name is not allowed.");
+            }
+            if (indexes.put(name, i) != null)
+            {
+                throw new IllegalArgumentException("Duplicate field name: " + name);
+            }
+        }
+    }
+
+    /**
+     * Compiles a selector for the given field names. Each name is
+     * identified by its position in the arguments.
+     *
+     * @throws IllegalArgumentException if a name is given more than once.
+     */
+    public static FieldSelector of(final String... fieldNames)
+    {
+        return new FieldSelector(fieldNames.clone());
+    }
+
+    /**
+     * @return the number of field names selected.
+     */
+    public int size()
+    {
+        return fieldNames.length;
+    }
+
+    /**
+     * @return the field name at the given index.
+     */
+    public String getFieldName(final int index)
+    {
+        return fieldNames[index];
+    }
+
+    /**
+     * Matches the field name of the reader's current value.
+     *
+     * @return the index of the field name, or -1 if the current value has
+     *  no field name or it isn't selected.
+     */
+    public int indexOf(final IonReader reader)
+    {
+        if (reader instanceof PrivateFieldIdReader)
+        {
+            final int sid = ((PrivateFieldIdReader) reader).getRawFieldId();
+            if (sid > 0)
+            {
+                final SymbolTable symbols = reader.getSymbolTable();
+                final int slot = System.identityHashCode(symbols) & (RESOLUTION_CACHE_SIZE - 1);
+                Resolution resolved = resolutions[slot];
+                if (resolved == null || resolved.symbols != symbols)
+                {
+                    resolved = new Resolution(symbols, fieldNames, indexes);
+                    resolutions[slot] = resolved;
+                }
+                return resolved.indexOf(sid);
+            }
+            if (sid == 0)
+            {
+                // symbol zero never has text
+                return -1;
+            }
+        }
+
+        final String name = reader.getFieldName();
+        if (name == null)
+        {
+            return -1;
+        }
+        final Integer index = indexes.get(name);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Advances the reader, which must be positioned within a struct, to the
+     * next value whose field name is selected.
+     *
+     * @return the index of its field name, or -1 once the end of the
+     *  struct is reached.
+     */
+    public int next(final IonReader reader)
+    {
+        while (reader.next() != null)
+        {
+            final int index = indexOf(reader);
+            if (index >= 0)
+            {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The symbol IDs of the selected names in one symbol table, in an
+     * open-addressed table sized so that {@code sid & mask} never collides.
+     * Since symbol IDs are distinct small integers, a collision-free power
+     * of two is usually found at a few times the number of IDs.
+     */
+    private static final class Resolution
+    {
+        final SymbolTable symbols;
+        private final int mask;
+        private final int[] slotIds;
+        private final int[] slotIndexes;
+
+        Resolution(final SymbolTable symbols, final String[] fieldNames,
+                   final Map<String, Integer> indexes)
+        {
+            this.symbols = symbols;
+
+            int[] ids = new int[fieldNames.length];
+            int[] idIndexes = new int[ids.length];
+            int count = 0;
+            if (!symbols.isLocalTable())
+            {
+                for (int i = 0; i < fieldNames.length; i++)
+                {
+                    final int sid = symbols.findSymbol(fieldNames[i]);
+                    if (sid > 0)
+                    {
+                        ids[count] = sid;
+                        idIndexes[count] = i;
+                        count++;
+                    }
+                }
+            }
+            else
+            {
+                // text may repeat across the system table, the imports and
+                // the locals, and the field may use any of its IDs
+                final SymbolTable[] imports = symbols.getImportedTables();
+                int offset = 0;
+                for (int t = -1; t < imports.length; t++)
+                {
+                    final SymbolTable table = t < 0 ? symbols.getSystemSymbolTable() : imports[t];
+                    final int maxId = table.getMaxId();
+                    for (int i = 0; i < fieldNames.length; i++)
+                    {
+                        final int sid = table.findSymbol(fieldNames[i]);
+                        if (sid > 0 && sid <= maxId)
+                        {
+                            if (count == ids.length)
+                            {
+                                ids = grow(ids);
+                                idIndexes = grow(idIndexes);
+                            }
+                            ids[count] = offset + sid;
+                            idIndexes[count] = i;
+                            count++;
+                        }
+                    }
+                    offset += maxId;
+                }
+
+                int sid = symbols.getImportedMaxId();
+                final Iterator<String> declared = symbols.iterateDeclaredSymbolNames();
+                while (declared.hasNext())
+                {
+                    final String text = declared.next();
+                    sid++;
+                    final Integer index = text == null ? null : indexes.get(text);
+                    if (index != null)
+                    {
+                        if (count == ids.length)
+                        {
+                            ids = grow(ids);
+                            idIndexes = grow(idIndexes);
+                        }
+                        ids[count] = sid;
+                        idIndexes[count] = index;
+                        count++;
+                    }
+                }
+            }
+
+            int size = 1;
+            while (size < count * 2)
+            {
+                size <<= 1;
+            }
+            int[] slots;
+            for (;;)
+            {
+                slots = place(ids, count, size - 1);
+                if (slots != null)
+                {
+                    break;
+                }
+                size <<= 1;
+            }
+            this.mask = size - 1;
+            this.slotIds = slots;
+            this.slotIndexes = new int[size];
+            for (int i = 0; i < count; i++)
+            {
+                slotIndexes[ids[i] & mask] = idIndexes[i];
+            }
+        }
+
+        /** @return the IDs by slot, or null if two of them collide. */
+        private static int[] place(final int[] ids, final int count, final int mask)
+        {
+            final int[] slots = new int[mask + 1];
+            for (int i = 0; i < count; i++)
+            {
+                final int slot = ids[i] & mask;
+                if (slots[slot] != 0)
+                {
+                    return null;
+                }
+                slots[slot] = ids[i];
+            }
+            return slots;
+        }
+
+        private static int[] grow(final int[] array)
+        {
+            final int[] grown = new int[array.length * 2 + 1];
+            System.arraycopy(array, 0, grown, 0, array.length);
+            return grown;
+        }
+
+        int indexOf(final int sid)
+        {
+            final int slot = sid & mask;
+            return slotIds[slot] == sid ? slotIndexes[slot] : -1;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.util;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import software.amazon.ion.IonException;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonValue;
+import software.amazon.ion.IonWriter;
+import software.amazon.ion.impl.bin.PrivateIonHashTrampoline;
+
+/**
+ * Computes digests of Ion values with a {@link MessageDigest}, streaming a
+ * canonical encoding of each value into the digest rather than serializing
+ * it first.
+ * <p>
+ * The digest depends only on the Ion data model: two values that are
+ * {@linkplain Equivalence equivalent} have the same digest regardless of
+ * their encoding, symbol tables or the order of their struct fields.
+ * Symbols with unknown text all hash alike.
+ * <p>
+ * The encoding is specific to this library. It is not the Ion Hash
+ * specification's, so the digests can only be compared with others
+ * computed here.
+ * <p>
+ * The digest is fed one top-level value at a time, so calling
+ * {@link MessageDigest#digest()} after each value yields a digest per value:
+ *<pre>
+ *    MessageDigest md = MessageDigest.getInstance("SHA-256");
+ *    IonWriter hasher = IonHashing.newHashWriter(md);
+ *    for (IonValue record : records)
+ *    {
+ *        record.writeTo(hasher);
+ *        byte[] recordDigest = md.digest();
+ *        ...
+ *    }
+ *</pre>
+ * Neither the writer nor the reader is thread-safe.
+ */
+public final class IonHashing
+{
+    private IonHashing() {}
+
+    /**
+     * Creates a writer that feeds every value written to it into
+     * {@code digest}. Nothing else is output. Closing the writer does not
+     * reset the digest.
+     * <p>
+     * The writer does not accept raw binary values through
+     * {@code PrivateByteTransferSink}, since they depend on a symbol table.
+     *
+     * @param digest must have a known
+     *  {@linkplain MessageDigest#getDigestLength() length}; struct fields are
+     *  digested with other instances of the same algorithm and provider.
+     */
+    public static IonWriter newHashWriter(MessageDigest digest)
+    {
+        return PrivateIonHashTrampoline.newHashWriter(digest);
+    }
+
+    /**
+     * Wraps a reader so that every value it reads is fed into
+     * {@code digest}. A value is fed in full once the returned reader moves
+     * past it with {@link IonReader#next()} or {@link IonReader#stepOut()},
+     * whether or not it was read, or when the reader is closed.
+     * <p>
+     * Thus after {@code next()} moves to a top-level value, the digest
+     * covers all preceding values. The underlying reader must not be used
+     * directly while the returned reader is in use.
+     */
+    public static IonReader newHashReader(IonReader reader,
+                                          MessageDigest digest)
+    {
+        return PrivateIonHashTrampoline.newHashReader(reader, digest);
+    }
+
+    /**
+     * Computes the digest of a single value, resetting {@code digest}.
+     *
+     * @return the digest of {@code value}.
+     */
+    public static byte[] digest(IonValue value, MessageDigest digest)
+    {
+        digest.reset();
+        IonWriter writer = newHashWriter(digest);
+        try
+        {
+            value.writeTo(writer);
+            writer.close();
+        }
+        catch (IOException e)
+        {
+            throw new IonException(e);
+        }
+        return digest.digest();
+    }
+}
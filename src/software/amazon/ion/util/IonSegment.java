@@ -0,0 +1,412 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.util;
+
+import static software.amazon.ion.impl.PrivateIonReaderFactory.makeReader;
+import static software.amazon.ion.impl.PrivateIonReaderFactory.makeSegmentReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import software.amazon.ion.IonCatalog;
+import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonException;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonSystem;
+import software.amazon.ion.IonWriter;
+import software.amazon.ion.OffsetSpan;
+import software.amazon.ion.SymbolTable;
+import software.amazon.ion.system.SimpleCatalog;
+
+/**
+ * A run of consecutive top-level values within binary Ion data that can be
+ * decoded independently of the rest of the data.
+ * <p>
+ * Each segment starts at a top-level value and carries the symbol table in
+ * effect there, so segments may be read concurrently, each with its own
+ * {@link IonReader}. Local symbol tables and IVMs within a segment are
+ * processed as usual by its reader.
+ * <p>
+ * Splitting is a serial pass that skips over each top-level value without
+ * decoding it; the work of materializing values is what may then be spread
+ * across threads, for example with {@link #decodeAll}:
+ *<pre>
+ *    List&lt;IonSegment&gt; segments = IonSegment.split(catalog, data, 1 &lt;&lt; 20);
+ *    List&lt;IonDatagram&gt; batches =
+ *        IonSegment.decodeAll(segments, ForkJoinPool.commonPool(),
+ *                             IonSegment.loader(system));
+ *</pre>
+ * Instances are immutable and thread-safe. The data must not be modified
+ * while any segment over it is in use.
+ */
+public final class IonSegment
+{
+    /**
+     * Decodes the values of one segment.
+     *
+     * @param <T> the result of decoding a segment.
+     *
+     * @see IonSegment#decodeAll
+     */
+    public interface Decoder<T>
+    {
+        /**
+         * Decodes the values of a segment. The reader is positioned before
+         * the first value and is closed by the caller.
+         */
+        T decode(IonReader reader)
+            throws IOException;
+    }
+
+
+    private final IonCatalog  myCatalog;
+    private final byte[]      myBytes;
+    private final int         myOffset;
+    private final int         myLength;
+    private final ByteBuffer  myBuffer;
+    private final long        myStartOffset;
+    private final long        myFinishOffset;
+    private final SymbolTable mySymbolTable;
+
+    private IonSegment(IonCatalog catalog,
+                       byte[] bytes, int offset, int length,
+                       ByteBuffer buffer,
+                       long startOffset, long finishOffset,
+                       SymbolTable symbolTable)
+    {
+        myCatalog = catalog;
+        myBytes = bytes;
+        myOffset = offset;
+        myLength = length;
+        myBuffer = buffer;
+        myStartOffset = startOffset;
+        myFinishOffset = finishOffset;
+        mySymbolTable = symbolTable;
+    }
+
+
+    /**
+     * Splits binary Ion data into segments of about {@code segmentSize}
+     * bytes each.
+     *
+     * @see #split(IonCatalog, byte[], int, int, int)
+     */
+    public static List<IonSegment> split(IonCatalog catalog,
+                                         byte[] ionData,
+                                         int segmentSize)
+    {
+        return split(catalog, ionData, 0, ionData.length, segmentSize);
+    }
+
+    /**
+     * Splits binary Ion data into segments of about {@code segmentSize}
+     * bytes each. Segment boundaries fall only between top-level values, so a
+     * segment is larger than requested when it ends with a large value.
+     *
+     * @param catalog used to resolve shared symbol table imports; may be null.
+     * @param ionData must contain binary Ion data, and must not be GZIPped.
+     * @param segmentSize the number of bytes at which a segment is ended;
+     *  must be positive.
+     *
+     * @return the segments in order of their position in the data; empty if
+     *  the data contains no user values.
+     *
+     * @throws IonException if the data is not binary Ion.
+     */
+    public static List<IonSegment> split(IonCatalog catalog,
+                                         byte[] ionData,
+                                         int offset,
+                                         int length,
+                                         int segmentSize)
+    {
+        checkSegmentSize(segmentSize);
+        if (! IonStreamUtils.isIonBinary(ionData, offset, length))
+        {
+            throw new IonException("Only binary Ion data can be split into segments");
+        }
+        if (catalog == null) catalog = new SimpleCatalog();
+
+        IonReader reader = makeReader(catalog, ionData, offset, length);
+        return split(reader, segmentSize, length,
+                     new IonSegment(catalog, ionData, offset, length, null,
+                                    0, 0, null));
+    }
+
+    /**
+     * Splits binary Ion data between the buffer's position and limit into
+     * segments of about {@code segmentSize} bytes each. The buffer may be
+     * direct or memory-mapped, in which case the data is read in place.
+     * Offsets are relative to the buffer's position, which is not changed.
+     *
+     * @see #split(IonCatalog, byte[], int, int, int)
+     */
+    public static List<IonSegment> split(IonCatalog catalog,
+                                         ByteBuffer ionData,
+                                         int segmentSize)
+    {
+        if (ionData.hasArray())
+        {
+            return split(catalog,
+                         ionData.array(),
+                         ionData.arrayOffset() + ionData.position(),
+                         ionData.remaining(),
+                         segmentSize);
+        }
+
+        checkSegmentSize(segmentSize);
+        ByteBuffer data = ionData.slice();
+        byte[] cookie = new byte[Math.min(data.remaining(), 4)];
+        data.duplicate().get(cookie);
+        if (! IonStreamUtils.isIonBinary(cookie))
+        {
+            throw new IonException("Only binary Ion data can be split into segments");
+        }
+        if (catalog == null) catalog = new SimpleCatalog();
+
+        IonReader reader = makeReader(catalog, data);
+        return split(reader, segmentSize, data.remaining(),
+                     new IonSegment(catalog, null, 0, 0, data,
+                                    0, 0, null));
+    }
+
+    /**
+     * Splits a file of binary Ion data into segments of about
+     * {@code segmentSize} bytes each. The file is memory-mapped rather than
+     * read, and so must be smaller than 2 GB; larger archives should be
+     * split file by file.
+     *
+     * @see #split(IonCatalog, byte[], int, int, int)
+     */
+    public static List<IonSegment> split(IonCatalog catalog,
+                                         File ionFile,
+                                         int segmentSize)
+        throws IOException
+    {
+        RandomAccessFile file = new RandomAccessFile(ionFile, "r");
+        try
+        {
+            FileChannel channel = file.getChannel();
+            MappedByteBuffer data =
+                channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return split(catalog, data, segmentSize);
+        }
+        finally
+        {
+            // The mapping remains valid after the file is closed.
+            file.close();
+        }
+    }
+
+
+    private static void checkSegmentSize(int segmentSize)
+    {
+        if (segmentSize < 1)
+        {
+            throw new IllegalArgumentException("segmentSize must be positive");
+        }
+    }
+
+    private static List<IonSegment> split(IonReader reader,
+                                          int segmentSize,
+                                          long dataLength,
+                                          IonSegment source)
+    {
+        try
+        {
+            List<IonSegment> segments = new ArrayList<IonSegment>();
+            long start = -1;
+            SymbolTable symbols = null;
+            while (reader.next() != null)
+            {
+                long offset =
+                    Spans.currentSpan(OffsetSpan.class, reader).getStartOffset();
+                if (start < 0)
+                {
+                    start = offset;
+                    symbols = reader.getSymbolTable();
+                }
+                else if (offset - start >= segmentSize)
+                {
+                    segments.add(source.slice(start, offset, symbols));
+                    start = offset;
+                    symbols = reader.getSymbolTable();
+                }
+            }
+            if (start >= 0)
+            {
+                segments.add(source.slice(start, dataLength, symbols));
+            }
+            return segments;
+        }
+        finally
+        {
+            try
+            {
+                reader.close();
+            }
+            catch (IOException e)
+            {
+                throw new IonException(e);
+            }
+        }
+    }
+
+    private IonSegment slice(long startOffset, long finishOffset,
+                             SymbolTable symbolTable)
+    {
+        return new IonSegment(myCatalog, myBytes, myOffset, myLength, myBuffer,
+                              startOffset, finishOffset, symbolTable);
+    }
+
+
+    /**
+     * Gets the offset of the first byte of this segment, relative to the start
+     * of the data it was split from.
+     */
+    public long getStartOffset()
+    {
+        return myStartOffset;
+    }
+
+    /**
+     * Gets the offset of the first byte after this segment, relative to the
+     * start of the data it was split from.
+     */
+    public long getFinishOffset()
+    {
+        return myFinishOffset;
+    }
+
+    /**
+     * Gets the symbol table in effect at the start of this segment.
+     *
+     * @return not null.
+     */
+    public SymbolTable getSymbolTable()
+    {
+        return mySymbolTable;
+    }
+
+    /**
+     * Creates a reader over the values of this segment. Its
+     * {@link OffsetSpan}s are relative to the start of the data the segment
+     * was split from. Each reader may be used by a different thread.
+     */
+    public IonReader newReader()
+    {
+        if (myBuffer != null)
+        {
+            return makeSegmentReader(myCatalog, myBuffer,
+                                     myStartOffset, myFinishOffset,
+                                     mySymbolTable);
+        }
+        return makeSegmentReader(myCatalog, myBytes, myOffset, myLength,
+                                 myStartOffset, myFinishOffset,
+                                 mySymbolTable);
+    }
+
+
+    /**
+     * Returns a decoder that loads the values of a segment into a new
+     * datagram of the given system.
+     */
+    public static Decoder<IonDatagram> loader(final IonSystem system)
+    {
+        return new Decoder<IonDatagram>()
+        {
+            public IonDatagram decode(IonReader reader)
+                throws IOException
+            {
+                IonDatagram datagram = system.newDatagram();
+                IonWriter writer = system.newWriter(datagram);
+                writer.writeValues(reader);
+                writer.close();
+                return datagram;
+            }
+        };
+    }
+
+    /**
+     * Decodes segments in parallel, each with its own reader.
+     *
+     * @param segments the segments to decode.
+     * @param pool runs one task per segment.
+     * @param decoder is called concurrently, and so must be thread-safe.
+     *
+     * @return the results of decoding, in the same order as the segments.
+     *
+     * @throws IonException if the decoder throws an {@link IOException}.
+     */
+    public static <T> List<T> decodeAll(List<IonSegment> segments,
+                                        ForkJoinPool pool,
+                                        final Decoder<T> decoder)
+    {
+        List<ForkJoinTask<T>> tasks =
+            new ArrayList<ForkJoinTask<T>>(segments.size());
+        for (final IonSegment segment : segments)
+        {
+            tasks.add(pool.submit(new Callable<T>()
+            {
+                public T call()
+                {
+                    return segment.decode(decoder);
+                }
+            }));
+        }
+
+        List<T> results = new ArrayList<T>(tasks.size());
+        for (ForkJoinTask<T> task : tasks)
+        {
+            results.add(task.join());
+        }
+        return Collections.unmodifiableList(results);
+    }
+
+    private <T> T decode(Decoder<T> decoder)
+    {
+        IonReader reader = newReader();
+        try
+        {
+            try
+            {
+                return decoder.decode(reader);
+            }
+            finally
+            {
+                reader.close();
+            }
+        }
+        catch (IOException e)
+        {
+            throw new IonException(e);
+        }
+    }
+
+
+    @Override
+    public String toString()
+    {
+        return "IonSegment[" + myStartOffset + ", " + myFinishOffset + ")";
+    }
+}
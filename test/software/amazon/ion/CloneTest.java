@@ -20,6 +20,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import software.amazon.ion.IonInt;
+import software.amazon.ion.IonList;
 import software.amazon.ion.IonStruct;
 import software.amazon.ion.IonSymbol;
 import software.amazon.ion.IonSystem;
@@ -130,6 +131,21 @@ public class CloneTest
         original.clone();
     }
 
+    @Test
+    public void testReadOnlyCloneWithUnknownFieldNameText()
+    {
+        SymbolToken tok = newSymbolToken(99);
+        IonStruct inner = system().newEmptyStruct();
+        inner.add(tok, system().newNull());
+        IonList original = system().newEmptyList();
+        original.add(inner);
+        original.makeReadOnly();
+
+        thrown.expect(UnknownSymbolException.class);
+        thrown.expectMessage("$99");
+        original.clone();
+    }
+
     @Test
     public void testValueFactoryCloneWithUnknownFieldNameText()
     {
@@ -166,4 +182,39 @@ public class CloneTest
         // If we don't fail we should at least retain the SID.
         assertEquals(99, copy.iterator().next().getFieldNameSymbol().getSid());
     }
+
+    @Test
+    public void testCloneOfReadOnlyValue()
+    {
+        String text = "a::{b:{c:[1, {d:e}, (f g)], h:i}, j:[k, l], "
+                    + "m:1, n:2, o:3, p:4, m:5, q:{}}";
+        IonStruct original = (IonStruct) oneValue(text);
+        original.makeReadOnly();
+
+        IonStruct copy = original.clone();
+        assertFalse(copy.isReadOnly());
+        assertEquals(original, copy);
+
+        copy = original.clone();
+        IonStruct b = (IonStruct) copy.get("b");
+        IonList c = (IonList) b.get("c");
+        ((IonStruct) c.get(1)).put("d", system().newString("x"));
+        c.set(0, system().newInt(2));
+        copy.put("q", system().newBool(true));
+        copy.remove("n");
+        assertNull(copy.get("n"));
+
+        IonValue expected = oneValue("a::{b:{c:[2, {d:\"x\"}, (f g)], h:i}, "
+                                     + "j:[k, l], m:1, o:3, p:4, m:5, q:true}");
+        assertEquals(expected, copy);
+        assertEquals(oneValue(text), original);
+        assertSame(c, b.get("c"));
+        assertSame(copy, b.getContainer());
+
+        // copies of unaccessed copies still see the original's children
+        IonStruct copyOfCopy = original.clone().clone();
+        assertEquals(original, copyOfCopy);
+        copyOfCopy.makeReadOnly();
+        assertEquals(original, copyOfCopy.clone());
+    }
 }
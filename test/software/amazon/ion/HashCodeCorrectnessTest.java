@@ -627,4 +627,32 @@ public class HashCodeCorrectnessTest
         testTypeAnnotationHashCode("(a b c)",           IonType.SEXP);
     }
 
+    @Test
+    public void testReadOnlyContainerHashCode()
+    {
+        String[] texts = {
+            "{a:1, b:[c, {d:(e f)}], g:h::{}}",
+            "[1, [2, [3, {a:[4]}]], b::()]",
+            "a::(b {c:d} [e])",
+            "{a:null.struct, b:null.list, c:null.sexp}",
+        };
+        for (String text : texts)
+        {
+            IonValue mutable = oneValue(text);
+            IonValue readOnly = oneValue(text);
+            int expected = mutable.hashCode();
+
+            readOnly.makeReadOnly();
+            assertEquals(expected, readOnly.hashCode());
+            assertEquals(expected, readOnly.hashCode());
+            assertEquals(mutable, readOnly);
+
+            // clones are mutable, and so recompute their hash codes
+            IonContainer copy = (IonContainer) readOnly.clone();
+            assertEquals(expected, copy.hashCode());
+            copy.clear();
+            assertFalse(expected == copy.hashCode());
+        }
+    }
+
 }
@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
@@ -29,6 +30,7 @@ import software.amazon.ion.IonDatagram;
 import software.amazon.ion.IonReader;
 import software.amazon.ion.IonSystem;
 import software.amazon.ion.impl.PrivateUtils;
+import software.amazon.ion.system.IonReaderBuilder;
 
 /**
  * Abstracts the various ways that {@link IonReader}s can be created, so test
@@ -115,6 +117,36 @@ public enum ReaderMaker
     },
 
 
+    /**
+     * Invokes {@link IonReaderBuilder#build(ByteBuffer)} with Ion binary in a
+     * direct buffer, positioned past some leading garbage.
+     */
+    FROM_BYTE_BUFFER_BINARY(Feature.BINARY)
+    {
+        @Override
+        public IonReader newReader(IonSystem system, byte[] ionData)
+        {
+            ionData = ensureBinary(system, ionData);
+            return newByteBufferReader(system, ionData);
+        }
+    },
+
+
+    /**
+     * Invokes {@link IonReaderBuilder#build(ByteBuffer)} with Ion text in a
+     * direct buffer, positioned past some leading garbage.
+     */
+    FROM_BYTE_BUFFER_TEXT(Feature.TEXT)
+    {
+        @Override
+        public IonReader newReader(IonSystem system, byte[] ionData)
+        {
+            ionData = ensureText(system, ionData);
+            return newByteBufferReader(system, ionData);
+        }
+    },
+
+
     /**
      * Invokes {@link IonSystem#newReader(InputStream)} with Ion binary.
      */
@@ -252,6 +284,20 @@ public enum ReaderMaker
     }
 
 
+    private static IonReader newByteBufferReader(IonSystem system,
+                                                 byte[] ionData)
+    {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(ionData.length + 70);
+        buffer.position(37);
+        buffer.put(ionData);
+        buffer.position(37);
+        buffer.limit(37 + ionData.length);
+        return IonReaderBuilder.standard()
+                               .withCatalog(system.getCatalog())
+                               .build(buffer);
+    }
+
+
     public static ReaderMaker[] valuesExcluding(ReaderMaker... exclusions)
     {
         ReaderMaker[] all = values();
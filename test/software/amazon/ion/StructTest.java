@@ -1935,4 +1935,71 @@ public class StructTest
         child.getContainer().remove(child);
     }
 
+    @Test
+    public void testWideStructFieldIndex()
+    {
+        IonSystem sys = system();
+        IonStruct s = sys.newEmptyStruct();
+        for (int i = 0; i < 300; i++) {
+            s.add("f" + i, sys.newInt(i));
+        }
+        for (int i = 0; i < 300; i += 10) {
+            s.add("f" + i, sys.newInt(-i));
+        }
+        assertNull(((PrivateIonValue) s).validate());
+
+        assertEquals(sys.newInt(-50), s.get("f50"));
+        assertEquals(sys.newInt(51), s.get("f51"));
+
+        s.put("f60", sys.newInt(60));
+        assertEquals(sys.newInt(60), s.get("f60"));
+        s.remove("f51");
+        assertNull(s.get("f51"));
+        s.removeAll("f52", "f70");
+        assertNull(s.get("f52"));
+        assertNull(s.get("f70"));
+        assertEquals(325, s.size());
+        assertNull(((PrivateIonValue) s).validate());
+
+        IonStruct copy = s.clone();
+        assertEquals(s, copy);
+        assertEquals(sys.newInt(-40), copy.get("f40"));
+        assertNull(((PrivateIonValue) copy).validate());
+
+        for (int i = 0; i < 300; i++) {
+            s.remove("f" + i);
+        }
+        assertEquals(28, s.size());
+        assertNull(((PrivateIonValue) s).validate());
+        for (int i = 0; i < 300; i += 10) {
+            s.removeAll("f" + i);
+        }
+        assertTrue(s.isEmpty());
+        assertNull(((PrivateIonValue) s).validate());
+    }
+
+    @Test
+    public void testWideStructFieldIndexUnknownName()
+    {
+        IonSystem sys = system();
+        IonStruct s = sys.newEmptyStruct();
+        for (int i = 0; i < 20; i++) {
+            s.add("f" + i, sys.newInt(i));
+        }
+        s.add(new FakeSymbolToken(null, 15), sys.newInt(1000));
+        s.add("f5", sys.newInt(-5));
+        assertNull(((PrivateIonValue) s).validate());
+        assertEquals(sys.newInt(-5), s.get("f5"));
+
+        Iterator<IonValue> it = s.iterator();
+        while (it.hasNext()) {
+            if (it.next().getFieldNameSymbol().getText() == null) {
+                it.remove();
+            }
+        }
+        assertEquals(21, s.size());
+        assertEquals(sys.newInt(19), s.get("f19"));
+        assertNull(((PrivateIonValue) s).validate());
+    }
+
 }
@@ -298,4 +298,46 @@ public class LocalSymbolTableTest
         SymbolTable st = makeLocalSymtab(system(), LOCAL_SYMBOLS_ABC);
         assertEquals(0, st.getVersion());
     }
+
+    @Test
+    public void testConcurrentIntern() throws Exception
+    {
+        final SymbolTable st = makeLocalSymtab(system(), LOCAL_SYMBOLS_ABC);
+        final int symbolCount = 2000;
+        final SymbolToken[][] results = new SymbolToken[4][symbolCount];
+
+        Thread[] threads = new Thread[results.length];
+        for (int t = 0; t < threads.length; t++)
+        {
+            final SymbolToken[] tokens = results[t];
+            threads[t] = new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    for (int i = 0; i < symbolCount; i++)
+                    {
+                        tokens[i] = st.intern("s" + i);
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (Thread thread : threads)
+        {
+            thread.join();
+        }
+
+        assertEquals(st.getImportedMaxId() + 3 + symbolCount, st.getMaxId());
+        for (int i = 0; i < symbolCount; i++)
+        {
+            int sid = results[0][i].getSid();
+            for (SymbolToken[] tokens : results)
+            {
+                assertEquals(sid, tokens[i].getSid());
+            }
+            assertEquals("s" + i, st.findKnownSymbol(sid));
+            assertEquals(sid, st.findSymbol("s" + i));
+        }
+    }
 }
@@ -14,17 +14,23 @@
 
 package software.amazon.ion.impl;
 
+import static software.amazon.ion.SystemSymbols.ION_SYMBOL_TABLE;
 import static software.amazon.ion.impl.PrivateUtils.isNonSymbolScalar;
 import static software.amazon.ion.impl.PrivateUtils.symtabExtends;
+import static software.amazon.ion.impl.Symtabs.makeLocalSymtab;
 import static software.amazon.ion.impl.Symtabs.printLocalSymtab;
 import static software.amazon.ion.junit.IonAssert.assertIonEquals;
 import static software.amazon.ion.junit.IonAssert.assertIonIteratorEquals;
 
+import java.io.ByteArrayOutputStream;
 import org.junit.Test;
 import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonReader;
 import software.amazon.ion.IonType;
+import software.amazon.ion.IonWriter;
 import software.amazon.ion.SymbolTable;
 import software.amazon.ion.impl.PrivateUtils;
+import software.amazon.ion.system.IonBinaryWriterBuilder;
 
 /**
  * {@link OptimizedBinaryWriterTestCase} tests related to
@@ -318,4 +324,80 @@ public class OptimizedBinaryWriterSymbolTableTest
         assertIonEquals(expected, actual);
     }
 
+    /**
+     * Reader's LSTs differ from the writer's, and from each other; the
+     * symbol IDs within copied values must be rewritten for the writer.
+     */
+    @Test
+    public void testOptimizedWriteValueRemapsSymbols()
+        throws Exception
+    {
+        String text =
+            "a::{b:c, d:[e, a::f, 1.5, \"g\"], h:(b c null.symbol), i:{}} " +
+            "c::d::2017-03-01T e::[{a:b}, $ion_1_0, 12e0] ";
+        String readerLST1 = printLocalSymtab("x", "a", "b", "c", "d", "e",
+                                             "f", "g", "h", "i");
+        String readerLST2 = printLocalSymtab("i", "h", "g", "f", "e", "d",
+                                             "c", "b", "a");
+        byte[] source = encode(readerLST1 + text + readerLST2 + text);
+        ir = makeReaderProxy(source);
+        iw = makeWriterWithLocalSymtab("z", "e", "a");
+
+        while (ir.next() != null)
+        {
+            iw.writeValue(ir);
+        }
+
+        IonDatagram expected = loader().load(text + text);
+        IonDatagram actual   = loader().load(outputByteArray());
+        assertIonEquals(expected, actual);
+    }
+
+    /**
+     * Copies {@code source} with a writer over the given local symbols.
+     */
+    private byte[] copyWithLocalSymtab(byte[] source, boolean optimized,
+                                       String... localSymbols)
+        throws Exception
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = IonBinaryWriterBuilder.standard()
+            .withInitialSymbolTable(makeLocalSymtab(system(), localSymbols))
+            .withStreamCopyOptimized(optimized)
+            .build(out);
+        IonReader reader = system().newReader(source);
+        while (reader.next() != null)
+        {
+            writer.writeValue(reader);
+        }
+        writer.close();
+        return out.toByteArray();
+    }
+
+    /**
+     * Symbols without text, which are $0 and symbols of imports that can't be
+     * found, can't be remapped by text and must be copied as they would be
+     * without the optimization.
+     */
+    @Test
+    public void testOptimizedWriteValueCopiesSymbolsWithoutText()
+        throws Exception
+    {
+        String text = "aa [$0] aa {$0:1} aa {x:$0::y} aa $0 $0::1 {a:[$0, $0::{$0:$0}]}";
+        String readerLST = printLocalSymtab("x", "y", "aa", "a");
+        byte[] source = encode(readerLST + text);
+
+        byte[] actual = copyWithLocalSymtab(source, isStreamCopyOptimized(), "z", "aa");
+        assertArrayEquals(copyWithLocalSymtab(source, false, "z", "aa"), actual);
+        assertIonEquals(loader().load(text), loader().load(actual));
+
+        String unknown = ION_SYMBOL_TABLE + "::{imports:[{name:\"missing\", version:1, max_id:2}],"
+            + " symbols:[\"x\"]}";
+        text = "{$10:$11::$10} $11::[$10, x] $10 x::{x:$11}";
+        source = encode(unknown + text);
+
+        actual = copyWithLocalSymtab(source, isStreamCopyOptimized(), "z", "e", "a", "b");
+        assertArrayEquals(copyWithLocalSymtab(source, false, "z", "e", "a", "b"), actual);
+    }
+
 }
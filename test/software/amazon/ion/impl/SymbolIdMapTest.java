@@ -0,0 +1,139 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static software.amazon.ion.SymbolTable.UNKNOWN_SYMBOL_ID;
+
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+
+public class SymbolIdMapTest
+{
+    @Test
+    public void testPutAndGet()
+    {
+        SymbolIdMap map = new SymbolIdMap();
+        assertEquals(UNKNOWN_SYMBOL_ID, map.get("a"));
+        assertTrue(map.putIfAbsent("a", 10));
+        assertTrue(map.putIfAbsent("b", 11));
+        assertEquals(10, map.get(new String("a")));
+        assertEquals(11, map.get("b"));
+        assertEquals(UNKNOWN_SYMBOL_ID, map.get("c"));
+    }
+
+    @Test
+    public void testDuplicateKeepsLowerSid()
+    {
+        SymbolIdMap map = new SymbolIdMap();
+        assertTrue(map.putIfAbsent("a", 10));
+        assertFalse(map.putIfAbsent("a", 12));
+        assertEquals(10, map.get("a"));
+    }
+
+    @Test
+    public void testGrowth()
+    {
+        SymbolIdMap map = new SymbolIdMap();
+        for (int i = 1; i <= 10000; i++)
+        {
+            assertTrue(map.putIfAbsent("s" + i, i));
+        }
+        for (int i = 1; i <= 10000; i++)
+        {
+            assertEquals(i, map.get("s" + i));
+        }
+        assertEquals(UNKNOWN_SYMBOL_ID, map.get("s0"));
+    }
+
+    @Test
+    public void testCopyIsIndependent()
+    {
+        SymbolIdMap map = new SymbolIdMap();
+        map.putIfAbsent("a", 1);
+        SymbolIdMap copy = new SymbolIdMap(map);
+        copy.putIfAbsent("b", 2);
+        map.putIfAbsent("c", 3);
+
+        assertEquals(1, copy.get("a"));
+        assertEquals(2, copy.get("b"));
+        assertEquals(UNKNOWN_SYMBOL_ID, copy.get("c"));
+        assertEquals(UNKNOWN_SYMBOL_ID, map.get("b"));
+        assertEquals(3, map.get("c"));
+    }
+
+    /**
+     * Readers racing with the writer must only ever see absent or correct
+     * entries.
+     */
+    @Test
+    public void testConcurrentReaders() throws Exception
+    {
+        final int count = 50000;
+        final String[] keys = new String[count];
+        for (int i = 0; i < count; i++)
+        {
+            keys[i] = "sym" + i;
+        }
+
+        final SymbolIdMap map = new SymbolIdMap();
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        final Thread[] readers = new Thread[3];
+        for (int r = 0; r < readers.length; r++)
+        {
+            readers[r] = new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        int seen = 0;
+                        while (seen < count)
+                        {
+                            for (int i = seen; i < count; i++)
+                            {
+                                int sid = map.get(keys[i]);
+                                if (sid == UNKNOWN_SYMBOL_ID) break;
+                                assertEquals(i + 1, sid);
+                                seen = i + 1;
+                            }
+                        }
+                    }
+                    catch (Throwable e)
+                    {
+                        failure.set(e);
+                    }
+                }
+            };
+            readers[r].start();
+        }
+
+        for (int i = 0; i < count; i++)
+        {
+            map.putIfAbsent(keys[i], i + 1);
+        }
+        for (Thread reader : readers)
+        {
+            reader.join();
+        }
+        if (failure.get() != null)
+        {
+            throw new AssertionError(failure.get());
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import org.junit.Test;
+
+public class TextNumberFormatterTest
+{
+    private final char[] buf = new char[TextNumberFormatter.MAX_CHARS];
+
+    private String format(double value)
+    {
+        return new String(buf, 0, TextNumberFormatter.formatDouble(value, buf));
+    }
+
+    private static int significantDigits(String image)
+    {
+        int end = image.indexOf('E');
+        if (end < 0) end = image.indexOf('e');
+        if (end < 0) end = image.length();
+        String digits = image.substring(0, end).replace("-", "").replace(".", "");
+        digits = digits.replaceFirst("^0+", "").replaceFirst("0+$", "");
+        return Math.max(digits.length(), 1);
+    }
+
+    private void checkRoundTrip(double value)
+    {
+        String image = format(value);
+        assertEquals(image,
+                     Double.doubleToRawLongBits(value),
+                     Double.doubleToRawLongBits(Double.parseDouble(image)));
+        assertTrue(image + " vs " + Double.toString(value),
+                   significantDigits(image)
+                       <= significantDigits(Double.toString(value)));
+    }
+
+    @Test
+    public void testLayout()
+    {
+        assertEquals("1e0", format(1));
+        assertEquals("-1e0", format(-1));
+        assertEquals("123e0", format(123));
+        assertEquals("1.5e0", format(1.5));
+        assertEquals("1000000e0", format(1e6));
+        assertEquals("1.0E7", format(1e7));
+        assertEquals("1.2345678E7", format(12345678));
+        assertEquals("0.001e0", format(0.001));
+        assertEquals("0.0123e0", format(0.0123));
+        assertEquals("1.0E-4", format(1e-4));
+        assertEquals("-2.5E-10", format(-2.5e-10));
+        assertEquals("0.1e0", format(0.1));
+        assertEquals("0.30000000000000004e0", format(0.1 + 0.2));
+        assertEquals("1.0E23", format(1e23));
+        assertEquals("1.7976931348623157E308", format(Double.MAX_VALUE));
+        assertEquals("2.2250738585072014E-308", format(Double.MIN_NORMAL));
+        assertEquals("4.9E-324", format(Double.MIN_VALUE));
+        assertEquals("9.007199254740992E15", format(9007199254740992d));
+    }
+
+    @Test
+    public void testShortestRoundTrip()
+    {
+        // Older JDKs print too many digits for this one.
+        assertEquals("2.82879384806159E17", format(2.82879384806159E17));
+
+        Random random = new Random(42);
+        for (int i = 0; i < 100000; i++)
+        {
+            double value = Double.longBitsToDouble(random.nextLong());
+            if (value == 0 || Double.isNaN(value) || Double.isInfinite(value))
+            {
+                continue;
+            }
+            checkRoundTrip(value);
+        }
+        for (int i = 0; i < 10000; i++)
+        {
+            checkRoundTrip(random.nextInt(100000) / 1000d);
+            checkRoundTrip(Double.longBitsToDouble(random.nextInt(1 << 20) + 1));
+        }
+    }
+
+    @Test
+    public void testFormatLong()
+    {
+        long[] values = { 0, 7, 10, 99, 1234567890123L, Long.MAX_VALUE };
+        for (long value : values)
+        {
+            int len = TextNumberFormatter.formatLong(value, buf, 3);
+            assertEquals(Long.toString(value), new String(buf, 3, len));
+        }
+    }
+}
@@ -27,9 +27,13 @@ import software.amazon.ion.IonDatagram;
 import software.amazon.ion.IonReader;
 import software.amazon.ion.IonSequence;
 import software.amazon.ion.IonStruct;
+import software.amazon.ion.IonType;
+import software.amazon.ion.IonValue;
 import software.amazon.ion.IonWriter;
+import software.amazon.ion.ResettableWriter;
 import software.amazon.ion.SymbolTable;
 import software.amazon.ion.SystemSymbols;
+import software.amazon.ion.facet.Facets;
 import software.amazon.ion.impl.PrivateUtils;
 import software.amazon.ion.system.IonTextWriterBuilder;
 import software.amazon.ion.system.IonTextWriterBuilder.LstMinimizing;
@@ -452,6 +456,126 @@ public class TextWriterTest
         super.testWritingLob();
     }
 
+    private static final String TRANSCODED_VALUES =
+        "null null.int true 0 -1 9223372036854775807 -9223372036854775808 " +
+        "123456789012345678901234567890 " +
+        "0e0 -1.5e-7 0. -0. -0.00 1.23 1d5 -1d-20 12345678901234567890123.4 " +
+        "2007T 2007-02T 2007-02-23 2007-02-23T12:14Z " +
+        "2007-02-23T12:14:33.079-08:00 2007-12-31T23:59:59.5+00:30 " +
+        "2008-03-01T00:00:00.000+23:59 2000-01-01T00:00:00-23:59 " +
+        "2007-02-23T20:14:33.000-00:00 2007-02-23T20:14:33.00001Z " +
+        "2007-02-23T20:14:33.123456789012345678901Z " +
+        "\"\" \"a \\\"quoted\\\" \\u00e9 \\U0001f4a9 string\" " +
+        "sym 'quoted sym' ann::{a:1, 'b c':[x, (+ y 2)], d:\"s\"} " +
+        "{{aGVsbG8=}} {{\"clob\\n\"}}";
+
+    private void checkTranscoding(IonTextWriterBuilder builder)
+        throws Exception
+    {
+        byte[] binary = system().getLoader().load(TRANSCODED_VALUES).getBytes();
+        builder = builder.withInitialIvmHandling(SUPPRESS)
+                         .withLstMinimizing(LstMinimizing.EVERYTHING);
+
+        StringBuilder expected = new StringBuilder();
+        IonWriter writer = builder.build(expected);
+        writer.writeValues(system().newReader(TRANSCODED_VALUES));
+        writer.close();
+
+        StringBuilder actual = new StringBuilder();
+        writer = builder.build(actual);
+        writer.writeValues(system().newReader(binary));
+        writer.close();
+
+        assertEquals(expected.toString(), actual.toString());
+    }
+
+    @Test
+    public void testTranscodingFromBinary()
+        throws Exception
+    {
+        checkTranscoding(IonTextWriterBuilder.standard());
+        checkTranscoding(IonTextWriterBuilder.minimal());
+        checkTranscoding(IonTextWriterBuilder.pretty());
+        checkTranscoding(IonTextWriterBuilder.json());
+        checkTranscoding(IonTextWriterBuilder.standard()
+                                             .withLongStringThreshold(5));
+    }
+
+    /**
+     * Copying a scalar must leave it readable, as other writers do.
+     */
+    @Test
+    public void testTranscodingLeavesReaderValue()
+        throws Exception
+    {
+        IonDatagram values = system().getLoader().load(TRANSCODED_VALUES);
+        IonReader reader = system().newReader(values.getBytes());
+        IonWriter writer = IonTextWriterBuilder.standard()
+                                               .build(new StringBuilder());
+        for (IonValue expected : values)
+        {
+            assertNotNull(reader.next());
+            writer.writeValue(reader);
+            if (!IonType.isContainer(expected.getType()))
+            {
+                assertEquals(expected, system().newValue(reader));
+            }
+        }
+        writer.close();
+    }
+
+    private static void writeMessage(IonWriter writer)
+        throws Exception
+    {
+        writer.stepIn(IonType.STRUCT);
+        writer.setFieldName("fred_1");
+        writer.writeString("a long string");
+        writer.setFieldName("b");
+        writer.writeSymbol("ginger");
+        writer.stepOut();
+        writer.writeString("another long string");
+    }
+
+    @Test
+    public void testReset()
+        throws Exception
+    {
+        SymbolTable fred1 = Symtabs.register("fred",   1, catalog());
+        IonTextWriterBuilder builder = IonTextWriterBuilder.pretty()
+            .withCatalog(catalog())
+            .withImports(fred1)
+            .withInitialIvmHandling(ENSURE)
+            .withLongStringThreshold(5);
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        IonWriter fresh = builder.build(expected);
+        writeMessage(fresh);
+        fresh.close();
+
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        IonWriter writer = builder.build(first);
+        ResettableWriter resettable =
+            Facets.asFacet(ResettableWriter.class, writer);
+        writeMessage(writer);
+
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        resettable.reset(second);
+        writeMessage(writer);
+        writer.close();
+
+        assertEquals(expected.toString("UTF-8"), first.toString("UTF-8"));
+        assertEquals(expected.toString("UTF-8"), second.toString("UTF-8"));
+    }
+
+    @Test
+    public void testResetNotSupportedOverAppendable()
+        throws Exception
+    {
+        IonWriter writer =
+            IonTextWriterBuilder.standard().build(new StringBuilder());
+        assertNull(Facets.asFacet(ResettableWriter.class, writer));
+    }
+
     @Test @Override
     public void testFinishDoesReset()
         throws Exception
@@ -50,4 +50,81 @@ public class UnifiedInputStreamXTest extends Assert {
 
         assertArrayEquals(expected, actual);
     }
+
+    @Test
+    public void testSkipPlainBytes() throws Exception {
+        boolean[] stops = new boolean[128];
+        stops['"'] = true;
+
+        byte[] bytes = "ab\u00e9\u4e2d\"c".getBytes("UTF-8");
+        UnifiedInputStreamX uix = UnifiedInputStreamX.makeStream(bytes);
+        assertEquals('a', uix.read());
+        uix.skip_plain_bytes(stops);
+        assertEquals('"', uix.read());
+        uix.skip_plain_bytes(stops);
+        assertEquals(UnifiedInputStreamX.EOF, uix.read());
+
+        UnifiedInputStreamX chars = UnifiedInputStreamX.makeStream("ab\"");
+        assertEquals('a', chars.read());
+        chars.skip_plain_bytes(stops);
+        assertEquals('b', chars.read());
+    }
+
+    private static void checkSkipContainerBody(UnifiedInputStreamX uix) throws Exception {
+        boolean[] stops = new boolean[128];
+        for (char c : "\"'()[]{}/\r\n".toCharArray()) {
+            stops[c] = true;
+        }
+        char[] closers = new char[2];
+
+        // skipped whole, stopping after the outer closer
+        assertEquals('[', uix.read());
+        closers[0] = ']';
+        assertEquals(0, uix.skip_container_body(stops, closers, 1));
+        assertEquals(' ', uix.read());
+
+        // stops in front of an opener that would overflow the closers
+        assertEquals('(', uix.read());
+        closers[0] = ')';
+        assertEquals(2, uix.skip_container_body(stops, closers, 1));
+        assertEquals('(', uix.read());
+        assertEquals(0, uix.skip_container_body(stops, closers, 1));
+        assertEquals(')', uix.read());
+        assertEquals(')', uix.read());
+        assertEquals(' ', uix.read());
+
+        // stops in front of comments, long strings and lobs
+        assertEquals('(', uix.read());
+        assertEquals(1, uix.skip_container_body(stops, closers, 1));
+        assertEquals('/', uix.read());
+        assertEquals('*', uix.read());
+        assertEquals(1, uix.skip_container_body(stops, closers, 1));
+        assertEquals('/', uix.read());
+        assertEquals(0, uix.skip_container_body(stops, closers, 1));
+        assertEquals(1, uix.skip_container_body(stops, closers, 1));
+        assertEquals('\'', uix.read());
+        assertEquals('\'', uix.read());
+        assertEquals('\'', uix.read());
+        assertEquals(1, uix.skip_container_body(stops, closers, 1));
+        assertEquals('\'', uix.read());
+        assertEquals('\'', uix.read());
+        assertEquals('\'', uix.read());
+        assertEquals(1, uix.skip_container_body(stops, closers, 1));
+        assertEquals('{', uix.read());
+        assertEquals('{', uix.read());
+
+        // stops in front of a string that runs past the end of the page
+        assertEquals(1, uix.skip_container_body(stops, closers, 1));
+        assertEquals('"', uix.read());
+    }
+
+    private static final String CONTAINERS =
+        "[a, \"]\\\"\u00e9\", '\u4e2d)', {b:c}, ']'] (((z))) "
+        + "(x [y] /*z*/ ) ''' ''' {{ }} \"abc";
+
+    @Test
+    public void testSkipContainerBody() throws Exception {
+        checkSkipContainerBody(UnifiedInputStreamX.makeStream(CONTAINERS.getBytes("UTF-8")));
+        checkSkipContainerBody(UnifiedInputStreamX.makeStream(CONTAINERS));
+    }
 }
@@ -22,6 +22,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +33,7 @@ import software.amazon.ion.IonSymbol;
 import software.amazon.ion.IonType;
 import software.amazon.ion.IonValue;
 import software.amazon.ion.IonWriter;
+import software.amazon.ion.ResettableWriter;
 import software.amazon.ion.SymbolTable;
 import software.amazon.ion.SymbolToken;
 import software.amazon.ion.SystemSymbols;
@@ -226,4 +228,56 @@ public class IonManagedBinaryWriterTest extends IonRawBinaryWriterTest
         bos.toByteArray();
 
     }
+
+    private static void writeMessage(final IonWriter writer, final String local) throws IOException
+    {
+        writer.stepIn(IonType.STRUCT);
+        {
+            writer.setFieldName("a");
+            writer.writeSymbol(local);
+
+            writer.setFieldName(local);
+            writer.addTypeAnnotation("d");
+            writer.writeInt(4);
+        }
+        writer.stepOut();
+    }
+
+    @Test
+    public void testResetMatchesNewWriter() throws Exception
+    {
+        final ResettableWriter resettable = (ResettableWriter) writer;
+
+        writeMessage(writer, "first");
+
+        final ByteArrayOutputStream second = new ByteArrayOutputStream();
+        resettable.reset(second);
+        assertEquals(system().singleValue("{a:first, first:d::4}"),
+                     system().singleValue(buffer.toByteArray()));
+        final int firstLength = buffer.size();
+
+        writeMessage(writer, "second");
+
+        final ByteArrayOutputStream third = new ByteArrayOutputStream();
+        resettable.reset(third);
+        assertEquals(firstLength, buffer.size());
+
+        writeMessage(writer, "second");
+        writer.finish();
+
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        final IonWriter fresh = createWriter(expected);
+        writeMessage(fresh, "second");
+        fresh.close();
+
+        assertTrue(Arrays.equals(expected.toByteArray(), second.toByteArray()));
+        assertTrue(Arrays.equals(expected.toByteArray(), third.toByteArray()));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testResetInContainer() throws Exception
+    {
+        writer.stepIn(IonType.LIST);
+        ((ResettableWriter) writer).reset(new ByteArrayOutputStream());
+    }
 }
@@ -44,6 +44,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import software.amazon.ion.IonException;
+import software.amazon.ion.IonReader;
 import software.amazon.ion.IonSystem;
 import software.amazon.ion.IonType;
 import software.amazon.ion.IonValue;
@@ -478,5 +479,77 @@ public class IonRawBinaryWriterTest extends Assert
         assertValue("{name:\"kumo\", version:1, imports:[0, 1, 2]}");
     }
 
+    private static final String[] TRANSCODED_SCALARS = {
+        "0d0",
+        "0.000",
+        "-0d0",
+        "-0.00",
+        "1.5",
+        "-1.5",
+        "12345678901234.5678",
+        "-999999999999999999d-7",
+        "9223372036854775807d3",
+        "-9223372036854775808d0",
+        DECIMAL_45_DIGIT,
+        "1d2147483647",
+        "\"\"",
+        "\"hello\"",
+        "\"caf\\u00e9 \\U0001F600\"",
+        "'''" + STR_127 + "''' ''' '''",
+    };
+
+    @Test
+    public void testWriteValueFromReaders() throws Exception
+    {
+        for (final String literal : TRANSCODED_SCALARS)
+        {
+            final IonReader textReader = system().newReader(literal);
+            assertNotNull(literal, textReader.next());
+            writer.writeValue(textReader);
+            assertValue(literal);
+
+            final byte[] binary = system().newLoader().load(literal).getBytes();
+            final IonReader binaryReader = system().newReader(binary);
+            assertNotNull(binaryReader.next());
+            writer.writeValue(binaryReader);
+            assertValue(literal);
+        }
+    }
+
+    private static final String[] REREAD_SCALARS = {
+        "null.string",
+        "true",
+        "-12",
+        "123456789012345678901234567890",
+        "1.5e0",
+        "-1.5",
+        DECIMAL_45_DIGIT,
+        "2007-02-23T12:14:33.079-08:00",
+        "\"caf\\u00e9\"",
+        "{{aGVsbG8=}}",
+        "{{\"clob\"}}",
+    };
+
+    /** Copying a scalar must leave it readable. */
+    @Test
+    public void testWriteValueLeavesReaderValue() throws Exception
+    {
+        for (final String literal : REREAD_SCALARS)
+        {
+            final IonValue expected = system().singleValue(literal);
+            final IonReader binaryReader = system().newReader(system().newLoader().load(literal).getBytes());
+            assertNotNull(literal, binaryReader.next());
+            writer.writeValue(binaryReader);
+            assertEquals(literal, expected, system().newValue(binaryReader));
+            assertValue(literal);
+
+            final IonReader textReader = system().newReader(literal);
+            assertNotNull(literal, textReader.next());
+            writer.writeValue(textReader);
+            assertEquals(literal, expected, system().newValue(textReader));
+            assertValue(literal);
+        }
+    }
+
     // TODO test large stuff...
 }
@@ -17,6 +17,7 @@ package software.amazon.ion.impl.bin;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.After;
 import org.junit.Before;
@@ -90,4 +91,110 @@ public class PooledBlockAllocatorProviderTest
         block1Again.close();
         block2Again.close();
     }
+
+    @Test
+    public void testStatistics()
+    {
+        final BlockAllocator allocator = provider.vendAllocator(8);
+        final Block block1 = allocator.allocateBlock();
+        final Block block2 = allocator.allocateBlock();
+        assertEquals(0, provider.getHitCount());
+        assertEquals(2, provider.getMissCount());
+
+        block1.close();
+        block2.close();
+        assertEquals(16, provider.getRetainedBytes());
+
+        allocator.allocateBlock().close();
+        assertEquals(1, provider.getHitCount());
+        assertEquals(2, provider.getMissCount());
+        assertEquals(0, provider.getDiscardCount());
+    }
+
+    @Test
+    public void testRetainedBytesLimitAcrossSizes()
+    {
+        provider = new PooledBlockAllocatorProvider(12, 0);
+        final Block small1 = provider.vendAllocator(4).allocateBlock();
+        final Block small2 = provider.vendAllocator(4).allocateBlock();
+        final Block large = provider.vendAllocator(8).allocateBlock();
+
+        small1.close();
+        large.close();
+        assertEquals(12, provider.getRetainedBytes());
+
+        // the pool is full
+        small2.close();
+        assertEquals(12, provider.getRetainedBytes());
+        assertEquals(1, provider.getDiscardCount());
+
+        final Block small = provider.vendAllocator(4).allocateBlock();
+        assertSame(small1, small);
+        assertEquals(8, provider.getRetainedBytes());
+        small.close();
+    }
+
+    @Test
+    public void testSetMaxRetainedBytesTrims()
+    {
+        final BlockAllocator allocator = provider.vendAllocator(8);
+        final Block block1 = allocator.allocateBlock();
+        final Block block2 = allocator.allocateBlock();
+        block1.close();
+        block2.close();
+        assertEquals(16, provider.getRetainedBytes());
+
+        provider.setMaxRetainedBytes(8);
+        assertEquals(8, provider.getMaxRetainedBytes());
+        assertEquals(8, provider.getRetainedBytes());
+
+        provider.setMaxRetainedBytes(0);
+        assertEquals(0, provider.getRetainedBytes());
+        allocator.allocateBlock().close();
+        assertEquals(1, provider.getDiscardCount());
+    }
+
+    @Test
+    public void testThreadCache() throws Exception
+    {
+        provider = new PooledBlockAllocatorProvider(0, 1);
+        final BlockAllocator allocator = provider.vendAllocator(8);
+        final Block block = allocator.allocateBlock();
+        block.close();
+
+        // cached by this thread, and not counted against the limit
+        assertEquals(0, provider.getRetainedBytes());
+        assertEquals(0, provider.getDiscardCount());
+
+        final Block[] fromOtherThread = new Block[1];
+        final Thread thread = new Thread()
+        {
+            @Override
+            public void run()
+            {
+                fromOtherThread[0] = allocator.allocateBlock();
+            }
+        };
+        thread.start();
+        thread.join();
+        assertNotSame(block, fromOtherThread[0]);
+
+        assertSame(block, allocator.allocateBlock());
+        assertEquals(1, provider.getHitCount());
+        assertEquals(2, provider.getMissCount());
+    }
+
+    @Test
+    public void testSharedProviderIsBounded()
+    {
+        final PooledBlockAllocatorProvider shared = PooledBlockAllocatorProvider.shared();
+        assertSame(shared, PooledBlockAllocatorProvider.shared());
+        assertTrue(shared.getMaxRetainedBytes() < Long.MAX_VALUE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeLimit()
+    {
+        provider.setMaxRetainedBytes(-1);
+    }
 }
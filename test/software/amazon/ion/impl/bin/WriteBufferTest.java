@@ -791,6 +791,17 @@ public class WriteBufferTest
         assertBuffer(expected);
     }
 
+    @Test
+    public void testUTF8AsciiSpanningBlocks() throws IOException
+    {
+        // longer than several blocks so the ASCII run crosses boundaries
+        final String text = "abcdefghijklmnopqrstuvwxyz0123456789\u00F4ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+        buf.writeUTF8("!");
+        buf.writeUTF8(text);
+        final byte[] expected = ("!" + text).getBytes("UTF-8");
+        assertBuffer(expected);
+    }
+
     @Test
     public void testUTF8TwoByte() throws IOException
     {
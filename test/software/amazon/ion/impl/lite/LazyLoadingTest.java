@@ -0,0 +1,136 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl.lite;
+
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonList;
+import software.amazon.ion.IonSexp;
+import software.amazon.ion.IonStruct;
+import software.amazon.ion.IonSystem;
+import software.amazon.ion.IonTestCase;
+import software.amazon.ion.IonValue;
+import software.amazon.ion.system.IonSystemBuilder;
+
+/**
+ * Tests {@link IonSystemBuilder#withLazyBinaryLoading(boolean)}.
+ */
+public class LazyLoadingTest
+    extends IonTestCase
+{
+    private static final String DATA =
+        "$ion_symbol_table::{symbols:[\"s1\"]} " +
+        "a::{b:[1, 2, {c:d}], e:(f g), 'h':\"i\", j:{k:{l:[]}}, m:null.list} " +
+        "[s1, 2019-06-01T, 1.5, 2e0, {{ aGVsbG8= }}] " +
+        "$ion_symbol_table::{symbols:[\"t1\"]} t1::(t1 [t1] {t1:t1})";
+
+    private IonSystem myLazySystem;
+
+    @Before
+    public void setUpLazySystem()
+    {
+        myLazySystem = IonSystemBuilder.standard()
+                                       .withCatalog(catalog())
+                                       .withLazyBinaryLoading(true)
+                                       .build();
+    }
+
+    private IonDatagram loadLazily(String text)
+    {
+        return myLazySystem.getLoader().load(encode(text));
+    }
+
+    @Test
+    public void testEquivalentToEager()
+    {
+        byte[] bytes = encode(DATA);
+        IonDatagram eager = loader().load(bytes);
+        IonDatagram lazy = myLazySystem.getLoader().load(bytes);
+
+        assertEquals(eager.systemSize(), lazy.systemSize());
+        assertEquals(eager.size(), lazy.size());
+        assertEquals(eager.toString(), lazy.toString());
+        assertArrayEquals(eager.getBytes(), lazy.getBytes());
+
+        lazy = myLazySystem.getLoader().load(bytes);
+        assertEquals(eager, system().clone(lazy));
+    }
+
+    @Test
+    public void testSparseAccess()
+    {
+        IonDatagram dg = loadLazily(DATA);
+        IonStruct s = (IonStruct) dg.get(0);
+        assertEquals("a", s.getTypeAnnotations()[0]);
+
+        IonStruct k = (IonStruct) ((IonStruct) s.get("j")).get("k");
+        assertTrue(((IonList) k.get("l")).isEmpty());
+        assertEquals("k", k.getFieldName());
+        assertTrue(((IonList) s.get("m")).isNullValue());
+
+        IonValue t1 = ((IonStruct) ((IonSexp) dg.get(2)).get(2)).get("t1");
+        assertEquals("t1", t1.getFieldName());
+        checkSymbol("t1", t1);
+    }
+
+    @Test
+    public void testMutation()
+    {
+        IonDatagram dg = loadLazily(DATA);
+        IonStruct s = (IonStruct) dg.get(0);
+        s.put("n").newInt(5);
+        s.remove("b");
+        ((IonList) s.get("m")).add().newInt(1);
+
+        IonStruct expected = (IonStruct) oneValue(
+            "a::{e:(f g), h:\"i\", j:{k:{l:[]}}, m:[1], n:5}");
+        assertEquals(expected, system().clone(s));
+
+        IonList list = (IonList) dg.get(1);
+        list.clear();
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void testDetachAndClone()
+    {
+        IonDatagram dg = loadLazily(DATA);
+        IonValue last = dg.remove(2);
+        IonValue copy = last.clone();
+        assertEquals(oneValue("t1::(t1 [t1] {t1:t1})"), system().clone(last));
+        assertEquals(last, copy);
+
+        IonStruct j = (IonStruct) ((IonStruct) dg.get(0).clone()).get("j");
+        assertEquals(oneValue("{k:{l:[]}}"), system().clone(j));
+    }
+
+    @Test
+    public void testMakeReadOnly()
+    {
+        IonDatagram dg = loadLazily(DATA);
+        dg.makeReadOnly();
+        IonStruct c = (IonStruct) ((IonList) ((IonStruct) dg.get(0)).get("b")).get(2);
+        assertTrue(c.isReadOnly());
+        checkSymbol("d", c.get("c"));
+    }
+
+    @Test
+    public void testTextIsEager()
+    {
+        IonDatagram dg = myLazySystem.getLoader().load("{a:[b]}");
+        assertEquals(oneValue("{a:[b]}"), system().clone(dg.get(0)));
+    }
+}
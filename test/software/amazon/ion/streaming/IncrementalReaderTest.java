@@ -0,0 +1,195 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.streaming;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonException;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonTestCase;
+import software.amazon.ion.IonType;
+import software.amazon.ion.IonValue;
+import software.amazon.ion.SpanProvider;
+import software.amazon.ion.UnexpectedEofException;
+import software.amazon.ion.system.IonReaderBuilder;
+
+/**
+ * Tests readers built with
+ * {@link IonReaderBuilder#withIncrementalReadingEnabled(boolean)}.
+ */
+public class IncrementalReaderTest
+    extends IonTestCase
+{
+    private static final String DATA =
+        "$ion_symbol_table::{symbols:[\"s1\"]} a::b::{c:d, e:[1, 2.5, 3e0]} " +
+        "\"a string long enough to need a variable length header, and then some more\" " +
+        "null.struct true 2019-06-01T00:00Z (s1 s2 {{ aGVsbG8= }}) " +
+        "$ion_symbol_table::{symbols:[\"t1\"]} t1::[t1, {t1:\"" +
+        "a value bigger than the initial buffer of the reader under test " +
+        "a value bigger than the initial buffer of the reader under test\"}]";
+
+    /**
+     * Hands out only the bytes that have been {@linkplain #release released},
+     * returning zero or -1 when there are none, like a non-blocking source.
+     */
+    private static final class TrickleInputStream
+        extends InputStream
+    {
+        private final byte[] myData;
+        private int myAvailable;
+        private int myPos;
+
+        TrickleInputStream(byte[] data)
+        {
+            myData = data;
+        }
+
+        void release(int count)
+        {
+            myAvailable = Math.min(myAvailable + count, myData.length);
+        }
+
+        boolean isExhausted()
+        {
+            return myAvailable == myData.length;
+        }
+
+        @Override
+        public int read()
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len)
+        {
+            int count = Math.min(len, myAvailable - myPos);
+            if (count <= 0)
+            {
+                return (myPos == myData.length) ? -1 : 0;
+            }
+            System.arraycopy(myData, myPos, b, off, count);
+            myPos += count;
+            return count;
+        }
+    }
+
+    private IonReader newReader(InputStream in)
+    {
+        return IonReaderBuilder.standard()
+                               .withCatalog(catalog())
+                               .withIncrementalReadingEnabled(true)
+                               .build(in);
+    }
+
+    private void checkTrickle(int chunkSize) throws Exception
+    {
+        IonDatagram expected = loader().load(DATA);
+        TrickleInputStream in = new TrickleInputStream(expected.getBytes());
+        IonReader reader = newReader(in);
+
+        List<IonValue> actual = new ArrayList<IonValue>();
+        while (true)
+        {
+            while (reader.next() != null)
+            {
+                actual.add(system().newValue(reader));
+            }
+            if (in.isExhausted()) break;
+            in.release(chunkSize);
+        }
+        reader.close();
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < actual.size(); i++)
+        {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    public void testByteAtATime() throws Exception
+    {
+        checkTrickle(1);
+    }
+
+    @Test
+    public void testChunks() throws Exception
+    {
+        checkTrickle(7);
+        checkTrickle(100);
+    }
+
+    @Test
+    public void testAllAtOnce() throws Exception
+    {
+        checkTrickle(Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void testResumeAfterPartialValue() throws Exception
+    {
+        byte[] bytes = encode("1 {a:\"hello\"}");
+        TrickleInputStream in = new TrickleInputStream(bytes);
+        IonReader reader = newReader(in);
+
+        in.release(bytes.length - 1);
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(1, reader.intValue());
+        assertNull(reader.next());
+        assertNull(reader.next());
+
+        in.release(1);
+        assertEquals(IonType.STRUCT, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals("a", reader.getFieldName());
+        assertEquals("hello", reader.stringValue());
+        assertNull(reader.next());
+        reader.stepOut();
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @Test(expected = UnexpectedEofException.class)
+    public void testCloseWithinValue() throws Exception
+    {
+        byte[] bytes = encode("[1, 2, 3]");
+        TrickleInputStream in = new TrickleInputStream(bytes);
+        IonReader reader = newReader(in);
+
+        in.release(bytes.length - 2);
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @Test(expected = IonException.class)
+    public void testTextRejected()
+    {
+        TrickleInputStream in = new TrickleInputStream("{a:1}".getBytes());
+        in.release(5);
+        newReader(in).next();
+    }
+
+    @Test
+    public void testNoSpans()
+    {
+        TrickleInputStream in = new TrickleInputStream(encode("1"));
+        assertNull(newReader(in).asFacet(SpanProvider.class));
+    }
+}
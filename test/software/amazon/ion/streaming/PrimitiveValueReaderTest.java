@@ -0,0 +1,204 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.streaming;
+
+import static software.amazon.ion.BinaryTest.hexToBytes;
+
+import java.math.BigDecimal;
+import org.junit.Test;
+import software.amazon.ion.Decimal;
+import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonDecimal;
+import software.amazon.ion.IonException;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonTestCase;
+import software.amazon.ion.IonTimestamp;
+import software.amazon.ion.IonType;
+import software.amazon.ion.IonValue;
+import software.amazon.ion.PrimitiveValueReader;
+import software.amazon.ion.Timestamp;
+import software.amazon.ion.facet.Facets;
+
+public class PrimitiveValueReaderTest
+    extends IonTestCase
+{
+    private IonReader in;
+    private PrimitiveValueReader primitives;
+
+    private void read(String ionText)
+    {
+        in = system().newReader(encode(ionText));
+        primitives = Facets.asFacet(PrimitiveValueReader.class, in);
+        assertNotNull(primitives);
+    }
+
+    private void checkDecimal(Decimal expected)
+    {
+        boolean fits = expected.unscaledValue().bitLength() < 64
+            && ! expected.isNegativeZero();
+        assertEquals(fits, primitives.decimalFitsInLong());
+        if (expected.unscaledValue().bitLength() < 64)
+        {
+            assertEquals(expected.unscaledValue().longValue(),
+                         primitives.decimalUnscaledValue());
+        }
+        assertEquals(expected.scale(), primitives.decimalScale());
+    }
+
+    private void checkTimestamp(Timestamp expected)
+    {
+        assertEquals(expected.getPrecision(), primitives.timestampPrecision());
+        assertEquals(expected.getMillis(), primitives.timestampMillis());
+
+        BigDecimal fraction =
+            expected.getDecimalSecond().subtract(BigDecimal.valueOf(expected.getSecond()));
+        assertEquals(fraction.movePointRight(9).intValue(),
+                     primitives.timestampNanos());
+
+        Integer offset = expected.getLocalOffset();
+        assertEquals(offset == null ? PrimitiveValueReader.UNKNOWN_OFFSET : offset.intValue(),
+                     primitives.timestampOffsetMinutes());
+    }
+
+    @Test
+    public void testDecimals()
+    {
+        String text = "0. 0d-3 -0. -0d-2 123.456 -123.456 1d5 -1d-30 "
+            + "9223372036854775807. -9223372036854775808. "
+            + "9223372036854775808. 123456789012345678901234567890.1";
+        IonDatagram expected = loader().load(text);
+
+        // Primitives first, then the Decimal from the same value.
+        read(text);
+        for (IonValue value : expected)
+        {
+            assertEquals(IonType.DECIMAL, in.next());
+            Decimal dec = ((IonDecimal) value).decimalValue();
+            checkDecimal(dec);
+            assertEquals(dec, in.decimalValue());
+            assertEquals(dec.isNegativeZero(), in.decimalValue().isNegativeZero());
+        }
+        assertNull(in.next());
+
+        // The Decimal first.
+        read(text);
+        for (IonValue value : expected)
+        {
+            in.next();
+            assertEquals(((IonDecimal) value).decimalValue(), in.decimalValue());
+            checkDecimal(((IonDecimal) value).decimalValue());
+        }
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testDecimalOutOfRange()
+    {
+        read("9223372036854775808.");
+        in.next();
+        primitives.decimalUnscaledValue();
+    }
+
+    @Test
+    public void testTimestamps()
+    {
+        String text = "2007T 2007-02T 2007-02-23 2007-02-23T12:14Z "
+            + "2007-02-23T12:14:33-00:00 2007-02-23T12:14:33.079-08:00 "
+            + "2007-02-23T12:14:33.000+05:30 2000-02-29T23:59:59.999999999999Z "
+            + "2020-01-01T00:00:00.123456789012345678901234567890Z "
+            + "1969-12-31T23:59:59.9Z 0001-01-01T00:00Z 1582-10-04T12:00:00.5Z "
+            + "9999-12-31T23:59:59.999+23:59";
+        IonDatagram expected = loader().load(text);
+
+        read(text);
+        for (IonValue value : expected)
+        {
+            assertEquals(IonType.TIMESTAMP, in.next());
+            Timestamp ts = ((IonTimestamp) value).timestampValue();
+            checkTimestamp(ts);
+            assertEquals(ts, in.timestampValue());
+        }
+        assertNull(in.next());
+
+        read(text);
+        for (IonValue value : expected)
+        {
+            in.next();
+            Timestamp ts = ((IonTimestamp) value).timestampValue();
+            assertEquals(ts, in.timestampValue());
+            checkTimestamp(ts);
+        }
+    }
+
+    @Test
+    public void testNested()
+    {
+        read("{a:[1.5, 2001-01-01T]}");
+        in.next();
+        in.stepIn();
+        in.next();
+        in.stepIn();
+        in.next();
+        assertEquals(15, primitives.decimalUnscaledValue());
+        assertEquals(1, primitives.decimalScale());
+        in.next();
+        assertEquals(Timestamp.valueOf("2001-01-01T").getMillis(),
+                     primitives.timestampMillis());
+        assertNull(in.next());
+    }
+
+    @Test
+    public void testInvalidTimestamp()
+    {
+        // 2007-13T, which Timestamp rejects
+        byte[] data = hexToBytes("E0 01 00 EA 64 80 0F D7 8D");
+
+        in = system().newReader(data);
+        primitives = Facets.asFacet(PrimitiveValueReader.class, in);
+        in.next();
+        try {
+            primitives.timestampMillis();
+            fail("Expected IonException");
+        }
+        catch (IonException e) { }
+        try {
+            in.timestampValue();
+            fail("Expected IonException");
+        }
+        catch (IonException e) { }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testWrongType()
+    {
+        read("1.5 2001T");
+        in.next();
+        primitives.timestampMillis();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testNull()
+    {
+        read("null.decimal");
+        in.next();
+        primitives.decimalScale();
+    }
+
+    @Test
+    public void testTextReaderHasNoFacet()
+    {
+        IonReader text = system().newReader("1.5");
+        assertNull(Facets.asFacet(PrimitiveValueReader.class, text));
+    }
+}
@@ -59,6 +59,7 @@ public abstract class ReaderFacetTestCase
     {
         ReaderMaker.FROM_INPUT_STREAM_BINARY,
         ReaderMaker.FROM_INPUT_STREAM_TEXT,
+        ReaderMaker.FROM_BYTE_BUFFER_TEXT,
         ReaderMaker.FROM_READER
     };
 
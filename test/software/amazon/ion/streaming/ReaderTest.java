@@ -369,6 +369,44 @@ public class ReaderTest
         testSkippingLob("{a:1, b:{ c:", "}}");
     }
 
+    @Test
+    public void testSkippingNonAsciiContent()
+    {
+        read("{a:\"caf\u00e9 \\\" ]\u4e2d\", b:'\u00fc\\'}', c:[\"\u20ac\"]}\n"
+             + "['\u00f1', '''x''' /* '\u00e9' ] */ '''\u00e9''' // ]\n, ('\u00e9' x)]\n"
+             + "\"\u00e9\" '\u00e9' '''\u00e9\\\\''' '''\u00ff'''\n"
+             + "end");
+
+        assertEquals(IonType.STRUCT, in.next());
+        assertEquals(IonType.LIST, in.next());
+        assertEquals(IonType.STRING, in.next());
+        assertEquals(IonType.SYMBOL, in.next());
+        assertEquals(IonType.STRING, in.next());
+        assertEquals(IonType.SYMBOL, in.next());
+        assertEquals("end", in.stringValue());
+        expectEof();
+    }
+
+    @Test
+    public void testSkippingDeeplyNestedContainers()
+    {
+        StringBuilder buf = new StringBuilder();
+        for (int i = 0; i <= 40; i++) {
+            buf.append(i % 3 == 0 ? "{f:" : i % 3 == 1 ? "[\"]\", " : "('(' ");
+        }
+        buf.append("{{ }}, '''}])''' // )\n");
+        for (int i = 40; i >= 0; i--) {
+            buf.append(i % 3 == 0 ? "}" : i % 3 == 1 ? "]" : ")");
+        }
+        buf.append(" end");
+        read(buf.toString());
+
+        assertEquals(IonType.STRUCT, in.next());
+        assertEquals(IonType.SYMBOL, in.next());
+        assertEquals("end", in.stringValue());
+        expectEof();
+    }
+
     @Test
     public void testGetSymbolTableBeforeFirstValue()
     {
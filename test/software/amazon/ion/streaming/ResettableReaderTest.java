@@ -0,0 +1,153 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.streaming;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import org.junit.Test;
+import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonException;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonTestCase;
+import software.amazon.ion.IonType;
+import software.amazon.ion.IonWriter;
+import software.amazon.ion.ResettableReader;
+import software.amazon.ion.SymbolTable;
+import software.amazon.ion.facet.Facets;
+import software.amazon.ion.impl.PrivateUtils;
+import software.amazon.ion.impl.Symtabs;
+import software.amazon.ion.system.IonReaderBuilder;
+
+public class ResettableReaderTest
+    extends IonTestCase
+{
+    private byte[] message(String local, SymbolTable... imports)
+        throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = system().newBinaryWriter(out, imports);
+        writer.stepIn(IonType.STRUCT);
+        writer.setFieldName("fred_1");
+        writer.writeSymbol(local);
+        writer.stepOut();
+        writer.close();
+        return out.toByteArray();
+    }
+
+    private IonReader newReader(byte[] bytes)
+    {
+        return IonReaderBuilder.standard()
+                               .withCatalog(catalog())
+                               .build(bytes);
+    }
+
+    private void checkMessage(byte[] expected, IonReader reader)
+    {
+        IonDatagram dg = loader().load(expected);
+        assertEquals(dg, system().newDatagram(system().newValue(reader)));
+        assertNull(reader.next());
+    }
+
+    @Test
+    public void testResetMatchesNewReader()
+        throws IOException
+    {
+        SymbolTable fred1 = Symtabs.register("fred", 1, catalog());
+        byte[] first  = message("ginger", fred1);
+        byte[] second = message("rogers");
+        byte[] third  = message("astaire", fred1);
+
+        IonReader reader = newReader(first);
+        ResettableReader resettable =
+            Facets.asFacet(ResettableReader.class, reader);
+        assertNotNull(resettable);
+
+        assertEquals(IonType.STRUCT, reader.next());
+        checkMessage(first, reader);
+
+        byte[] padded = PrivateUtils.copyOf(second, second.length + 7);
+        System.arraycopy(padded, 0, padded, 7, second.length);
+        resettable.reset(padded, 7, second.length);
+        assertEquals(IonType.STRUCT, reader.next());
+
+        // Reset part way into a container.
+        reader.stepIn();
+        resettable.reset(third, 0, third.length);
+        assertEquals(0, reader.getDepth());
+        assertEquals(IonType.STRUCT, reader.next());
+        checkMessage(third, reader);
+
+        resettable.reset(second, 0, second.length);
+        assertTrue(reader.getSymbolTable().isSystemTable());
+        assertEquals(IonType.STRUCT, reader.next());
+        checkMessage(second, reader);
+    }
+
+    @Test
+    public void testRepeatedSymbolTableIsReused()
+        throws IOException
+    {
+        SymbolTable fred1 = Symtabs.register("fred", 1, catalog());
+        byte[] first  = message("ginger", fred1);
+        byte[] second = message("ginger", fred1);
+
+        IonReader reader = newReader(first);
+        ResettableReader resettable =
+            Facets.asFacet(ResettableReader.class, reader);
+        reader.next();
+        SymbolTable symbols = reader.getSymbolTable();
+
+        resettable.reset(second, 0, second.length);
+        reader.next();
+        assertSame(symbols, reader.getSymbolTable());
+        checkMessage(second, reader);
+
+        // Once modified, the table no longer describes the encoded image.
+        symbols.intern("extra");
+        resettable.reset(second, 0, second.length);
+        reader.next();
+        assertNotSame(symbols, reader.getSymbolTable());
+        assertNull(reader.getSymbolTable().find("extra"));
+    }
+
+    @Test
+    public void testResetToEmpty()
+        throws IOException
+    {
+        byte[] bytes = message("ginger");
+        IonReader reader = newReader(bytes);
+        reader.next();
+
+        Facets.asFacet(ResettableReader.class, reader).reset(bytes, 0, 0);
+        assertNull(reader.next());
+    }
+
+    @Test(expected = IonException.class)
+    public void testResetToText()
+        throws IOException
+    {
+        IonReader reader = newReader(message("ginger"));
+        byte[] text = PrivateUtils.utf8("{fred_1:ginger}");
+        Facets.asFacet(ResettableReader.class, reader)
+              .reset(text, 0, text.length);
+    }
+
+    @Test
+    public void testTextReaderNotResettable()
+    {
+        IonReader reader = newReader(PrivateUtils.utf8("ginger"));
+        assertNull(Facets.asFacet(ResettableReader.class, reader));
+    }
+}
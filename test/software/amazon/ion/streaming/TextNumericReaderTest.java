@@ -0,0 +1,181 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.streaming;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+import org.junit.Test;
+import software.amazon.ion.Decimal;
+import software.amazon.ion.IntegerSize;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonTestCase;
+import software.amazon.ion.IonType;
+
+/**
+ * Numbers read by the text reader, checked against the JDK parsers that the
+ * reader falls back on.
+ */
+public class TextNumericReaderTest
+    extends IonTestCase
+{
+    private IonReader in;
+
+    private void read(String ionText, IonType expectedType)
+    {
+        in = system().newReader(ionText);
+        assertEquals(expectedType, in.next());
+    }
+
+    private void checkInt(String ionText, BigInteger expected, IntegerSize size)
+    {
+        read(ionText, IonType.INT);
+        assertEquals(size, in.getIntegerSize());
+        assertEquals(expected, in.bigIntegerValue());
+    }
+
+    private void checkDecimal(String ionText, String expected)
+    {
+        read(ionText, IonType.DECIMAL);
+        Decimal actual = in.decimalValue();
+        Decimal reference = Decimal.valueOf(expected);
+        assertEquals(reference.unscaledValue(), actual.unscaledValue());
+        assertEquals(reference.scale(), actual.scale());
+        assertEquals(reference.isNegativeZero(), actual.isNegativeZero());
+    }
+
+    private void checkFloat(String ionText)
+    {
+        read(ionText, IonType.FLOAT);
+        double expected = Double.parseDouble(ionText);
+        assertEquals(ionText,
+                     Double.doubleToRawLongBits(expected),
+                     Double.doubleToRawLongBits(in.doubleValue()));
+    }
+
+    @Test
+    public void testIntBoundaries()
+    {
+        long[] values = { 0, 1, -1,
+                          Integer.MAX_VALUE, Integer.MIN_VALUE,
+                          Long.MAX_VALUE, Long.MIN_VALUE };
+        for (long value : values)
+        {
+            BigInteger big = BigInteger.valueOf(value);
+            IntegerSize size = (value == (int) value)
+                ? IntegerSize.INT
+                : IntegerSize.LONG;
+            checkInt(Long.toString(value), big, size);
+            checkInt(hex(big), big, size);
+            checkInt(binary(big), big, size);
+
+            BigInteger next = big.add(BigInteger.valueOf(value < 0 ? -1 : 1));
+            if (value == Integer.MAX_VALUE || value == Integer.MIN_VALUE)
+            {
+                checkInt(next.toString(), next, IntegerSize.LONG);
+                checkInt(hex(next), next, IntegerSize.LONG);
+            }
+            if (value == Long.MAX_VALUE || value == Long.MIN_VALUE)
+            {
+                checkInt(next.toString(), next, IntegerSize.BIG_INTEGER);
+                checkInt(hex(next), next, IntegerSize.BIG_INTEGER);
+                checkInt(binary(next), next, IntegerSize.BIG_INTEGER);
+            }
+        }
+
+        checkInt("1_000_000", BigInteger.valueOf(1000000), IntegerSize.INT);
+        checkInt("0xFF_ff", BigInteger.valueOf(0xFFFF), IntegerSize.INT);
+    }
+
+    private static String hex(BigInteger value)
+    {
+        return (value.signum() < 0 ? "-0x" : "0x") + value.abs().toString(16);
+    }
+
+    private static String binary(BigInteger value)
+    {
+        return (value.signum() < 0 ? "-0b" : "0b") + value.abs().toString(2);
+    }
+
+    @Test
+    public void testDecimals()
+    {
+        checkDecimal("0.", "0");
+        checkDecimal("-0.", "-0");
+        checkDecimal("-0.00", "-0.00");
+        checkDecimal("-0d5", "-0e5");
+        checkDecimal("1.5", "1.5");
+        checkDecimal("-123.456d-7", "-123.456e-7");
+        checkDecimal("12.5D+3", "12.5e3");
+        checkDecimal("-42.", "-42");
+        checkDecimal("1_0.0_1", "10.01");
+        checkDecimal("0.000000000000000000000000001", "1e-27");
+        checkDecimal("999999999999999999.", "999999999999999999");
+        checkDecimal("9999999999999999999.", "9999999999999999999");
+        checkDecimal("123456789012345678901234567890.5",
+                     "123456789012345678901234567890.5");
+        checkDecimal("1d2147483647", "1e2147483647");
+        checkDecimal("1d-2147483647", "1e-2147483647");
+    }
+
+    @Test
+    public void testFloats()
+    {
+        String[] images = { "0e0", "-0e0", "1e0", "-1.5e3", "1.7976931348623157e308",
+                            "4.9e-324", "2.2250738585072014E-308", "9007199254740993e0",
+                            "123456789012345678901234567890e-10", "1e23", "12e25",
+                            "0.1e1", "3.14159265358979e0", "1e-400", "1e400",
+                            "0e-23", "0.000e-22", "-0e-154", "0e-400", "0.e-328",
+                            "-0.0e30", "0e400" };
+        for (String image : images)
+        {
+            checkFloat(image);
+        }
+
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++)
+        {
+            double value = Double.longBitsToDouble(random.nextLong());
+            if (Double.isNaN(value) || Double.isInfinite(value)) continue;
+            String image = Double.toString(value);
+            if (image.indexOf('E') < 0)
+            {
+                image += "e0";
+            }
+            checkFloat(image);
+
+            long coefficient = random.nextLong() >>> (1 + random.nextInt(40));
+            int exponent = random.nextInt(80) - 40;
+            checkFloat(coefficient + "e" + exponent);
+        }
+    }
+
+    @Test
+    public void testNumbersInContainer()
+    {
+        in = system().newReader("[1, 2.5, 3e0, 2019-01-01T]");
+        in.next();
+        in.stepIn();
+        assertEquals(IonType.INT, in.next());
+        assertEquals(1, in.intValue());
+        assertEquals(IonType.DECIMAL, in.next());
+        assertEquals(new BigDecimal("2.5"), in.bigDecimalValue());
+        assertEquals(IonType.FLOAT, in.next());
+        assertEquals(3e0, in.doubleValue(), 0);
+        assertEquals(IonType.TIMESTAMP, in.next());
+        assertEquals(2019, in.timestampValue().getYear());
+        assertEquals(null, in.next());
+    }
+}
@@ -30,7 +30,9 @@ import org.junit.Test;
 import software.amazon.ion.IonCatalog;
 import software.amazon.ion.IonSystem;
 import software.amazon.ion.IonWriter;
+import software.amazon.ion.ResettableWriter;
 import software.amazon.ion.SymbolTable;
+import software.amazon.ion.facet.Facets;
 import software.amazon.ion.impl.PrivateIonBinaryWriterBuilder;
 import software.amazon.ion.impl.PrivateIonWriter;
 import software.amazon.ion.impl.PrivateUtils;
@@ -385,4 +387,73 @@ public class IonBinaryWriterBuilderTest
         b.setImports(new SymbolTable[0]);
         assertArrayEquals(new SymbolTable[0], b.getImports());
     }
+
+
+    //-------------------------------------------------------------------------
+
+    @Test
+    public void testBlockPoolSharedAcrossBuilders()
+        throws IOException
+    {
+        IonBinaryWriterBuilder b = IonBinaryWriterBuilder.standard();
+        BlockPool pool = b.getBlockPool();
+        Assert.assertNotNull(pool);
+        assertSame(pool, IonBinaryWriterBuilder.standard().getBlockPool());
+        assertSame(pool, b.immutable().getBlockPool());
+
+        IonWriter writer = b.build(new ByteArrayOutputStream());
+        writer.writeInt(1);
+        writer.close();
+
+        long hits = pool.getHitCount();
+        writer = IonBinaryWriterBuilder.standard().build(new ByteArrayOutputStream());
+        writer.writeInt(1);
+        writer.close();
+        assertTrue("blocks should be reused", pool.getHitCount() > hits);
+    }
+
+    @Test
+    public void testResetWithInitialSymtab()
+        throws IOException
+    {
+        SymbolTable sst = PrivateUtils.systemSymtab(1);
+        SymbolTable lst = Symtabs.localSymbolTableFactory().newLocalSymtab(sst);
+        lst.intern("hello");
+
+        IonBinaryWriterBuilder b =
+            IonBinaryWriterBuilder.standard().withInitialSymbolTable(lst);
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        IonWriter writer = b.build(expected);
+        writer.writeSymbol("hello");
+        writer.writeSymbol("world");
+        writer.close();
+
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        writer = b.build(first);
+        ResettableWriter resettable =
+            Facets.asFacet(ResettableWriter.class, writer);
+        writer.writeSymbol("hello");
+        writer.writeSymbol("world");
+
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        resettable.reset(second);
+        writer.writeSymbol("hello");
+        writer.writeSymbol("world");
+        writer.close();
+
+        assertArrayEquals(expected.toByteArray(), first.toByteArray());
+        assertArrayEquals(expected.toByteArray(), second.toByteArray());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testResetAfterClose()
+        throws IOException
+    {
+        IonWriter writer =
+            IonBinaryWriterBuilder.standard().build(new ByteArrayOutputStream());
+        writer.close();
+        Facets.asFacet(ResettableWriter.class, writer)
+              .reset(new ByteArrayOutputStream());
+    }
 }
@@ -15,11 +15,20 @@
 package software.amazon.ion.system;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -97,6 +106,70 @@ public class IonReaderBuilderTest
         assertSame(mutableCopy, mutableSame);
     }
 
+    @Test
+    public void testIncrementalReadingEnabled()
+    {
+        IonReaderBuilder mutable = IonReaderBuilder.standard();
+        assertFalse(mutable.isIncrementalReadingEnabled());
+        assertSame(mutable, mutable.withIncrementalReadingEnabled(true));
+        assertTrue(mutable.isIncrementalReadingEnabled());
+
+        IonReaderBuilder immutable = mutable.immutable();
+        assertTrue(immutable.copy().isIncrementalReadingEnabled());
+        IonReaderBuilder disabled = immutable.withIncrementalReadingEnabled(false);
+        assertNotSame(immutable, disabled);
+        assertTrue(immutable.isIncrementalReadingEnabled());
+        assertFalse(disabled.isIncrementalReadingEnabled());
+
+        thrown.expect(UnsupportedOperationException.class);
+        immutable.setIncrementalReadingEnabled(false);
+    }
+
+    @Test
+    public void testStringCache() throws IOException
+    {
+        IonReaderBuilder builder = IonReaderBuilder.standard();
+        assertNull(builder.getStringCache());
+        assertSame(builder, builder.withStringCacheSize(100));
+        StringCache cache = builder.getStringCache();
+        assertEquals(128, cache.getMaxEntries());
+        assertSame(cache, builder.immutable().getStringCache());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = PrivateIonBinaryWriterBuilder.standard().build(out);
+        for (int i = 0; i < 3; i++) {
+            writer.writeString("us-east-1");
+        }
+        for (int i = 0; i < 3; i++) {
+            writer.writeString("\u00e9t\u00e9");
+        }
+        writer.close();
+
+        // a string is only cached on its second miss
+        IonReader reader = builder.build(out.toByteArray());
+        assertEquals(IonType.STRING, reader.next());
+        String first = reader.stringValue();
+        assertEquals(IonType.STRING, reader.next());
+        String second = reader.stringValue();
+        assertNotSame(first, second);
+        assertEquals(IonType.STRING, reader.next());
+        assertSame(second, reader.stringValue());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(IonType.STRING, reader.next());
+            assertEquals("\u00e9t\u00e9", reader.stringValue());
+        }
+        assertNull(reader.next());
+        assertEquals(2, cache.getHitCount());
+        assertEquals(4, cache.getMissCount());
+
+        cache.clear();
+        reader = builder.build(out.toByteArray());
+        reader.next();
+        assertNotSame(second, reader.stringValue());
+
+        assertNull(builder.withStringCacheSize(0).getStringCache());
+    }
+
     @Test
     public void testSystemFreeRoundtrip() throws IOException
     {
@@ -110,4 +183,102 @@ public class IonReaderBuilderTest
         assertEquals(42, reader.intValue());
     }
 
+    private static byte[] binaryStruct() throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = PrivateIonBinaryWriterBuilder.standard().build(out);
+        writer.addTypeAnnotation("a");
+        writer.stepIn(IonType.STRUCT);
+        writer.setFieldName("name");
+        writer.writeString("value");
+        writer.setFieldName("blob");
+        writer.writeBlob(new byte[] { 1, 2, 3 });
+        writer.stepOut();
+        writer.writeInt(42);
+        writer.close();
+        return out.toByteArray();
+    }
+
+    private static void checkStruct(IonReader reader)
+    {
+        assertEquals(IonType.STRUCT, reader.next());
+        assertEquals("a", reader.getTypeAnnotations()[0]);
+        reader.stepIn();
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals("name", reader.getFieldName());
+        assertEquals("value", reader.stringValue());
+        assertEquals(IonType.BLOB, reader.next());
+        assertEquals(3, reader.newBytes().length);
+        assertNull(reader.next());
+        reader.stepOut();
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(42, reader.intValue());
+        assertNull(reader.next());
+    }
+
+    @Test
+    public void testDirectByteBuffer() throws IOException
+    {
+        byte[] data = binaryStruct();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(data.length + 10);
+        buffer.position(5);
+        buffer.put(data);
+        buffer.position(5);
+        buffer.limit(5 + data.length);
+
+        IonReader reader = IonReaderBuilder.standard().build(buffer);
+        checkStruct(reader);
+        reader.close();
+
+        // The caller's view of the buffer is untouched.
+        assertEquals(5, buffer.position());
+        assertEquals(5 + data.length, buffer.limit());
+    }
+
+    @Test
+    public void testReadOnlyByteBuffer() throws IOException
+    {
+        ByteBuffer buffer = ByteBuffer.wrap(binaryStruct()).asReadOnlyBuffer();
+        checkStruct(IonReaderBuilder.standard().build(buffer));
+    }
+
+    @Test
+    public void testDirectByteBufferText() throws IOException
+    {
+        byte[] data = "a::{name:\"value\",blob:{{AQID}}} 42".getBytes("UTF-8");
+        ByteBuffer buffer = ByteBuffer.allocateDirect(data.length);
+        buffer.put(data);
+        buffer.flip();
+        checkStruct(IonReaderBuilder.standard().build(buffer));
+    }
+
+    @Test
+    public void testMappedByteBuffer() throws IOException
+    {
+        byte[] data = binaryStruct();
+        File file = File.createTempFile("ion", ".10n");
+        try
+        {
+            FileOutputStream out = new FileOutputStream(file);
+            out.write(data);
+            out.close();
+
+            RandomAccessFile raf = new RandomAccessFile(file, "r");
+            try
+            {
+                MappedByteBuffer buffer =
+                    raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, data.length);
+                checkStruct(IonReaderBuilder.standard().build(buffer));
+            }
+            finally
+            {
+                raf.close();
+            }
+        }
+        finally
+        {
+            file.delete();
+        }
+    }
+
 }
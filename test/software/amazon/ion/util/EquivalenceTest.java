@@ -14,7 +14,6 @@
 
 package software.amazon.ion.util;
 
-import org.junit.Ignore;
 import org.junit.Test;
 import software.amazon.ion.IonFloat;
 import software.amazon.ion.IonStruct;
@@ -358,66 +357,67 @@ public class EquivalenceTest
         assertNotIonEq(ion("\"hi\""), ion("'hi'"));
     }
 
-    // TODO amzn/ion-java#58 : Remove the ignore annotation from this test after
-    // making the required changes to Equivalence.Field.hashCode.
-    @Ignore
     @Test
-    public void testFieldEquals1() {
-        IonValue v1 = oneValue("1");
-        IonValue v2 = oneValue("2");
-        IonValue v3 = oneValue("3");
-
-        IonStruct struct = system().newEmptyStruct();
-        String fieldName = "a";
-        struct.add(fieldName, v1);
-        struct.add(fieldName, v2);
-        struct.add(fieldName, v3);
-
-        assertEquals(3, struct.size());
-
-        Equivalence.Field f1 = new Equivalence.Field(v1, true);
-        Equivalence.Field f2 = new Equivalence.Field(v2, true);
-        Equivalence.Field f3 = new Equivalence.Field(v3, true);
-
-        assertFalse(f1.equals(f2));
-        assertFalse(f1.equals(f3));
-        assertFalse(f2.equals(f3));
-
-        // Simple test that hashCode() is not badly implemented, so that fields with same
-        // field names but are not equals() do not result in same hash codes.
-        assertTrue(f1.hashCode() != f2.hashCode());
-        assertTrue(f1.hashCode() != f3.hashCode());
+    public void testSameFieldNameStructPermuted() {
+        assertIonEq(ion("{a : 1, a : 2, b : 3, a : 3, c : [a, {a : 1, a : 2}]}"),
+                    ion("{c : [a, {a : 2, a : 1}], a : 3, b : 3, a : 2, a : 1}"));
+        assertNotIonEq(ion("{a : 1, a : 2, a : 3}"),
+                       ion("{a : 3, a : 2, a : 2}"));
+        assertNotIonEq(ion("{a : 1, b : 2, c : 3}"),
+                       ion("{a : 1, c : 3, d : 2}"));
     }
 
-    // TODO amzn/ion-java#58 : Remove the ignore annotation from this test after
-    // making the required changes to Equivalence.Field.hashCode.
-    @Ignore
     @Test
-    public void testFieldEquals2() {
-        String intOne = "1";
-        IonValue v1 = oneValue(intOne);
-        IonValue v2 = oneValue(intOne);
-        IonValue v3 = oneValue(intOne);
-
-        IonStruct struct = system().newEmptyStruct();
-        String fieldName = "a";
-        struct.add(fieldName, v1);
-        struct.add(fieldName, v2);
-        struct.add(fieldName, v3);
-
-        assertEquals(3, struct.size());
-
-        Equivalence.Field f1 = new Equivalence.Field(v1, true);
-        Equivalence.Field f2 = new Equivalence.Field(v2, true);
-        Equivalence.Field f3 = new Equivalence.Field(v3, true);
+    public void testSameFieldNameStructNested() {
+        assertIonEq(ion("{a : {b : 1, b : 2}, a : {b : 2, b : 2}}"),
+                    ion("{a : {b : 2, b : 2}, a : {b : 2, b : 1}}"));
+        assertNotIonEq(ion("{a : {b : 1, b : 2}, a : {b : 2, b : 2}}"),
+                       ion("{a : {b : 1, b : 2}, a : {b : 1, b : 2}}"));
+    }
 
-        assertEquals(f1, f2);
-        assertEquals(f2, f1); // symmetric
+    @Test
+    public void testLargeStruct() {
+        StringBuilder forward = new StringBuilder("{");
+        StringBuilder backward = new StringBuilder("{");
+        for (int i = 0; i < 100; i++) {
+            forward.append("f").append(i % 7).append(':').append(i).append(',');
+            backward.append("f").append((99 - i) % 7).append(':').append(99 - i).append(',');
+        }
+        IonValue struct1 = ion(forward.append('}').toString());
+        IonValue struct2 = ion(backward.append('}').toString());
+        assertIonEq(struct1, struct2);
+
+        ((IonStruct) struct2).add("f0", system().newInt(0));
+        ((IonStruct) struct2).remove("f1");
+        assertNotIonEq(struct1, struct2);
+    }
+
+    @Test
+    public void testReadOnlyContainers() {
+        IonValue v1 = ion("{a : [1, {b : (c d)}], e : f::{}}");
+        IonValue v2 = ion("{e : f::{}, a : [1, {b : (c d)}]}");
+        IonValue v3 = ion("{e : {}, a : [1, {b : (c d)}]}");
+        v1.makeReadOnly();
+        v2.makeReadOnly();
+        v3.makeReadOnly();
+
+        // the second round compares cached hash codes
+        for (int i = 0; i < 2; i++) {
+            assertIonEq(v1, v2);
+            assertNotIonEq(v1, v3);
+            assertIonEqForm(v1, v3);
+            assertEquals(v1.hashCode(), v2.hashCode());
+        }
 
-        assertEquals(f1, f3);
-        assertEquals(f3, f1); // symmetric
+        IonValue copy = v1.clone();
+        ((IonStruct) copy).put("e", system().newEmptyStruct());
+        assertIonEq(copy, v3);
+        assertFalse(copy.hashCode() == v1.hashCode());
+    }
 
-        assertEquals(f2, f3); // transitive
-        assertEquals(f3, f2); // symmetric
+    @Test
+    public void testIdenticalValue() {
+        IonValue v = ion("{a : [1, 2.0, nan]}");
+        assertIonEq(v, v);
     }
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import org.junit.Test;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonTestCase;
+import software.amazon.ion.IonType;
+import software.amazon.ion.IonWriter;
+import software.amazon.ion.system.IonBinaryWriterBuilder;
+
+public class FieldSelectorTest
+    extends IonTestCase
+{
+    private static final String DATA =
+        "{id:1, name:\"x\", price:2.5, other:[id, price]}\n"
+        + "{price:3.5, skip:{id:99}}\n"
+        + "{}\n"
+        + "{name:\"y\", id:2}";
+
+    private static final String EXPECTED = "id=1 price=2.5 | price=3.5 | | id=2 | ";
+
+    /** Extracts the selected fields of each top-level struct. */
+    private static String select(FieldSelector selector, IonReader reader)
+    {
+        StringBuilder out = new StringBuilder();
+        while (reader.next() != null)
+        {
+            reader.stepIn();
+            int field;
+            while ((field = selector.next(reader)) != -1)
+            {
+                out.append(selector.getFieldName(field)).append('=');
+                out.append(reader.getType() == IonType.INT
+                               ? String.valueOf(reader.longValue())
+                               : reader.decimalValue().toString());
+                out.append(' ');
+            }
+            reader.stepOut();
+            out.append("| ");
+        }
+        return out.toString();
+    }
+
+    /**
+     * Encodes each value as its own stream, after a struct of padding fields
+     * that shifts the symbol IDs, so that every value is read under a
+     * different local symbol table.
+     */
+    private byte[] encodeStreams(String text)
+        throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = IonBinaryWriterBuilder.standard().build(out);
+        IonReader reader = system().newReader(text);
+        int count = 0;
+        while (reader.next() != null)
+        {
+            writer.stepIn(IonType.STRUCT);
+            for (int i = 0; i < count; i++)
+            {
+                writer.setFieldName("pad" + i);
+                writer.writeNull();
+            }
+            writer.stepOut();
+            writer.writeValue(reader);
+            writer.finish();
+            count++;
+        }
+        writer.close();
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testSelectFromText()
+    {
+        FieldSelector selector = FieldSelector.of("id", "price");
+        assertEquals(2, selector.size());
+        assertEquals(EXPECTED, select(selector, system().newReader(DATA)));
+    }
+
+    @Test
+    public void testSelectFromBinary()
+        throws IOException
+    {
+        FieldSelector selector = FieldSelector.of("id", "price");
+        assertEquals(EXPECTED, select(selector, system().newReader(encode(DATA))));
+
+        assertEquals("| id=1 price=2.5 | | price=3.5 | | | | id=2 | ",
+                     select(selector, system().newReader(encodeStreams(DATA))));
+    }
+
+    @Test
+    public void testSelectBySymbolId()
+    {
+        // $10 and $11 both have the text "id", and $4 is the system symbol "name"
+        FieldSelector selector = FieldSelector.of("name", "id");
+        IonReader reader = system().newReader(
+            "$ion_symbol_table::{symbols:[\"id\", \"id\"]} {$11:1, $4:2, $10:3, $12:4}");
+        reader.next();
+        reader.stepIn();
+        assertEquals(1, selector.next(reader));
+        assertEquals(1, reader.intValue());
+        assertEquals(0, selector.next(reader));
+        assertEquals(2, reader.intValue());
+        assertEquals(1, selector.next(reader));
+        assertEquals(3, reader.intValue());
+        assertEquals(-1, selector.next(reader));
+        reader.stepOut();
+        assertEquals(-1, selector.indexOf(reader));
+    }
+
+    @Test
+    public void testSelectBySymbolIdOfLaterImport()
+    {
+        // $10 and $11 both have the text "a", from different imports
+        registerSharedSymtab("$ion_shared_symbol_table::{name:\"s1\", version:1, symbols:[\"a\"]}");
+        registerSharedSymtab("$ion_shared_symbol_table::{name:\"s2\", version:1, symbols:[\"a\"]}");
+        FieldSelector selector = FieldSelector.of("a");
+        IonReader reader = system().newReader(
+            "$ion_symbol_table::{imports:[{name:\"s1\", version:1, max_id:1},"
+            + " {name:\"s2\", version:1, max_id:1}]} {$11:1, $10:2}");
+        reader.next();
+        reader.stepIn();
+        assertEquals(0, selector.next(reader));
+        assertEquals("a", reader.getFieldName());
+        assertEquals(1, reader.intValue());
+        assertEquals(0, selector.next(reader));
+        assertEquals(2, reader.intValue());
+        assertEquals(-1, selector.next(reader));
+        reader.stepOut();
+    }
+
+    @Test
+    public void testSelectFromInterleavedReaders()
+    {
+        FieldSelector selector = FieldSelector.of("a", "b");
+        IonReader first = system().newReader(
+            "$ion_symbol_table::{symbols:[\"a\", \"b\"]} {$10:1, $11:2}");
+        IonReader second = system().newReader(
+            "$ion_symbol_table::{symbols:[\"b\", \"a\"]} {$10:3, $11:4}");
+        first.next();
+        first.stepIn();
+        second.next();
+        second.stepIn();
+        assertEquals(0, selector.next(first));
+        assertEquals(1, selector.next(second));
+        assertEquals(3, second.intValue());
+        assertEquals(1, selector.next(first));
+        assertEquals(2, first.intValue());
+        assertEquals(0, selector.next(second));
+        assertEquals(4, second.intValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicateFieldName()
+    {
+        FieldSelector.of("a", "b", "a");
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullFieldName()
+    {
+        FieldSelector.of("a", null);
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.util;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.security.MessageDigest;
+import java.util.Arrays;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonTestCase;
+import software.amazon.ion.IonType;
+import software.amazon.ion.IonValue;
+import software.amazon.ion.IonWriter;
+
+public class IonHashingTest
+    extends IonTestCase
+{
+    private MessageDigest md;
+
+    @Before
+    public void createDigest()
+        throws Exception
+    {
+        md = MessageDigest.getInstance("SHA-256");
+    }
+
+    private byte[] digest(String ionText)
+    {
+        return IonHashing.digest(oneValue(ionText), md);
+    }
+
+    private void checkSame(String left, String right)
+    {
+        assertArrayEquals(left + " vs " + right, digest(left), digest(right));
+    }
+
+    private void checkDifferent(String left, String right)
+    {
+        assertFalse(left + " vs " + right,
+                    Arrays.equals(digest(left), digest(right)));
+    }
+
+    @Test
+    public void testEquivalentValues()
+    {
+        checkSame("{a:1,b:[x,\"y\"]}", "{b:[x,\"y\"],a:1}");
+        checkSame("{a:1,a:2}", "{a:2,a:1}");
+        checkSame("0x10", "16");
+        checkSame("1e0", "1.0e0");
+        checkSame("2000-01-01T00:00Z", "2000-01-01T00:00+00:00");
+        checkSame("'''ab''' '''c'''", "\"abc\"");
+    }
+
+    @Test
+    public void testDifferentValues()
+    {
+        checkDifferent("1", "-1");
+        checkDifferent("1", "1.");
+        checkDifferent("1.0", "1.00");
+        checkDifferent("0.", "-0.");
+        checkDifferent("a", "\"a\"");
+        checkDifferent("[1,2]", "(1 2)");
+        checkDifferent("[1,2]", "[2,1]");
+        checkDifferent("[[]]", "[[],[]]");
+        checkDifferent("a::1", "1");
+        checkDifferent("a::b::1", "b::a::1");
+        checkDifferent("{a:1}", "{a:1,a:1}");
+        checkDifferent("{a:1}", "{b:1}");
+        checkDifferent("null", "null.int");
+        checkDifferent("null.struct", "{}");
+        checkDifferent("2000-01-01T00:00Z", "2000-01-01T00:00:00Z");
+        checkDifferent("{{\"a\"}}", "{{YQ==}}");
+        checkDifferent("9223372036854775807", "9223372036854775808");
+        checkDifferent("-9223372036854775808", "-9223372036854775809");
+    }
+
+    /** Marker bytes in representations must not be confused with structure. */
+    @Test
+    public void testEscaping()
+    {
+        // 0x0B, 0x0E and 0x0C
+        checkDifferent("{{Cw==}}", "{{Dg==}}");
+        checkDifferent("{{Cw4=}}", "{{DA4=}}");
+        checkDifferent("[\"\\x0b\"]", "[\"\\x0e\"]");
+    }
+
+    @Test
+    public void testEncodingIndependence()
+    {
+        String text = "$ion_symbol_table::{symbols:[\"s1\",\"s2\"]} "
+            + "{s1:s2, f:[1.5, 2e0, 2019-01-01T, {{AAEC}}]}";
+        IonDatagram fromText = loader().load(text);
+        IonDatagram fromBinary = loader().load(fromText.getBytes());
+
+        assertArrayEquals(IonHashing.digest(fromText.get(0), md),
+                          IonHashing.digest(fromBinary.get(0), md));
+    }
+
+    @Test
+    public void testDigestPerTopLevelValue()
+        throws Exception
+    {
+        IonWriter writer = IonHashing.newHashWriter(md);
+        writer.stepIn(IonType.STRUCT);
+        writer.setFieldName("a");
+        writer.writeInt(1);
+        writer.stepOut();
+        byte[] first = md.digest();
+
+        writer.writeSymbol("b");
+        byte[] second = md.digest();
+        writer.close();
+
+        assertArrayEquals(digest("{a:1}"), first);
+        assertArrayEquals(digest("b"), second);
+    }
+
+    @Test
+    public void testReaderPassThrough()
+        throws Exception
+    {
+        String text = "1 {a:[1,2,{b:c}], d:e} f::(g h) \"i\"";
+        byte[] expected = writerDigest(text);
+
+        // Skipping everything.
+        IonReader reader = IonHashing.newHashReader(system().newReader(text), md);
+        while (reader.next() != null) {}
+        reader.close();
+        assertArrayEquals(expected, md.digest());
+
+        // Partially stepping into containers.
+        reader = IonHashing.newHashReader(system().newReader(encode(text)), md);
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(IonType.STRUCT, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.LIST, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(1, reader.intValue());
+        reader.stepOut();
+        reader.stepOut();
+        assertEquals(IonType.SEXP, reader.next());
+        reader.stepIn();
+        reader.stepOut();
+        assertEquals(IonType.STRING, reader.next());
+        assertNull(reader.next());
+        reader.close();
+        assertArrayEquals(expected, md.digest());
+    }
+
+    private byte[] writerDigest(String text)
+        throws Exception
+    {
+        IonWriter writer = IonHashing.newHashWriter(md);
+        for (IonValue value : loader().load(text))
+        {
+            value.writeTo(writer);
+        }
+        writer.close();
+        return md.digest();
+    }
+}
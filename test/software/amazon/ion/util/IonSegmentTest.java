@@ -0,0 +1,185 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.Test;
+import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonException;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonTestCase;
+import software.amazon.ion.IonType;
+import software.amazon.ion.IonValue;
+import software.amazon.ion.IonWriter;
+import software.amazon.ion.system.IonBinaryWriterBuilder;
+
+public class IonSegmentTest
+    extends IonTestCase
+{
+    /**
+     * Writes several streams back to back, each with its own local symbol
+     * table, so that segments begin under different symbol tables.
+     */
+    private byte[] multiStreamData()
+        throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = IonBinaryWriterBuilder.standard().build(out);
+        for (int stream = 0; stream < 4; stream++)
+        {
+            for (int i = 0; i < 50; i++)
+            {
+                writer.stepIn(IonType.STRUCT);
+                writer.setFieldName("field" + stream);
+                writer.writeSymbol("sym" + stream + "_" + (i % 7));
+                writer.setFieldName("n");
+                writer.writeInt(i);
+                writer.stepOut();
+            }
+            writer.finish();
+        }
+        writer.close();
+        return out.toByteArray();
+    }
+
+    private IonDatagram concatenate(List<IonDatagram> batches)
+    {
+        IonDatagram all = system().newDatagram();
+        for (IonDatagram batch : batches)
+        {
+            for (IonValue value : batch)
+            {
+                all.add(value.clone());
+            }
+        }
+        return all;
+    }
+
+    private void checkSegments(byte[] data, List<IonSegment> segments)
+    {
+        assertTrue("expected several segments", segments.size() > 1);
+
+        long previousFinish = segments.get(0).getStartOffset();
+        for (IonSegment segment : segments)
+        {
+            assertEquals(previousFinish, segment.getStartOffset());
+            assertNotNull(segment.getSymbolTable());
+            previousFinish = segment.getFinishOffset();
+        }
+        assertEquals(data.length, previousFinish);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try
+        {
+            List<IonDatagram> batches =
+                IonSegment.decodeAll(segments, pool,
+                                     IonSegment.loader(system()));
+            assertEquals(segments.size(), batches.size());
+            assertEquals(loader().load(data), concatenate(batches));
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testSplitBytes()
+        throws Exception
+    {
+        byte[] data = multiStreamData();
+        checkSegments(data, IonSegment.split(catalog(), data, 100));
+    }
+
+    @Test
+    public void testSplitDirectBuffer()
+        throws Exception
+    {
+        byte[] data = multiStreamData();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(data.length);
+        buffer.put(data);
+        buffer.flip();
+
+        checkSegments(data, IonSegment.split(catalog(), buffer, 100));
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    public void testSplitFile()
+        throws Exception
+    {
+        byte[] data = multiStreamData();
+        File file = File.createTempFile("IonSegmentTest", ".10n");
+        try
+        {
+            FileOutputStream out = new FileOutputStream(file);
+            out.write(data);
+            out.close();
+
+            checkSegments(data, IonSegment.split(catalog(), file, 100));
+        }
+        finally
+        {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testSegmentCarriesSymbolTable()
+        throws Exception
+    {
+        byte[] data = multiStreamData();
+        List<IonSegment> segments = IonSegment.split(catalog(), data, 1);
+
+        // One segment per value.
+        assertEquals(200, segments.size());
+
+        IonSegment last = segments.get(segments.size() - 1);
+        IonReader reader = last.newReader();
+        assertEquals(IonType.STRUCT, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals("field3", reader.getFieldName());
+        assertEquals("sym3_" + (49 % 7), reader.stringValue());
+        reader.stepOut();
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @Test
+    public void testSplitEmpty()
+    {
+        byte[] data = encode("");
+        assertTrue(IonSegment.split(catalog(), data, 100).isEmpty());
+    }
+
+    @Test(expected = IonException.class)
+    public void testSplitText()
+    {
+        IonSegment.split(catalog(), "{a:1}".getBytes(), 100);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonPositiveSegmentSize()
+    {
+        IonSegment.split(catalog(), encode("1"), 0);
+    }
+}